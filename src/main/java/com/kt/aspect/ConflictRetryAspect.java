@@ -0,0 +1,100 @@
+package com.kt.aspect;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kt.common.support.RetryOnConflict;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 낙관적 락 충돌 재시도 처리
+ * - 트랜잭션 어드바이스보다 바깥에서 실행되어 커밋 시점의 버전 충돌까지 잡고, 재시도마다 새 트랜잭션에서 다시 읽음
+ * - 작업(operation)별 메트릭
+ *   optimistic_lock.conflict (Counter): 충돌 횟수
+ *   optimistic_lock.retry (Counter): 재시도 횟수
+ *   optimistic_lock.exhausted (Counter): 재시도를 모두 쓰고 실패한 횟수
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class ConflictRetryAspect {
+	private final MeterRegistry meterRegistry;
+
+	@Around("@annotation(retryOnConflict)")
+	public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+		// 호출 측 트랜잭션 안에서는 다시 실행해도 같은 트랜잭션이므로 재시도하지 않음
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return joinPoint.proceed();
+		}
+
+		var operation = operation(joinPoint, retryOnConflict);
+
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return joinPoint.proceed();
+			} catch (OptimisticLockingFailureException | OptimisticLockException e) {
+				meterRegistry.counter("optimistic_lock.conflict", "operation", operation).increment();
+
+				if (attempt >= retryOnConflict.maxAttempts()) {
+					meterRegistry.counter("optimistic_lock.exhausted", "operation", operation).increment();
+					log.warn("낙관적 락 충돌 재시도 초과 - operation: {}, attempts: {}", operation, attempt);
+					throw e;
+				}
+
+				// 인터럽트되면 (종료 중 등) 기다리지 않고 충돌을 그대로 전달, 인터럽트 상태는 호출 측에 남김
+				if (Thread.currentThread().isInterrupted() || !sleep(backoff(retryOnConflict, attempt))) {
+					log.warn("낙관적 락 충돌 재시도 중단 (인터럽트) - operation: {}, attempts: {}", operation, attempt);
+					throw e;
+				}
+
+				meterRegistry.counter("optimistic_lock.retry", "operation", operation).increment();
+			}
+		}
+	}
+
+	/**
+	 * @return 인터럽트 없이 기다렸으면 true (인터럽트되면 상태를 복구하고 false)
+	 */
+	private boolean sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private long backoff(RetryOnConflict retryOnConflict, int attempt) {
+		var delay = Math.min(
+				retryOnConflict.maxBackoffMillis(),
+				retryOnConflict.backoffMillis() << Math.min(attempt - 1, 20)
+		);
+		var half = delay / 2;
+
+		return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+	}
+
+	private String operation(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) {
+		if (!retryOnConflict.operation().isBlank()) {
+			return retryOnConflict.operation();
+		}
+
+		var signature = joinPoint.getSignature();
+		return signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+	}
+}
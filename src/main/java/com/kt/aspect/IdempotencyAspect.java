@@ -0,0 +1,223 @@
+package com.kt.aspect;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.response.ApiResult;
+import com.kt.common.support.Idempotent;
+import com.kt.common.support.Preconditions;
+import com.kt.security.CurrentUser;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 멱등 요청 처리
+ * - Redis에 키별로 실행 중 표시(IN_PROGRESS)를 SETNX로 선점한 요청만 실제로 실행
+ * - 실행이 끝나면 응답(JSON)으로 덮어쓰고 ttl 동안 보관, 실패하면 키를 지워 같은 키로 재시도 가능
+ * - 같은 노드의 동시 중복 요청은 진행 중인 실행의 결과를 그대로 공유하고 Redis도 조회하지 않음
+ * - 다른 노드에서 실행 중이면 waitTimeout 안에서 완료될 때까지 폴링
+ * - 요청 본문(@RequestBody)과 쿼리 문자열의 해시를 키와 함께 저장해, 같은 키로 다른 요청이 오면 IDEMPOTENCY_KEY_REUSED(422)
+ * - 메트릭 idempotency.request (Counter), outcome(executed/replayed/coalesced) 태그
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class IdempotencyAspect {
+	private static final String KEY_PREFIX = "idempotency:";
+	private static final String IN_PROGRESS = "IN_PROGRESS";
+	private static final int MAX_KEY_LENGTH = 100;
+	private static final long POLL_INTERVAL_MILLIS = 50L;
+	private static final char SEPARATOR = '|';
+
+	private final RedissonClient redissonClient;
+	private final ObjectMapper objectMapper;
+	private final IdempotencyProperties idempotencyProperties;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+	@Around("@annotation(com.kt.common.support.Idempotent)")
+	public Object idempotent(ProceedingJoinPoint joinPoint) throws Throwable {
+		var request = currentRequest();
+		var idempotencyKey = request != null ? request.getHeader(Idempotent.HEADER) : null;
+
+		// 헤더가 없으면 기존처럼 매번 실행
+		if (idempotencyKey == null || idempotencyKey.isBlank()) {
+			return joinPoint.proceed();
+		}
+
+		Preconditions.validate(idempotencyKey.length() <= MAX_KEY_LENGTH, ErrorCode.INVALID_IDEMPOTENCY_KEY);
+
+		var key = createKey(request, idempotencyKey);
+		var fingerprint = fingerprint(joinPoint, request);
+		var current = new InFlight(fingerprint, new CompletableFuture<>());
+		var running = inFlight.putIfAbsent(key, current);
+
+		if (running != null) {
+			Preconditions.validate(running.fingerprint().equals(fingerprint), ErrorCode.IDEMPOTENCY_KEY_REUSED);
+			count("coalesced");
+			return await(running.future());
+		}
+
+		try {
+			var result = execute(joinPoint, key, fingerprint);
+			current.future().complete(result);
+			return result;
+		} catch (Throwable e) {
+			current.future().completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, current);
+		}
+	}
+
+	private Object execute(ProceedingJoinPoint joinPoint, String key, String fingerprint) throws Throwable {
+		RBucket<String> bucket = redissonClient.getBucket(key, StringCodec.INSTANCE);
+		var deadline = System.nanoTime() + idempotencyProperties.waitTimeout().toNanos();
+
+		while (true) {
+			if (bucket.setIfAbsent(fingerprint + SEPARATOR + IN_PROGRESS, idempotencyProperties.inFlightTtl())) {
+				count("executed");
+				return proceed(joinPoint, bucket, fingerprint);
+			}
+
+			var stored = bucket.get();
+
+			if (stored == null) {
+				// 선행 요청이 실패해 키가 비워졌으면 다시 선점 시도
+				continue;
+			}
+
+			// 저장 값: 요청 해시 | (IN_PROGRESS 또는 응답 JSON)
+			var separatorIndex = stored.indexOf(SEPARATOR);
+			Preconditions.validate(
+					stored.substring(0, Math.max(separatorIndex, 0)).equals(fingerprint),
+					ErrorCode.IDEMPOTENCY_KEY_REUSED
+			);
+
+			var state = stored.substring(separatorIndex + 1);
+
+			if (!IN_PROGRESS.equals(state)) {
+				count("replayed");
+				return restore(state);
+			}
+
+			if (System.nanoTime() > deadline) {
+				throw new CustomException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+			}
+			TimeUnit.MILLISECONDS.sleep(POLL_INTERVAL_MILLIS);
+		}
+	}
+
+	private Object proceed(ProceedingJoinPoint joinPoint, RBucket<String> bucket, String fingerprint) throws Throwable {
+		Object result;
+		try {
+			result = joinPoint.proceed();
+		} catch (Throwable e) {
+			bucket.delete();
+			throw e;
+		}
+
+		bucket.set(fingerprint + SEPARATOR + objectMapper.writeValueAsString(result), idempotencyProperties.ttl());
+		return result;
+	}
+
+	private Object await(CompletableFuture<Object> running) throws Throwable {
+		try {
+			return running.get(idempotencyProperties.waitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			throw e.getCause();
+		} catch (TimeoutException e) {
+			throw new CustomException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+		}
+	}
+
+	// data는 JsonNode 그대로 두어도 같은 JSON으로 직렬화됨
+	private ApiResult<Object> restore(String stored) throws JsonProcessingException {
+		var node = objectMapper.readTree(stored);
+
+		return new ApiResult<>(node.path("code").asText(), node.path("message").asText(), node.get("data"));
+	}
+
+	/**
+	 * 요청 내용 해시 (SHA-256) - @RequestBody 인자를 JSON으로 직렬화한 값 + 쿼리 문자열
+	 * - 원본 본문은 이미 읽혀 있으므로 바인딩된 인자를 사용 (공백/필드 순서 차이는 같은 요청으로 봄)
+	 * - 경로 변수는 키(URI)에 이미 포함됨
+	 */
+	private String fingerprint(ProceedingJoinPoint joinPoint, HttpServletRequest request)
+			throws JsonProcessingException, NoSuchAlgorithmException {
+		var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+		var parameterAnnotations = method.getParameterAnnotations();
+		var args = joinPoint.getArgs();
+		var bodies = new ArrayList<Object>();
+
+		for (int i = 0; i < args.length; i++) {
+			for (var annotation : parameterAnnotations[i]) {
+				if (annotation instanceof RequestBody) {
+					bodies.add(args[i]);
+				}
+			}
+		}
+
+		var digest = MessageDigest.getInstance("SHA-256");
+		digest.update(objectMapper.writeValueAsBytes(bodies));
+		if (request.getQueryString() != null) {
+			digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+		}
+
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private String createKey(HttpServletRequest request, String idempotencyKey) {
+		var authentication = SecurityContextHolder.getContext().getAuthentication();
+		var userId = authentication != null && authentication.getPrincipal() instanceof CurrentUser currentUser
+				? String.valueOf(currentUser.getId())
+				: "anonymous";
+
+		return String.format("%s%s:%s:%s:%s",
+				KEY_PREFIX, userId, request.getMethod(), request.getRequestURI(), idempotencyKey);
+	}
+
+	private HttpServletRequest currentRequest() {
+		return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+				? attributes.getRequest()
+				: null;
+	}
+
+	private void count(String outcome) {
+		meterRegistry.counter("idempotency.request", "outcome", outcome).increment();
+	}
+
+	private record InFlight(
+			String fingerprint,
+			CompletableFuture<Object> future
+	) {
+	}
+}
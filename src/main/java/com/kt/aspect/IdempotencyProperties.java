@@ -0,0 +1,20 @@
+package com.kt.aspect;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 멱등 요청 설정
+ * @param ttl 완료된 응답 보관 시간
+ * @param inFlightTtl 실행 중 표시 유지 시간 (노드가 죽어도 이 시간이 지나면 같은 키로 재실행 가능)
+ * @param waitTimeout 같은 키의 선행 요청 완료를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "idempotency")
+public record IdempotencyProperties(
+		@DefaultValue("24h") Duration ttl,
+		@DefaultValue("30s") Duration inFlightTtl,
+		@DefaultValue("10s") Duration waitTimeout
+) {
+}
@@ -0,0 +1,33 @@
+package com.kt.aspect;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+/**
+ * 락 키별 JVM 로컬 락 (고정 개수 스트라이프)
+ * - 키 수만큼 락을 만들지 않고 해시로 스트라이프를 나눠 메모리를 고정
+ * - 공정 락이라 같은 키를 기다리는 스레드가 도착 순서대로 분산락 경쟁에 들어감
+ */
+final class LocalLockStripes {
+	private final ReentrantLock[] stripes;
+
+	LocalLockStripes(int size) {
+		this.stripes = IntStream.range(0, size)
+				.mapToObj(i -> new ReentrantLock(true))
+				.toArray(ReentrantLock[]::new);
+	}
+
+	/**
+	 * 키들이 속한 스트라이프를 인덱스 순으로 반환 (모든 스레드가 같은 순서로 잠가 교착 방지)
+	 */
+	List<ReentrantLock> get(Collection<String> keys) {
+		return keys.stream()
+				.mapToInt(key -> Math.floorMod(key.hashCode(), stripes.length))
+				.distinct()
+				.sorted()
+				.mapToObj(index -> stripes[index])
+				.toList();
+	}
+}
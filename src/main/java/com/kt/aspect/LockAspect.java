@@ -1,8 +1,16 @@
 package com.kt.aspect;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 
@@ -10,35 +18,117 @@ import com.kt.common.exception.CustomException;
 import com.kt.common.exception.ErrorCode;
 import com.kt.common.support.Lock;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 분산락 처리
+ * - 먼저 JVM 로컬 락으로 같은 키를 원하는 스레드를 줄 세워, 노드당 한 스레드만 Redis 락을 경쟁
+ *   (스레드마다 Redis를 두드리는 tryLock 재시도와 pub/sub 깨우기를 줄임)
+ * - 로컬 대기 + 분산락 대기를 합쳐 Lock.waitTime 안에서 처리
+ * - Lock.Key별 메트릭
+ *   lock.wait (Timer): 락 획득까지 대기 시간, outcome(acquired/timeout) 태그
+ *   lock.hold (Timer): 락 보유(비즈니스 로직 실행) 시간
+ *   lock.timeout (Counter): 대기 시간 초과 횟수, stage(local/distributed) 태그
+ */
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class LockAspect {
+	private static final int LOCAL_LOCK_STRIPES = 1024;
+
 	private final AopTransactionManager aopTransactionManager;
 	private final RedissonClient redissonClient;
+	private final MeterRegistry meterRegistry;
+	private final LocalLockStripes localLockStripes = new LocalLockStripes(LOCAL_LOCK_STRIPES);
 
 	@Around("@annotation(com.kt.common.support.Lock) && @annotation(lock)")
 	public Object lock(ProceedingJoinPoint joinPoint, Lock lock) throws Throwable {
 		var arguments = joinPoint.getArgs();
-		var identity = (Long)arguments[lock.index()];
-		var key = String.format("%s:%d", lock.key().name().toLowerCase(), identity);
-
-		var rLock = redissonClient.getLock(key);
+		var keys = createKeys(lock, arguments[lock.index()]);
+		var metricKey = lock.key().name().toLowerCase();
+		var deadline = System.nanoTime() + lock.timeUnit().toNanos(lock.waitTime());
+		var startedAt = System.nanoTime();
 
+		List<ReentrantLock> localLocks = new ArrayList<>();
 		try {
-			var available = rLock.tryLock(lock.waitTime(), lock.leaseTime(), lock.timeUnit());
-
-			if (!available) {
-				throw new CustomException(ErrorCode.FAIL_ACQUIRED_LOCK);
+			for (var localLock : localLockStripes.get(keys)) {
+				if (!localLock.tryLock(remainingNanos(deadline), TimeUnit.NANOSECONDS)) {
+					throw timeout(metricKey, "local", startedAt);
+				}
+				localLocks.add(localLock);
 			}
 
-			return aopTransactionManager.proceed(joinPoint);
-		} finally {
-			if (rLock.isHeldByCurrentThread()) {
-				rLock.unlock();
+			var locks = keys.stream()
+					.map(redissonClient::getLock)
+					.toList();
+			var rLock = locks.size() == 1
+					? locks.getFirst()
+					: redissonClient.getMultiLock(locks.toArray(RLock[]::new));
+
+			try {
+				var available = rLock.tryLock(
+						TimeUnit.NANOSECONDS.toMillis(remainingNanos(deadline)),
+						lock.timeUnit().toMillis(lock.leaseTime()),
+						TimeUnit.MILLISECONDS
+				);
+
+				if (!available) {
+					throw timeout(metricKey, "distributed", startedAt);
+				}
+
+				record("lock.wait", metricKey, "acquired", startedAt);
+				var heldAt = System.nanoTime();
+				try {
+					return aopTransactionManager.proceed(joinPoint);
+				} finally {
+					meterRegistry.timer("lock.hold", "key", metricKey)
+							.record(System.nanoTime() - heldAt, TimeUnit.NANOSECONDS);
+				}
+			} finally {
+				// 멀티락은 보유 여부 확인을 지원하지 않으므로 개별 락 단위로 해제
+				locks.stream()
+						.filter(RLock::isHeldByCurrentThread)
+						.forEach(RLock::unlock);
 			}
+		} finally {
+			localLocks.reversed().forEach(ReentrantLock::unlock);
 		}
 	}
+
+	private CustomException timeout(String metricKey, String stage, long startedAt) {
+		record("lock.wait", metricKey, "timeout", startedAt);
+		meterRegistry.counter("lock.timeout", "key", metricKey, "stage", stage).increment();
+
+		return new CustomException(ErrorCode.FAIL_ACQUIRED_LOCK);
+	}
+
+	private void record(String name, String metricKey, String outcome, long startedAt) {
+		meterRegistry.timer(name, "key", metricKey, "outcome", outcome)
+				.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+	}
+
+	private long remainingNanos(long deadline) {
+		return Math.max(0L, deadline - System.nanoTime());
+	}
+
+	private List<String> createKeys(Lock lock, Object argument) {
+		return resolveIdentities(argument).stream()
+				.distinct()
+				.sorted() // 여러 요청이 같은 순서로 획득해야 교착을 피할 수 있음
+				.map(identity -> String.format("%s:%d", lock.key().name().toLowerCase(), identity))
+				.toList();
+	}
+
+	private List<Long> resolveIdentities(Object argument) {
+		Collection<?> identities = switch (argument) {
+			case Collection<?> collection -> collection;
+			case Map<?, ?> map -> map.keySet();
+			default -> List.of(argument);
+		};
+
+		return identities.stream()
+				.map(Long.class::cast)
+				.toList();
+	}
 }
@@ -3,6 +3,7 @@ package com.kt.common.exception;
 import java.util.Arrays;
 
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
@@ -14,6 +15,7 @@ import com.kt.common.response.ErrorResponse;
 import com.kt.common.support.Message;
 
 import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,6 +39,13 @@ public class ApiAdvice {
 		return ErrorResponse.error(e.getErrorCode().getStatus(), e.getErrorCode().getMessage());
 	}
 
+	// 재시도 후에도 남은 낙관적 락 충돌은 서버 오류가 아니므로 알림 없이 409
+	@ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+	public ResponseEntity<ErrorResponse.ErrorData> optimisticLockException(Exception e) {
+		log.warn("동시 수정 충돌 - {}", e.getMessage());
+		return ErrorResponse.error(ErrorCode.CONCURRENT_UPDATE.getStatus(), ErrorCode.CONCURRENT_UPDATE.getMessage());
+	}
+
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<ErrorResponse.ErrorData> methodArgumentNotValidException(MethodArgumentNotValidException e) {
 		e.printStackTrace();
@@ -16,6 +16,11 @@ public enum ErrorCode {
     INVALID_PARAMETER(HttpStatus.BAD_REQUEST, "필수값 누락입니다."),
     ERROR_SYSTEM(HttpStatus.INTERNAL_SERVER_ERROR, "시스템 오류가 발생했습니다."),
     FAIL_ACQUIRED_LOCK(HttpStatus.BAD_REQUEST, "락 획득에 실패했습니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "유효하지 않은 Idempotency-Key입니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key의 요청이 처리 중입니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 내용의 요청을 보낼 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+    CONCURRENT_UPDATE(HttpStatus.CONFLICT, "다른 요청과 동시에 변경되었습니다. 잠시 후 다시 시도해주세요."),
 
     // User
     NOT_FOUND_USER(HttpStatus.NOT_FOUND, "존재하지 않는 회원입니다."),
@@ -36,6 +41,11 @@ public enum ErrorCode {
 	NOT_FOUND_PRODUCT(HttpStatus.NOT_FOUND, "상품을 찾을 수 없습니다."),
     NOT_ENOUGH_STOCK(HttpStatus.BAD_REQUEST, "재고가 부족합니다."),
     NOT_ON_SALE_PRODUCT(HttpStatus.BAD_REQUEST, "판매중인 상품이 아닙니다."),
+    INVALID_STOCK_SHARD(HttpStatus.BAD_REQUEST, "유효하지 않은 재고 분할 설정입니다."),
+    ALREADY_SHARDED_STOCK(HttpStatus.BAD_REQUEST, "이미 분할 재고로 관리 중인 상품입니다."),
+    NOT_SHARDED_STOCK(HttpStatus.BAD_REQUEST, "분할 재고로 관리 중인 상품이 아닙니다."),
+    EXPIRED_STOCK_HOLD(HttpStatus.BAD_REQUEST, "재고 확보 시간이 만료된 주문입니다."),
+    INVALID_STOCK_HOLD_STATUS(HttpStatus.BAD_REQUEST, "재고 홀드 상태가 올바르지 않습니다."),
 
     // Cart
     NOT_FOUND_CART_ITEM(HttpStatus.NOT_FOUND, "장바구니 항목을 찾을 수 없습니다."),
@@ -53,6 +63,9 @@ public enum ErrorCode {
 	NO_AUTHORITY_TO_CANCEL_ORDER(HttpStatus.FORBIDDEN, "주문을 취소할 권한이 없습니다."),
 	REASON_CANNOT_BE_EMPTY(HttpStatus.BAD_REQUEST, "사유는 비워둘 수 없습니다."),
 	ALREADY_PAID_ORDER(HttpStatus.BAD_REQUEST, "이미 결제된 주문입니다."),
+	NOT_ADMITTED_WAITING_ROOM(HttpStatus.TOO_MANY_REQUESTS, "대기열 입장 후 주문할 수 있습니다."),
+	NOT_FOUND_ORDER_TICKET(HttpStatus.NOT_FOUND, "주문 접수 내역을 찾을 수 없습니다."),
+	INVALID_ORDER_TICKET_STATUS(HttpStatus.BAD_REQUEST, "이미 처리된 주문 접수입니다."),
 
     // Address
     NOT_FOUND_ADDRESS(HttpStatus.NOT_FOUND, "배송지를 찾을 수 없습니다."),
@@ -104,6 +117,9 @@ public enum ErrorCode {
 	MINIMUM_POINT_NOT_MET(HttpStatus.BAD_REQUEST, "최소 사용 포인트는 1,000P입니다."),
 	ALREADY_REWARDED_REVIEW(HttpStatus.BAD_REQUEST, "이미 포인트가 지급된 리뷰입니다."),
 	CANNOT_DELETE_REWARDED_REVIEW(HttpStatus.BAD_REQUEST, "포인트가 지급된 리뷰는 삭제할 수 없습니다."),
+	NOT_FOUND_POINT_CAMPAIGN(HttpStatus.NOT_FOUND, "포인트 캠페인을 찾을 수 없습니다."),
+	INVALID_POINT_CAMPAIGN_TARGETS(HttpStatus.BAD_REQUEST, "지급 대상 사용자 ID 목록이 올바르지 않습니다."),
+	INVALID_POINT_CAMPAIGN_STATUS(HttpStatus.BAD_REQUEST, "재지급할 실패 대상이 없거나 진행 중인 포인트 캠페인입니다."),
 
 	// File
 	INVALID_FILE_ERROR(HttpStatus.BAD_REQUEST, "유효하지 않은 파일입니다."),
@@ -0,0 +1,49 @@
+package com.kt.common.request;
+
+import org.springframework.data.domain.Limit;
+
+import com.kt.common.support.Cursor;
+
+/**
+ * 커서 페이징 요청
+ * - cursor가 없으면 첫 페이지, 있으면 직전 응답의 nextCursor 이후부터 조회
+ * - 다음 페이지 존재 여부는 size + 1건을 조회해 판단하므로 COUNT 쿼리가 없음
+ */
+public record CursorPaging(
+	String cursor,
+	Integer size
+) {
+	private static final int DEFAULT_SIZE = 10;
+	private static final int MAX_SIZE = 100;
+
+	public CursorPaging {
+		if (size == null || size < 1) {
+			size = DEFAULT_SIZE;
+		}
+		if (size > MAX_SIZE) {
+			size = MAX_SIZE;
+		}
+	}
+
+	public boolean isFirst() {
+		return cursor == null || cursor.isBlank();
+	}
+
+	// 첫 페이지면 null
+	public Cursor toCursor() {
+		return isFirst() ? null : Cursor.decode(cursor);
+	}
+
+	// ID 내림차순 목록에서 첫 페이지는 모든 ID보다 큰 값부터 조회
+	public Long cursorIdOrMax() {
+		return isFirst() ? Long.MAX_VALUE : toCursor().id();
+	}
+
+	public int fetchSize() {
+		return size + 1;
+	}
+
+	public Limit toLimit() {
+		return Limit.of(fetchSize());
+	}
+}
@@ -0,0 +1,35 @@
+package com.kt.common.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.kt.common.support.Cursor;
+
+/**
+ * 커서 페이징 응답
+ * - nextCursor를 다음 요청의 cursor로 그대로 넘기면 이어서 조회
+ * - 마지막 페이지면 hasNext=false, nextCursor=null
+ */
+public record CursorPage<T>(
+	List<T> content,
+	int size,
+	boolean hasNext,
+	String nextCursor
+) {
+	/**
+	 * size + 1건 조회 결과로 응답 생성
+	 * @param rows 정렬된 조회 결과 (최대 size + 1건)
+	 * @param cursorOf 행의 정렬 키/ID로 커서를 만드는 함수
+	 */
+	public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+		var hasNext = rows.size() > size;
+		var content = hasNext ? List.copyOf(rows.subList(0, size)) : List.copyOf(rows);
+		var nextCursor = hasNext ? cursorOf.apply(content.getLast()).encode() : null;
+
+		return new CursorPage<>(content, size, hasNext, nextCursor);
+	}
+
+	public <R> CursorPage<R> map(Function<T, R> mapper) {
+		return new CursorPage<>(content.stream().map(mapper).toList(), size, hasNext, nextCursor);
+	}
+}
@@ -0,0 +1,61 @@
+package com.kt.common.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+
+/**
+ * 커서(키셋) 페이징 위치
+ * - 마지막으로 내려준 행의 정렬 키와 ID를 담고, 클라이언트에는 Base64(URL-safe) 문자열로만 노출
+ * - 정렬 키가 ID 자체인 목록(Snowflake ID 등)은 key 없이 ID만 사용
+ */
+public record Cursor(
+	String key,
+	Long id
+) {
+	private static final String DELIMITER = "|";
+
+	public static Cursor of(Object key, Long id) {
+		return new Cursor(key != null ? key.toString() : null, id);
+	}
+
+	public static Cursor ofId(Long id) {
+		return new Cursor(null, id);
+	}
+
+	public String encode() {
+		var raw = (key != null ? key : "") + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static Cursor decode(String encoded) {
+		try {
+			var raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+			var index = raw.lastIndexOf(DELIMITER);
+			var key = raw.substring(0, index);
+
+			return new Cursor(key.isEmpty() ? null : key, Long.parseLong(raw.substring(index + 1)));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	public LocalDateTime keyAsDateTime() {
+		try {
+			return LocalDateTime.parse(key);
+		} catch (RuntimeException e) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	public Long keyAsLong() {
+		try {
+			return Long.parseLong(key);
+		} catch (NumberFormatException e) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+	}
+}
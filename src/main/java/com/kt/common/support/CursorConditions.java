@@ -0,0 +1,39 @@
+package com.kt.common.support;
+
+import java.util.function.Function;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+
+/**
+ * QueryDSL 커서 페이징 조건
+ * - (정렬 키 DESC, ID DESC) 정렬 기준으로 커서 다음 행만 남기는 조건을 생성
+ * - 커서가 null(첫 페이지)이면 null을 반환하므로 where 절에 그대로 넘길 수 있음
+ */
+public final class CursorConditions {
+
+	private CursorConditions() {
+	}
+
+	// key < :key OR (key = :key AND id < :id)
+	public static <K extends Comparable<?>> BooleanExpression afterDesc(
+		ComparableExpression<K> key,
+		NumberPath<Long> id,
+		Cursor cursor,
+		Function<Cursor, K> keyOf
+	) {
+		if (cursor == null) {
+			return null;
+		}
+
+		var cursorKey = keyOf.apply(cursor);
+
+		return key.lt(cursorKey).or(key.eq(cursorKey).and(id.lt(cursor.id())));
+	}
+
+	// 정렬 키가 ID인 목록
+	public static BooleanExpression afterDesc(NumberPath<Long> id, Cursor cursor) {
+		return cursor != null ? id.lt(cursor.id()) : null;
+	}
+}
@@ -0,0 +1,19 @@
+package com.kt.common.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 멱등 요청 처리
+ * - Idempotency-Key 헤더가 있으면 첫 응답을 Redis에 저장하고, 같은 키로 다시 오면 메서드를 실행하지 않고 저장된 응답을 반환
+ * - 같은 키의 동시 요청은 먼저 들어온 실행이 끝날 때까지 기다렸다가 그 결과를 받음
+ * - 키는 사용자 + HTTP 메서드 + URI 단위로 구분
+ * - ApiResult를 반환하는 컨트롤러 메서드에 사용
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+	String HEADER = "Idempotency-Key";
+}
@@ -6,6 +6,12 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 분산락
+ * - index 위치의 인자로 락 키를 만든다
+ *   Long: 단일 락
+ *   Collection&lt;Long&gt; 또는 Map&lt;Long, ?&gt;(키 사용): 정렬된 순서로 한 번에 획득하는 멀티락
+ */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Lock {
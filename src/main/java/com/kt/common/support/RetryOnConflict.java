@@ -0,0 +1,30 @@
+package com.kt.common.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락(@Version) 충돌 시 재시도
+ * - 메서드가 트랜잭션을 시작하는 경우에만 새 트랜잭션으로 다시 실행 (다시 읽고 다시 반영)
+ * - 호출 측 트랜잭션에 참여 중이면 그대로 예외를 전달해 바깥 재시도 지점(또는 ApiAdvice 409)에서 처리
+ * - 재시도 대기는 backoffMillis부터 2배씩 늘리되 maxBackoffMillis를 넘지 않고, 절반은 무작위(jitter)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+	/**
+	 * 메트릭 태그로 쓰는 작업 이름 (비우면 클래스명.메서드명)
+	 */
+	String operation() default "";
+
+	/**
+	 * 첫 실행을 포함한 최대 실행 횟수
+	 */
+	int maxAttempts() default 4;
+
+	long backoffMillis() default 20L;
+
+	long maxBackoffMillis() default 200L;
+}
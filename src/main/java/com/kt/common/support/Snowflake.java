@@ -0,0 +1,97 @@
+package com.kt.common.support;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+
+import com.kt.common.exception.ErrorCode;
+
+/**
+ * 시간순 64bit ID 생성기 (Snowflake 방식)
+ * - [41bit 기준 시각 이후 ms][10bit 워커ID][12bit ms 내 순번]
+ * - DB 왕복 없이 애플리케이션에서 ID를 만들기 때문에 Hibernate INSERT batch가 동작
+ * - 같은 노드에서는 단조 증가, 노드 간에는 생성 시각 기준으로 대략 정렬됨
+ * - 시계가 뒤로 가거나 ms 내 순번을 모두 쓰면 마지막 시각을 1ms씩 앞당겨 계속 발급
+ *
+ * 워커ID는 애플리케이션 시작 시 SnowflakeConfiguration이 initialize로 지정
+ * (초기화 전 또는 스프링 밖에서 쓰면 호스트명 해시 사용 - 노드 간 충돌 가능하므로 로컬/테스트 전용)
+ */
+public final class Snowflake {
+	private static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+	private static final int WORKER_ID_BITS = 10;
+	private static final int SEQUENCE_BITS = 12;
+	private static final long MAX_WORKER_ID = (1L << WORKER_ID_BITS) - 1;
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+	private static volatile Snowflake instance;
+
+	private final long workerId;
+	private long lastTimestamp = -1L;
+	private long sequence = 0L;
+
+	Snowflake(long workerId) {
+		Preconditions.validate(workerId >= 0 && workerId <= MAX_WORKER_ID, ErrorCode.ERROR_SYSTEM);
+		this.workerId = workerId;
+	}
+
+	/**
+	 * 애플리케이션 전역 생성기의 워커ID 지정
+	 */
+	public static void initialize(long workerId) {
+		instance = new Snowflake(workerId);
+	}
+
+	/**
+	 * 애플리케이션 전역 생성기로 ID 발급 (JPA 엔티티와 JDBC batch INSERT가 공유)
+	 */
+	public static long nextId() {
+		var current = instance;
+
+		if (current == null) {
+			synchronized (Snowflake.class) {
+				if (instance == null) {
+					instance = new Snowflake(localWorkerId());
+				}
+				current = instance;
+			}
+		}
+
+		return current.next();
+	}
+
+	/**
+	 * 해당 시각에 발급될 수 있는 가장 작은 ID (ID 범위를 시각 기준으로 자를 때 사용)
+	 */
+	public static long minIdAt(long epochMillis) {
+		return (epochMillis - EPOCH) << (WORKER_ID_BITS + SEQUENCE_BITS);
+	}
+
+	synchronized long next() {
+		var now = System.currentTimeMillis();
+
+		if (now > lastTimestamp) {
+			lastTimestamp = now;
+			sequence = 0L;
+		} else {
+			sequence = (sequence + 1) & SEQUENCE_MASK;
+			if (sequence == 0L) {
+				lastTimestamp++;
+			}
+		}
+
+		return ((lastTimestamp - EPOCH) << (WORKER_ID_BITS + SEQUENCE_BITS))
+				| (workerId << SEQUENCE_BITS)
+				| sequence;
+	}
+
+	/**
+	 * 로컬/테스트용 워커ID (호스트명 해시)
+	 */
+	public static long localWorkerId() {
+		try {
+			return Math.floorMod(InetAddress.getLocalHost().getHostName().hashCode(), MAX_WORKER_ID + 1);
+		} catch (UnknownHostException e) {
+			return Math.floorMod(ProcessHandle.current().pid(), MAX_WORKER_ID + 1);
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.kt.common.support;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+
+/**
+ * 쓰기가 많은 엔티티용 BaseEntity
+ * - IDENTITY 대신 Snowflake ID를 써서 hibernate.jdbc.batch_size로 INSERT가 묶이도록 함
+ * - 이력/통계처럼 한 트랜잭션에서 여러 행을 저장하는 엔티티에 사용
+ */
+@Getter
+@MappedSuperclass
+@EntityListeners(AuditingEntityListener.class)
+public abstract class SnowflakeBaseEntity {
+	@Id
+	@SnowflakeId
+	protected Long id;
+
+	@CreatedDate
+	protected LocalDateTime createdAt;
+	@LastModifiedDate
+	protected LocalDateTime updatedAt;
+}
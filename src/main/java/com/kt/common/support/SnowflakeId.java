@@ -0,0 +1,17 @@
+package com.kt.common.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Snowflake 방식으로 ID를 발급하는 식별자 필드에 사용
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SnowflakeId {
+}
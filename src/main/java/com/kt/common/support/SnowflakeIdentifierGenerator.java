@@ -0,0 +1,11 @@
+package com.kt.common.support;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object object) {
+		return Snowflake.nextId();
+	}
+}
@@ -1,11 +1,17 @@
 package com.kt.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import com.kt.service.autoconfirm.OrderAutoConfirmProperties;
+import com.kt.service.point.PointProperties;
+
 @Configuration
 @EnableAsync
 public class AsyncConfiguration {
@@ -20,4 +26,37 @@ public class AsyncConfiguration {
         executor.initialize();
         return executor;
     }
+
+    // 비동기 주문 접수 처리용 (락/DB 대기 중 블로킹이 많아 가상 스레드 사용)
+    @Bean(destroyMethod = "close")
+    public ExecutorService orderIntakeExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("order-intake-", 0).factory());
+    }
+
+    // 자동 구매 확정 청크 처리용 (청크마다 DB 커넥션을 하나씩 잡으므로 parallelism개로 제한)
+    @Bean(destroyMethod = "close")
+    public ExecutorService orderAutoConfirmExecutor(OrderAutoConfirmProperties orderAutoConfirmProperties) {
+        return Executors.newFixedThreadPool(
+            orderAutoConfirmProperties.parallelism(),
+            Thread.ofPlatform().name("order-auto-confirm-", 0).factory()
+        );
+    }
+
+    // 포인트 만료 청크 처리용 (청크마다 DB 커넥션을 하나씩 잡으므로 parallelism개로 제한)
+    @Bean(destroyMethod = "close")
+    public ExecutorService pointExpirationExecutor(PointProperties pointProperties) {
+        return Executors.newFixedThreadPool(
+            pointProperties.expiration().parallelism(),
+            Thread.ofPlatform().name("point-expiration-", 0).factory()
+        );
+    }
+
+    // 포인트 캠페인 지급 청크 처리용 (청크마다 DB 커넥션을 하나씩 잡으므로 parallelism개로 제한)
+    @Bean(destroyMethod = "close")
+    public ExecutorService pointCampaignExecutor(PointProperties pointProperties) {
+        return Executors.newFixedThreadPool(
+            pointProperties.campaign().parallelism(),
+            Thread.ofPlatform().name("point-campaign-", 0).factory()
+        );
+    }
 }
@@ -0,0 +1,41 @@
+package com.kt.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import com.kt.common.support.Snowflake;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Snowflake 워커ID 설정
+ * - snowflake.worker-id (SNOWFLAKE_WORKER_ID 환경변수) 값을 노드별로 지정 (0 ~ 1023, 노드끼리 겹치면 ID 중복)
+ * - dev/prod에서는 반드시 지정해야 하며 없으면 기동 실패
+ * - local/test에서는 지정하지 않으면 호스트명 해시 사용
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class SnowflakeConfiguration {
+	private static final String WORKER_ID_PROPERTY = "snowflake.worker-id";
+
+	private final Environment environment;
+
+	@PostConstruct
+	void initializeWorkerId() {
+		var workerId = environment.getProperty(WORKER_ID_PROPERTY, Long.class);
+
+		if (workerId == null) {
+			if (environment.acceptsProfiles(Profiles.of("dev", "prod"))) {
+				throw new IllegalStateException(WORKER_ID_PROPERTY + "(SNOWFLAKE_WORKER_ID)를 노드별로 지정해야 합니다.");
+			}
+			workerId = Snowflake.localWorkerId();
+		}
+
+		Snowflake.initialize(workerId);
+		log.info("Snowflake 워커ID - workerId: {}", workerId);
+	}
+}
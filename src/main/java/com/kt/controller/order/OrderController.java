@@ -4,10 +4,12 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -19,15 +21,21 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 import com.kt.common.response.ApiResult;
+import com.kt.common.request.CursorPaging;
 import com.kt.common.request.Paging;
+import com.kt.common.response.CursorPage;
+import com.kt.common.support.Idempotent;
 import com.kt.common.support.SwaggerAssistance;
 import com.kt.dto.order.OrderRequest;
 import com.kt.dto.order.OrderResponse;
 import com.kt.dto.order.OrderCancelRequest;
+import com.kt.dto.order.WaitingRoomResponse;
 import com.kt.dto.refund.RefundRequest;
 import com.kt.security.DefaultCurrentUser;
 import com.kt.service.OrderService;
 import com.kt.service.UserOrderService;
+import com.kt.service.intake.OrderIntakeService;
+import com.kt.service.waitingroom.WaitingRoomService;
 
 @Tag(name = "Orders", description = "주문 API")
 @RestController
@@ -37,6 +45,8 @@ import com.kt.service.UserOrderService;
 public class OrderController extends SwaggerAssistance {
 	private final OrderService orderService;
 	private final UserOrderService userOrderService;
+	private final WaitingRoomService waitingRoomService;
+	private final OrderIntakeService orderIntakeService;
 
 	@Operation(
 		summary = "주문 생성",
@@ -49,8 +59,12 @@ public class OrderController extends SwaggerAssistance {
 	@ApiResponses({
 		@ApiResponse(responseCode = "200", description = "주문 생성 성공"),
 		@ApiResponse(responseCode = "400", description = "잘못된 요청 데이터 (예: 재고 부족, 유효하지 않은 상품 ID 등)"),
-		@ApiResponse(responseCode = "401", description = "인증 실패")
+		@ApiResponse(responseCode = "401", description = "인증 실패"),
+		@ApiResponse(responseCode = "409", description = "같은 Idempotency-Key의 요청이 처리 중")
 	})
+	@Parameter(in = ParameterIn.HEADER, name = Idempotent.HEADER,
+		description = "재시도 시 같은 값을 보내면 주문을 다시 생성하지 않고 첫 응답을 반환")
+	@Idempotent
 	@PostMapping
 	public ApiResult<Void> create(
 		@AuthenticationPrincipal DefaultCurrentUser currentUser,
@@ -61,6 +75,64 @@ public class OrderController extends SwaggerAssistance {
 		return ApiResult.ok();
 	}
 
+	@Operation(
+		summary = "비동기 주문 접수",
+		description = "주문 요청을 검증 후 접수하고 티켓을 반환합니다. 주문은 순서대로 처리되며 티켓 조회로 결과를 확인합니다."
+	)
+	@ApiResponses({
+		@ApiResponse(responseCode = "202", description = "주문 접수 성공"),
+		@ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+		@ApiResponse(responseCode = "401", description = "인증 실패"),
+		@ApiResponse(responseCode = "404", description = "배송지를 찾을 수 없음")
+	})
+	@Parameter(in = ParameterIn.HEADER, name = Idempotent.HEADER,
+		description = "재시도 시 같은 값을 보내면 다시 접수하지 않고 첫 응답을 반환")
+	@Idempotent
+	@PostMapping("/tickets")
+	@ResponseStatus(HttpStatus.ACCEPTED)
+	public ApiResult<OrderResponse.Ticket> enqueue(
+		@AuthenticationPrincipal DefaultCurrentUser currentUser,
+		@RequestBody @Valid OrderRequest.Create request
+	) {
+		return ApiResult.ok(orderIntakeService.enqueue(currentUser.getId(), request));
+	}
+
+	@Operation(
+		summary = "비동기 주문 접수 상태 조회",
+		description = "PENDING이면 대기 순번, COMPLETED면 생성된 주문 ID, FAILED면 실패 사유를 반환합니다."
+	)
+	@GetMapping("/tickets/{ticketId}")
+	public ApiResult<OrderResponse.Ticket> getTicket(
+		@AuthenticationPrincipal DefaultCurrentUser currentUser,
+		@PathVariable Long ticketId
+	) {
+		return ApiResult.ok(orderIntakeService.getTicket(currentUser.getId(), ticketId));
+	}
+
+	@Operation(
+		summary = "주문 대기열 등록",
+		description = "한정 판매 상품의 주문 대기열에 등록하고 대기 순번을 반환합니다. 대기열이 없는 상품은 바로 ADMITTED를 반환합니다."
+	)
+	@PostMapping("/waiting-room/{productId}")
+	public ApiResult<WaitingRoomResponse.Status> enterWaitingRoom(
+		@AuthenticationPrincipal DefaultCurrentUser currentUser,
+		@PathVariable Long productId
+	) {
+		return ApiResult.ok(waitingRoomService.enter(productId, currentUser.getId()));
+	}
+
+	@Operation(
+		summary = "주문 대기열 순번 조회",
+		description = "대기 순번과 예상 대기 시간을 조회합니다. ADMITTED가 되면 입장 유효 시간 안에 주문을 생성해야 합니다."
+	)
+	@GetMapping("/waiting-room/{productId}")
+	public ApiResult<WaitingRoomResponse.Status> getWaitingRoomStatus(
+		@AuthenticationPrincipal DefaultCurrentUser currentUser,
+		@PathVariable Long productId
+	) {
+		return ApiResult.ok(waitingRoomService.status(productId, currentUser.getId()));
+	}
+
 	@Operation(
 		summary = "사용자 주문 상세 조회",
 		description = "로그인한 사용자가 자신의 주문 단건 상세를 조회합니다."
@@ -103,6 +175,28 @@ public class OrderController extends SwaggerAssistance {
 		return ApiResult.ok(page);
 	}
 
+	@Operation(
+		summary = "사용자 주문 목록 커서 조회",
+		description = """
+			로그인한 사용자의 주문 목록을 최신순으로 커서 기반 조회합니다.
+			- 첫 요청은 cursor 없이, 다음 요청부터는 응답의 nextCursor를 cursor로 전달
+			- 전체 건수를 세지 않으므로 깊은 페이지도 일정한 비용으로 조회
+			"""
+	)
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "조회 성공"),
+		@ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+		@ApiResponse(responseCode = "401", description = "인증 실패")
+	})
+	@GetMapping("/scroll")
+	public ApiResult<CursorPage<OrderResponse.Summary>> scroll(
+		@AuthenticationPrincipal DefaultCurrentUser currentUser,
+		@Parameter(description = "커서 페이징 정보(cursor는 직전 응답의 nextCursor, size는 페이지 크기)")
+		CursorPaging paging
+	) {
+		return ApiResult.ok(userOrderService.scrollMyOrders(currentUser.getId(), paging));
+	}
+
     @Operation(
             summary = "주문 수정",
             description = "수령인 정보를 수정합니다. 주문 상태가 수정 가능해야 합니다."
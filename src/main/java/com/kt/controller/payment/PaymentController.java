@@ -2,6 +2,7 @@ package com.kt.controller.payment;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 import java.util.List;
 
 import com.kt.common.response.ApiResult;
+import com.kt.common.support.Idempotent;
 import com.kt.domain.payment.PaymentType;
 import com.kt.dto.payment.PaymentRequest;
 import com.kt.repository.payment.PaymentTypeRepository;
@@ -42,8 +44,12 @@ public class PaymentController {
 		@ApiResponse(responseCode = "200", description = "결제 성공", content = @Content(schema = @Schema(implementation = ApiResult.class))),
 		@ApiResponse(responseCode = "400", description = "잘못된 결제 요청 / 이미 결제되었거나 처리 불가능한 주문"),
 		@ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음"),
+		@ApiResponse(responseCode = "409", description = "같은 Idempotency-Key의 요청이 처리 중"),
 		@ApiResponse(responseCode = "500", description = "서버 에러 - 백엔드에 바로 문의 바랍니다.")
 	})
+	@Parameter(in = ParameterIn.HEADER, name = Idempotent.HEADER,
+		description = "재시도 시 같은 값을 보내면 결제를 다시 처리하지 않고 첫 응답을 반환")
+	@Idempotent
 	@PostMapping("/{orderId}/pay")
 	public ApiResult<Void> pay(
 		@Parameter(description = "결제할 주문 ID", example = "1")
@@ -0,0 +1,133 @@
+package com.kt.controller.point;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.kt.common.request.CursorPaging;
+import com.kt.common.response.ApiResult;
+import com.kt.common.response.CursorPage;
+import com.kt.common.support.SwaggerAssistance;
+import com.kt.dto.point.PointRequest;
+import com.kt.dto.point.PointResponse;
+import com.kt.service.point.PointCampaignService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Admin Point Campaign", description = "관리자 포인트 캠페인 일괄 지급 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/points/campaigns")
+@PreAuthorize("hasRole('ADMIN')")
+@SecurityRequirement(name = "Bearer Authentication")
+public class AdminPointCampaignController extends SwaggerAssistance {
+	private final PointCampaignService pointCampaignService;
+
+	@Operation(
+			summary = "포인트 캠페인 생성 - 사용자 조건 (관리자)",
+			description = """
+					조건(성별, 가입일, 생년월일)을 만족하는 고객에게 같은 포인트를 일괄 지급합니다.
+					- 대상 적재와 지급은 비동기로 청크 단위 처리
+					- 캠페인 조회로 진행률/처리량/실패 수 확인
+					"""
+	)
+	@ApiResponses({
+			@ApiResponse(responseCode = "202", description = "캠페인 접수"),
+			@ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+			@ApiResponse(responseCode = "401", description = "인증 실패"),
+			@ApiResponse(responseCode = "403", description = "권한 없음 (관리자 전용)")
+	})
+	@PostMapping("/segment")
+	@ResponseStatus(HttpStatus.ACCEPTED)
+	public ApiResult<PointResponse.Campaign> createForSegment(
+			@RequestBody @Valid PointRequest.SegmentCampaign request
+	) {
+		return ApiResult.ok(pointCampaignService.createForSegment(request));
+	}
+
+	@Operation(
+			summary = "포인트 캠페인 생성 - 사용자 ID 목록 업로드 (관리자)",
+			description = """
+					업로드한 사용자 ID 목록에 같은 포인트를 일괄 지급합니다.
+					- 파일은 한 줄에 사용자 ID 하나 (CSV면 첫 번째 열, 첫 줄 헤더 허용, 중복 ID는 한 번만 지급)
+					- 지급은 비동기로 청크 단위 처리, 없는/탈퇴한 사용자는 제외 집계
+					"""
+	)
+	@ApiResponses({
+			@ApiResponse(responseCode = "202", description = "캠페인 접수"),
+			@ApiResponse(responseCode = "400", description = "잘못된 요청 데이터 또는 ID 목록"),
+			@ApiResponse(responseCode = "401", description = "인증 실패"),
+			@ApiResponse(responseCode = "403", description = "권한 없음 (관리자 전용)")
+	})
+	@PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	@ResponseStatus(HttpStatus.ACCEPTED)
+	public ApiResult<PointResponse.Campaign> createForTargets(
+			@Parameter(description = "캠페인 정보 (JSON)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
+			@RequestPart("data") @Valid PointRequest.Campaign request,
+			@RequestPart("file") MultipartFile file
+	) {
+		return ApiResult.ok(pointCampaignService.createForTargets(request, file));
+	}
+
+	@Operation(summary = "포인트 캠페인 진행 상황 조회 (관리자)")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "조회 성공"),
+			@ApiResponse(responseCode = "404", description = "캠페인을 찾을 수 없음")
+	})
+	@GetMapping("/{campaignId}")
+	@ResponseStatus(HttpStatus.OK)
+	public ApiResult<PointResponse.Campaign> getCampaign(
+			@Parameter(description = "캠페인 ID", required = true)
+			@PathVariable Long campaignId
+	) {
+		return ApiResult.ok(pointCampaignService.getCampaign(campaignId));
+	}
+
+	@Operation(summary = "포인트 캠페인 지급 실패 대상 조회 (관리자)", description = "사용자 ID 순 커서 페이징")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "조회 성공"),
+			@ApiResponse(responseCode = "404", description = "캠페인을 찾을 수 없음")
+	})
+	@GetMapping("/{campaignId}/failures")
+	@ResponseStatus(HttpStatus.OK)
+	public ApiResult<CursorPage<PointResponse.CampaignFailure>> getFailures(
+			@Parameter(description = "캠페인 ID", required = true)
+			@PathVariable Long campaignId,
+			@Parameter(hidden = true)
+			CursorPaging paging
+	) {
+		return ApiResult.ok(pointCampaignService.getFailures(campaignId, paging));
+	}
+
+	@Operation(summary = "포인트 캠페인 실패 대상 재지급 (관리자)", description = "완료된 캠페인의 실패 대상을 다시 지급 대기로 되돌립니다.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "202", description = "재지급 접수"),
+			@ApiResponse(responseCode = "400", description = "진행 중이거나 실패 대상이 없는 캠페인"),
+			@ApiResponse(responseCode = "404", description = "캠페인을 찾을 수 없음")
+	})
+	@PostMapping("/{campaignId}/retry")
+	@ResponseStatus(HttpStatus.ACCEPTED)
+	public ApiResult<PointResponse.Campaign> retry(
+			@Parameter(description = "캠페인 ID", required = true)
+			@PathVariable Long campaignId
+	) {
+		return ApiResult.ok(pointCampaignService.retry(campaignId));
+	}
+}
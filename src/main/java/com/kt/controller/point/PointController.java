@@ -11,8 +11,10 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.kt.common.request.CursorPaging;
 import com.kt.common.request.Paging;
 import com.kt.common.response.ApiResult;
+import com.kt.common.response.CursorPage;
 import com.kt.common.support.SwaggerAssistance;
 import com.kt.dto.point.PointResponse;
 import com.kt.security.CurrentUser;
@@ -97,4 +99,44 @@ public class PointController extends SwaggerAssistance {
 
 		return ApiResult.ok(historyPage);
 	}
+
+	@Operation(
+			summary = "포인트 이력 커서 조회",
+			description = """
+					현재 인증된 사용자의 포인트 이력을 최신순으로 커서 기반 조회합니다. (JWT 필요)
+					- 최대 6개월까지 조회 가능
+					- 첫 요청은 cursor 없이, 다음 요청부터는 응답의 nextCursor를 cursor로 전달
+					"""
+	)
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "조회 성공"),
+			@ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터 또는 유효하지 않은 커서"),
+			@ApiResponse(responseCode = "401", description = "인증 실패")
+	})
+	@GetMapping("/history/scroll")
+	@ResponseStatus(HttpStatus.OK)
+	public ApiResult<CursorPage<PointResponse.History>> scrollMyPointHistory(
+			@Parameter(hidden = true)
+			@AuthenticationPrincipal CurrentUser currentUser,
+			@Parameter(description = "조회 시작일 (yyyy-MM-dd'T'HH:mm:ss)")
+			@RequestParam(required = false) LocalDateTime startDate,
+			@Parameter(description = "조회 종료일 (yyyy-MM-dd'T'HH:mm:ss)")
+			@RequestParam(required = false) LocalDateTime endDate,
+			@Parameter(description = "커서 페이징 정보(cursor는 직전 응답의 nextCursor, size는 페이지 크기)")
+			CursorPaging paging
+	) {
+		LocalDateTime limit = LocalDateTime.now().minusMonths(6);
+		LocalDateTime start = startDate != null && startDate.isAfter(limit) ? startDate : limit;
+		LocalDateTime end = endDate != null ? endDate : LocalDateTime.now();
+
+		CursorPage<PointResponse.History> historyPage = pointService.scrollPointHistory(
+						currentUser.getId(),
+						start,
+						end,
+						paging
+				)
+				.map(PointResponse.History::of);
+
+		return ApiResult.ok(historyPage);
+	}
 }
@@ -27,6 +27,8 @@ import com.kt.dto.product.ProductResponse;
 import com.kt.security.CurrentUser;
 import com.kt.service.ProductService;
 import com.kt.service.RedisService;
+import com.kt.service.StockService;
+import com.kt.service.waitingroom.WaitingRoomService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -44,6 +46,8 @@ import lombok.RequiredArgsConstructor;
 public class AdminProductController extends SwaggerAssistance {
 	private final ProductService productService;
 	private final RedisService redisService;
+	private final StockService stockService;
+	private final WaitingRoomService waitingRoomService;
 
 	@Operation(summary = "상품 검색 및 조회", description = "전체 상품 목록을 검색 및 조회합니다. 키워드를 입력하지 않으면 전체 상품이 조회됩니다.",
 			parameters = {
@@ -161,4 +165,39 @@ public class AdminProductController extends SwaggerAssistance {
 
 		return ApiResult.ok(products);
 	}
+
+	@Operation(summary = "분할 재고 전환", description = "인기 상품의 재고를 여러 버킷으로 나눠 동시 주문 시 차감 경합을 분산합니다.")
+	@PostMapping("/{id}/stock-shards")
+	public ApiResult<Void> enableStockSharding(
+			@PathVariable Long id,
+			@RequestBody @Valid ProductRequest.StockShard request
+	) {
+		stockService.enableSharding(id, request.getShardCount());
+
+		return ApiResult.ok();
+	}
+
+	@Operation(summary = "분할 재고 해제", description = "버킷 재고를 합산해 일반 재고로 되돌립니다.")
+	@DeleteMapping("/{id}/stock-shards")
+	public ApiResult<Void> disableStockSharding(@PathVariable Long id) {
+		stockService.disableSharding(id);
+
+		return ApiResult.ok();
+	}
+
+	@Operation(summary = "주문 대기열 열기", description = "한정 판매 상품의 주문을 대기열 입장 순서대로 초당 일정 인원만 받습니다.")
+	@PostMapping("/{id}/waiting-room")
+	public ApiResult<Void> openWaitingRoom(@PathVariable Long id) {
+		waitingRoomService.open(id);
+
+		return ApiResult.ok();
+	}
+
+	@Operation(summary = "주문 대기열 닫기", description = "대기열을 닫고 대기/입장 정보를 모두 삭제합니다.")
+	@DeleteMapping("/{id}/waiting-room")
+	public ApiResult<Void> closeWaitingRoom(@PathVariable Long id) {
+		waitingRoomService.close(id);
+
+		return ApiResult.ok();
+	}
 }
@@ -3,6 +3,7 @@ package com.kt.controller.product;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -62,6 +63,25 @@ public class ProductController extends SwaggerAssistance {
 		return ApiResult.ok(search);
 	}
 
+	@Operation(summary = "상품 검색 및 조회 (무한 스크롤)", description = "상품 검색과 같은 조건으로 조회하되 전체 건수 없이 다음 페이지 존재 여부(last)만 반환합니다.",
+			parameters = {
+					@Parameter(name = "keyword", description = "검색 키워드"),
+					@Parameter(name = "sortType", description = "정렬 기준"),
+					@Parameter(name = "page", description = "페이지 번호", example = "1"),
+					@Parameter(name = "size", description = "페이지 크기", example = "10")
+			})
+	@GetMapping("/slice")
+	public ApiResult<Slice<ProductResponse.Summary>> slice(
+			@RequestParam(required = false) String keyword,
+			@RequestParam(required = false) ProductSortType sortType,
+			@Parameter(hidden = true) Paging paging
+	) {
+		var slice = productService.slicePublicStatus(keyword, sortType, paging.toPageable())
+				.map(ProductResponse.Summary::of);
+
+		return ApiResult.ok(slice);
+	}
+
 	@Operation(summary = "상품 상세 조회", description = "상품의 상세 정보를 조회합니다.")
 	@GetMapping("/{id}")
 	public ApiResult<ProductResponse.Detail> detail(@AuthenticationPrincipal CurrentUser currentUser,
@@ -87,6 +107,19 @@ public class ProductController extends SwaggerAssistance {
 		return ApiResult.ok(reviewService.getReviewsByProductId(productId, pageable));
 	}
 
+	@Operation(summary = "상품 리뷰 목록 조회 (무한 스크롤)", description = "특정 상품의 리뷰 목록을 전체 건수 없이 다음 페이지 존재 여부(last)와 함께 조회합니다.")
+	@Parameters({
+			@Parameter(name = "page", description = "페이지 번호 (0부터 시작)", example = "0"),
+			@Parameter(name = "size", description = "페이지 당 항목 수", example = "10"),
+			@Parameter(name = "sort", description = "정렬 기준 (예: 'createdAt,desc' (최신순))", example = "createdAt,desc")
+	})
+	@GetMapping("/{productId}/reviews/slice")
+	public ApiResult<Slice<ReviewResponse>> getReviewSliceByProductId(
+			@Parameter(description = "리뷰를 조회할 상품 ID", required = true) @PathVariable Long productId,
+			Pageable pageable) {
+		return ApiResult.ok(reviewService.getReviewSliceByProductId(productId, pageable));
+	}
+
 	@Operation(summary = "AI 상품 추천",
 			description = "자연어 질문을 분석하여 상품을 추천합니다. 나이, 성별, 가격대를 알려주세요.",
 			parameters = {
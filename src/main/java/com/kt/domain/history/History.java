@@ -1,6 +1,6 @@
 package com.kt.domain.history;
 
-import com.kt.common.support.BaseEntity;
+import com.kt.common.support.SnowflakeBaseEntity;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -9,7 +9,7 @@ import lombok.Getter;
 
 @Entity
 @Getter
-public class History extends BaseEntity {
+public class History extends SnowflakeBaseEntity {
 	@Enumerated(value = EnumType.STRING)
 	private HistoryType type;
 
@@ -0,0 +1,77 @@
+package com.kt.domain.order;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import com.kt.domain.user.User;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관(아카이브)된 주문
+ * - 구매 확정/취소 후 일정 기간이 지난 주문을 orders에서 옮겨 둔 테이블 (컬럼은 orders와 같고 archived_at만 추가)
+ * - 쓰기는 OrderArchiveJdbcRepository의 INSERT ... SELECT로만 하고 JPA로는 읽기만
+ * - 조회 시 Order로 복원해 기존 주문 조회 코드가 그대로 사용 (OrderRepository 참고)
+ */
+@Getter
+@Immutable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+		name = "orders_archive",
+		indexes = {
+				@Index(name = "idx_orders_archive_user_id", columnList = "user_id")
+		}
+)
+public class ArchivedOrder {
+	@Id
+	private Long id;
+
+	@Embedded
+	private Receiver receiver;
+
+	private String deliveryRequest;
+
+	@Enumerated(EnumType.STRING)
+	private OrderStatus status;
+
+	@Enumerated(EnumType.STRING)
+	private OrderStatus previousStatus;
+
+	private Long paymentId;
+
+	private Long usedPoints;
+
+	private Long totalPrice;
+	private String firstProductName;
+	private Integer productCount;
+
+	private String cancelDecisionReason;
+	private String userCancelReason;
+
+	private LocalDateTime deliveredAt;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id")
+	private User user;
+
+	private LocalDateTime createdAt;
+	private LocalDateTime updatedAt;
+
+	@Column(name = "archived_at", nullable = false)
+	private LocalDateTime archivedAt;
+}
@@ -3,6 +3,7 @@ package com.kt.domain.order;
 import com.kt.common.exception.ErrorCode;
 import com.kt.common.support.BaseEntity;
 import com.kt.common.support.Preconditions;
+import com.kt.domain.orderproduct.ArchivedOrderProduct;
 import com.kt.domain.orderproduct.OrderProduct;
 import com.kt.domain.user.User;
 import jakarta.persistence.*;
@@ -15,7 +16,14 @@ import java.util.List;
 
 @Getter
 @Entity
-@Table(name = "orders")
+@Table(
+	name = "orders",
+	indexes = {
+		@Index(name = "idx_orders_status_updated_at", columnList = "status, updated_at"),
+		@Index(name = "idx_orders_status_id", columnList = "status, id")
+	}
+)
+@EntityListeners(OrderSummaryProjector.class)
 @NoArgsConstructor
 public class Order extends BaseEntity {
 	@Embedded
@@ -33,6 +41,11 @@ public class Order extends BaseEntity {
 
 	private Long usedPoints = 0L;  // 주문 시 사용한 포인트
 
+	// 주문 생성 시 1회 계산해 저장하는 목록/결제용 요약 (상품 가격이 바뀌어도 유지)
+	private Long totalPrice;
+	private String firstProductName;
+	private Integer productCount;
+
 	private String cancelDecisionReason;
 	private String userCancelReason;
 
@@ -56,6 +69,42 @@ public class Order extends BaseEntity {
 		return new Order(receiver, user, deliveryRequest);
 	}
 
+	/**
+	 * 보관된 주문을 조회용 Order로 복원
+	 * - 영속 상태가 아니므로 변경해도 DB에 반영되지 않음 (보관 대상은 구매 확정/취소로 더 이상 바뀌지 않는 주문)
+	 */
+	public static Order restore(ArchivedOrder archived, List<ArchivedOrderProduct> items) {
+		var order = new Order();
+		order.id = archived.getId();
+		order.createdAt = archived.getCreatedAt();
+		order.updatedAt = archived.getUpdatedAt();
+		order.receiver = archived.getReceiver();
+		order.deliveryRequest = archived.getDeliveryRequest();
+		order.status = archived.getStatus();
+		order.previousStatus = archived.getPreviousStatus();
+		order.paymentId = archived.getPaymentId();
+		order.setUsedPoints(archived.getUsedPoints());
+		order.totalPrice = archived.getTotalPrice();
+		order.firstProductName = archived.getFirstProductName();
+		order.productCount = archived.getProductCount();
+		order.cancelDecisionReason = archived.getCancelDecisionReason();
+		order.userCancelReason = archived.getUserCancelReason();
+		order.deliveredAt = archived.getDeliveredAt();
+		order.user = archived.getUser();
+		items.forEach(item -> order.orderProducts.add(OrderProduct.restore(item, order)));
+		return order;
+	}
+
+	/**
+	 * 주문 상품 요약 스냅샷 저장
+	 * @param totalPrice 주문 시점 단가 기준 상품 총액
+	 */
+	public void snapshotItems(long totalPrice, String firstProductName, int productCount) {
+		this.totalPrice = totalPrice;
+		this.firstProductName = firstProductName;
+		this.productCount = productCount;
+	}
+
 	public void setUsedPoints(Long usedPoints) {
 		this.usedPoints = usedPoints != null ? usedPoints : 0L;
 	}
@@ -88,12 +137,35 @@ public class Order extends BaseEntity {
 		this.status = OrderStatus.ORDER_CANCELLED;
 	}
 
+	/**
+	 * 주문 상품 총액
+	 * 스냅샷 도입 이전 주문은 주문 상품으로 계산
+	 */
 	public long getTotalPrice() {
+		if (totalPrice != null) {
+			return totalPrice;
+		}
+
 		return orderProducts.stream()
-			.mapToLong(op -> op.getProduct().getPrice() * op.getQuantity())
+			.mapToLong(OrderProduct::getLineTotal)
 			.sum();
 	}
 
+	public String getFirstProductName() {
+		if (productCount != null) {
+			return firstProductName;
+		}
+
+		return orderProducts.stream()
+			.findFirst()
+			.map(op -> op.getProduct().getName())
+			.orElse(null);
+	}
+
+	public int getProductCount() {
+		return productCount != null ? productCount : orderProducts.size();
+	}
+
 	/**
 	 * 결제 성공 이벤트 수신 시 호출
 	 */
@@ -111,6 +183,14 @@ public class Order extends BaseEntity {
 		this.status = OrderStatus.ORDER_CANCELLED;
 	}
 
+	/**
+	 * 결제 대기 시간이 지나 재고 홀드가 만료된 경우 호출
+	 */
+	public void cancelByHoldExpiry() {
+		Preconditions.validate(this.status == OrderStatus.ORDER_CREATED, ErrorCode.INVALID_ORDER_STATUS);
+		this.status = OrderStatus.ORDER_CANCELLED;
+	}
+
 	/**
 	 * @deprecated 이벤트 기반 결제로 전환. acceptPayment() 사용 권장
 	 */
@@ -0,0 +1,60 @@
+package com.kt.domain.order;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 목록 조회용 읽기 모델
+ * - 사용자/관리자 주문 목록과 챗봇 주문 컨텍스트가 orders/users/order_product 조인 없이 이 테이블만 조회
+ * - 쓰기는 OrderSummaryProjector가 주문 INSERT/UPDATE/DELETE와 같은 트랜잭션에서 JDBC로 반영 (JPA로는 읽기만)
+ */
+@Getter
+@Immutable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+		name = "order_summary",
+		indexes = {
+				@Index(name = "idx_order_summary_user_id_created_at", columnList = "user_id, created_at"),
+				@Index(name = "idx_order_summary_status_order_id", columnList = "status, order_id"),
+				@Index(name = "idx_order_summary_username", columnList = "username"),
+				@Index(name = "idx_order_summary_receiver_name", columnList = "receiver_name")
+		}
+)
+public class OrderSummary {
+	@Id
+	@Column(name = "order_id")
+	private Long orderId;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	private String username;
+
+	@Column(name = "receiver_name")
+	private String receiverName;
+
+	private String firstProductName;
+
+	private int productCount;
+
+	private long totalPrice;
+
+	@Enumerated(EnumType.STRING)
+	private OrderStatus status;
+
+	@Column(name = "created_at")
+	private LocalDateTime createdAt;
+}
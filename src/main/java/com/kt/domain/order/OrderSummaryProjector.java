@@ -0,0 +1,41 @@
+package com.kt.domain.order;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 변경을 주문 요약 읽기 모델에 반영하는 엔티티 리스너
+ * - 결제/취소/배송/구매 확정 등 상태를 바꾸는 경로가 많아, 호출 측마다 이벤트를 발행하는 대신
+ *   orders 행이 쓰인 직후 같은 트랜잭션(같은 커넥션)에서 요약을 갱신
+ * - 콜백 안에서는 지연 로딩을 일으키지 않도록 주문 자신의 컬럼만 사용
+ * - JPQL/JDBC 벌크 UPDATE로 주문을 바꾸는 경우에는 호출되지 않으므로 OrderSummaryJdbcRepository를 직접 호출해야 함
+ * - 저장소 접근은 OrderSummaryWriter 뒤에 두어 도메인이 리포지토리 계층에 의존하지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryProjector {
+	private final OrderSummaryWriter orderSummaryWriter;
+
+	@PostPersist
+	public void onPersist(Order order) {
+		orderSummaryWriter.insert(order.getId());
+	}
+
+	@PostUpdate
+	public void onUpdate(Order order) {
+		orderSummaryWriter.update(
+				order.getId(),
+				order.getStatus() != null ? order.getStatus().name() : null,
+				order.getReceiver() != null ? order.getReceiver().getName() : null
+		);
+	}
+
+	@PostRemove
+	public void onRemove(Order order) {
+		orderSummaryWriter.delete(order.getId());
+	}
+}
@@ -0,0 +1,12 @@
+package com.kt.domain.order;
+
+/**
+ * 주문 요약 읽기 모델 쓰기 (OrderSummaryProjector가 사용, 구현은 OrderSummaryJdbcRepository)
+ */
+public interface OrderSummaryWriter {
+	void insert(Long orderId);
+
+	void update(Long orderId, String status, String receiverName);
+
+	void delete(Long orderId);
+}
@@ -0,0 +1,85 @@
+package com.kt.domain.order;
+
+import java.time.LocalDateTime;
+
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.support.Preconditions;
+import com.kt.common.support.SnowflakeBaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 주문 접수 티켓
+ * - 접수 시 주문 요청(JSON)을 PENDING으로 저장하고, OrderIntakeScheduler가 순서대로 주문을 생성
+ * - 주문 생성과 같은 트랜잭션에서 COMPLETED로 바뀌므로, 처리 중 장애가 나면 PENDING으로 남아 다시 처리됨
+ * - 일시적 실패는 attempts를 올리고 nextAttemptAt을 뒤로 미뤄, 처리되지 않는 티켓이 대기열 앞을 막지 않게 함
+ * - Snowflake ID가 접수 순서를 따르므로 대기 순번 계산에 ID를 사용
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+		name = "order_ticket",
+		indexes = {
+				@Index(name = "idx_order_ticket_status_next_attempt_at", columnList = "status, next_attempt_at, id")
+		}
+)
+public class OrderTicket extends SnowflakeBaseEntity {
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(columnDefinition = "TEXT", nullable = false)
+	private String payload;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private OrderTicketStatus status;
+
+	@Column(name = "order_id")
+	private Long orderId;
+
+	private String failureReason;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	private OrderTicket(Long userId, String payload) {
+		this.userId = userId;
+		this.payload = payload;
+		this.status = OrderTicketStatus.PENDING;
+		this.nextAttemptAt = LocalDateTime.now();
+	}
+
+	public static OrderTicket create(Long userId, String payload) {
+		return new OrderTicket(userId, payload);
+	}
+
+	public void complete(Long orderId) {
+		Preconditions.validate(this.status == OrderTicketStatus.PENDING, ErrorCode.INVALID_ORDER_TICKET_STATUS);
+		this.status = OrderTicketStatus.COMPLETED;
+		this.orderId = orderId;
+	}
+
+	public void fail(String failureReason) {
+		Preconditions.validate(this.status == OrderTicketStatus.PENDING, ErrorCode.INVALID_ORDER_TICKET_STATUS);
+		this.status = OrderTicketStatus.FAILED;
+		this.failureReason = failureReason;
+	}
+
+	public void retryAt(LocalDateTime nextAttemptAt) {
+		Preconditions.validate(this.status == OrderTicketStatus.PENDING, ErrorCode.INVALID_ORDER_TICKET_STATUS);
+		this.attempts++;
+		this.nextAttemptAt = nextAttemptAt;
+	}
+}
@@ -0,0 +1,14 @@
+package com.kt.domain.order;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderTicketStatus {
+	PENDING("주문 처리 대기"),
+	COMPLETED("주문 생성 완료"),
+	FAILED("주문 생성 실패");
+
+	private final String description;
+}
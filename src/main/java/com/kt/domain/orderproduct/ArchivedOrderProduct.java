@@ -0,0 +1,52 @@
+package com.kt.domain.orderproduct;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import com.kt.domain.product.Product;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관(아카이브)된 주문 상품 (order_product와 같은 컬럼, 주문과 함께 이동)
+ */
+@Getter
+@Immutable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+		name = "order_product_archive",
+		indexes = {
+				@Index(name = "idx_order_product_archive_order_id", columnList = "order_id")
+		}
+)
+public class ArchivedOrderProduct {
+	@Id
+	private Long id;
+
+	private Long quantity;
+
+	private Long unitPrice;
+
+	private Long lineTotal;
+
+	@Column(name = "order_id", nullable = false)
+	private Long orderId;
+
+	@ManyToOne
+	@JoinColumn(name = "product_id")
+	private Product product;
+
+	private LocalDateTime createdAt;
+	private LocalDateTime updatedAt;
+}
@@ -1,6 +1,6 @@
 package com.kt.domain.orderproduct;
 
-import com.kt.common.support.BaseEntity;
+import com.kt.common.support.SnowflakeBaseEntity;
 import com.kt.domain.order.Order;
 import com.kt.domain.product.Product;
 
@@ -13,9 +13,13 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
-public class OrderProduct extends BaseEntity {
+public class OrderProduct extends SnowflakeBaseEntity {
 	private Long quantity;
 
+	private Long unitPrice; // 주문 시점 상품 단가 스냅샷
+
+	private Long lineTotal; // unitPrice * quantity
+
 	@ManyToOne
 	// @JoinColumn(name = "order_id", foreignKey = @ForeignKey(value = ConstraintMode.NO_CONSTRAINT))
 	@JoinColumn(name = "order_id")
@@ -29,8 +33,37 @@ public class OrderProduct extends BaseEntity {
 		this.order = order;
 		this.product = product;
 		this.quantity = quantity;
+		this.unitPrice = product.getPrice();
+		this.lineTotal = this.unitPrice * quantity;
 	}
 
 	// 주문생성되면 오더프로덕트도 같이 생성
 
+	/**
+	 * 보관된 주문 상품을 조회용 OrderProduct로 복원 (Order.restore에서 사용)
+	 */
+	public static OrderProduct restore(ArchivedOrderProduct archived, Order order) {
+		var orderProduct = new OrderProduct();
+		orderProduct.id = archived.getId();
+		orderProduct.createdAt = archived.getCreatedAt();
+		orderProduct.updatedAt = archived.getUpdatedAt();
+		orderProduct.order = order;
+		orderProduct.product = archived.getProduct();
+		orderProduct.quantity = archived.getQuantity();
+		orderProduct.unitPrice = archived.getUnitPrice();
+		orderProduct.lineTotal = archived.getLineTotal();
+		return orderProduct;
+	}
+
+	/**
+	 * 주문 시점 단가 (스냅샷 도입 이전 주문은 현재 상품 가격)
+	 */
+	public Long getUnitPrice() {
+		return unitPrice != null ? unitPrice : product.getPrice();
+	}
+
+	public Long getLineTotal() {
+		return lineTotal != null ? lineTotal : getUnitPrice() * quantity;
+	}
+
 }
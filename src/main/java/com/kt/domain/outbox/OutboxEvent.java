@@ -0,0 +1,90 @@
+package com.kt.domain.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import com.kt.common.support.SnowflakeBaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 트랜잭셔널 아웃박스
+ * - 도메인 이벤트를 발행 트랜잭션 안에서 INSERT 한 번으로 기록
+ * - OutboxRelayScheduler가 배치로 꺼내 이벤트 리스너에 전달하고, 실패하면 지수 백오프로 재시도
+ * - Snowflake ID 순서가 발행 순서이므로 ID 순으로 전달
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+		name = "outbox_event",
+		indexes = {
+				@Index(name = "idx_outbox_event_status_next_attempt_at", columnList = "status, next_attempt_at")
+		}
+)
+public class OutboxEvent extends SnowflakeBaseEntity {
+	private static final int MAX_ERROR_LENGTH = 255;
+
+	@Column(name = "event_type", nullable = false)
+	private String eventType;
+
+	@Column(columnDefinition = "TEXT", nullable = false)
+	private String payload;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private OutboxEventStatus status;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	private String lastError;
+
+	private OutboxEvent(String eventType, String payload) {
+		this.eventType = eventType;
+		this.payload = payload;
+		this.status = OutboxEventStatus.PENDING;
+		this.attempts = 0;
+		this.nextAttemptAt = LocalDateTime.now();
+	}
+
+	public static OutboxEvent create(String eventType, String payload) {
+		return new OutboxEvent(eventType, payload);
+	}
+
+	public void markPublished() {
+		this.status = OutboxEventStatus.PUBLISHED;
+		this.attempts++;
+	}
+
+	/**
+	 * 전달 실패 기록
+	 * - maxAttempts에 도달하면 DEAD, 아니면 backoff * 2^(시도 횟수 - 1) 뒤 재시도
+	 */
+	public void recordFailure(String error, int maxAttempts, Duration backoff) {
+		this.attempts++;
+		this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+
+		if (this.attempts >= maxAttempts) {
+			this.status = OutboxEventStatus.DEAD;
+			return;
+		}
+
+		this.nextAttemptAt = LocalDateTime.now().plus(backoff.multipliedBy(1L << (this.attempts - 1)));
+	}
+
+	public boolean isDead() {
+		return this.status == OutboxEventStatus.DEAD;
+	}
+}
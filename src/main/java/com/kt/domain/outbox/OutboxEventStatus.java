@@ -0,0 +1,14 @@
+package com.kt.domain.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventStatus {
+	PENDING("전달 대기 (재시도 포함)"),
+	PUBLISHED("핸들러 처리 완료"),
+	DEAD("재시도 한도 초과");
+
+	private final String description;
+}
@@ -0,0 +1,55 @@
+package com.kt.domain.payment;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관(아카이브)된 결제 (payment와 같은 컬럼, 주문과 함께 이동)
+ */
+@Getter
+@Immutable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+		name = "payment_archive",
+		indexes = {
+				@Index(name = "idx_payment_archive_order_id", columnList = "order_id")
+		}
+)
+public class ArchivedPayment {
+	@Id
+	private Long id;
+
+	private Long deliveryFee;
+
+	@ManyToOne
+	@JoinColumn(name = "payment_type_id")
+	private PaymentType paymentType;
+
+	private Long originalPrice;
+	private Long discountPrice;
+	private Long finalPrice;
+
+	@Enumerated(EnumType.STRING)
+	private PaymentStatus status;
+
+	@Column(name = "order_id")
+	private Long orderId;
+
+	private LocalDateTime createdAt;
+	private LocalDateTime updatedAt;
+}
@@ -36,9 +36,17 @@ public class Point extends BaseEntity {
 	@Version
 	private Long version;
 
+	/**
+	 * availablePoints에 반영된 마지막 포인트 이력 ID
+	 * 원장 모드(point.strategy=ledger)에서는 availablePoints를 이 ID까지의 스냅샷으로 보고,
+	 * 이후 이력을 더해 잔액을 계산
+	 */
+	private Long lastHistoryId;
+
 	public Point(User user) {
 		this.user = user;
 		this.availablePoints = 0L;
+		this.lastHistoryId = 0L;
 	}
 
 	/**
@@ -76,6 +84,13 @@ public class Point extends BaseEntity {
 		this.availablePoints += amount;
 	}
 
+	/**
+	 * 잔액 변경 이력이 저장된 뒤 호출 (원장 모드로 전환해도 같은 이력을 다시 더하지 않도록)
+	 */
+	public void recorded(Long historyId) {
+		this.lastHistoryId = historyId;
+	}
+
 	/**
 	 * 포인트 사용 가능 여부 확인
 	 */
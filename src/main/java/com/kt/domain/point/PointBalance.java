@@ -0,0 +1,14 @@
+package com.kt.domain.point;
+
+/**
+ * 포인트 잔액 스냅샷
+ * @param version 조회 시점의 Point @Version (포인트 정보가 없으면 -1)
+ */
+public record PointBalance(
+	Long version,
+	Long availablePoints
+) {
+	public static PointBalance empty() {
+		return new PointBalance(-1L, 0L);
+	}
+}
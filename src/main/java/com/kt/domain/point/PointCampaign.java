@@ -0,0 +1,113 @@
+package com.kt.domain.point;
+
+import java.time.LocalDateTime;
+
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.support.Preconditions;
+import com.kt.common.support.SnowflakeBaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 프로모션 캠페인 (여러 사용자에게 같은 포인트를 일괄 지급)
+ * - 대상은 사용자 조건(segment) 또는 업로드한 사용자 ID 목록으로 정하고 point_campaign_targets에 펼쳐 둠
+ * - PREPARING(조건으로 대상 적재) → RUNNING(청크 단위 지급) → COMPLETED 순으로 PointCampaignScheduler가 진행
+ * - 생성 후 상태/집계 변경은 병렬 청크가 동시에 하므로 PointCampaignJdbcRepository의 상대값 UPDATE로만 함
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+	name = "point_campaigns",
+	indexes = {
+		@Index(name = "idx_point_campaigns_status_id", columnList = "status, id")
+	}
+)
+public class PointCampaign extends SnowflakeBaseEntity {
+	@Column(nullable = false)
+	private String name;
+
+	/**
+	 * 사용자 1인당 지급 포인트
+	 */
+	@Column(nullable = false)
+	private Long amount;
+
+	/**
+	 * 포인트 이력에 남길 설명
+	 */
+	@Column(nullable = false, length = 500)
+	private String description;
+
+	/**
+	 * 대상 조건 (PointCampaignSegment JSON, ID 목록 업로드면 null)
+	 */
+	@Column(columnDefinition = "TEXT")
+	private String segment;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private PointCampaignStatus status;
+
+	/**
+	 * 조건으로 적재한 마지막 사용자 ID (PREPARING 재개 지점)
+	 */
+	@Column(nullable = false)
+	private Long preparedUserId;
+
+	@Column(nullable = false)
+	private Long targetCount;
+
+	@Column(nullable = false)
+	private Long grantedCount;
+
+	@Column(nullable = false)
+	private Long skippedCount;
+
+	@Column(nullable = false)
+	private Long failedCount;
+
+	private LocalDateTime startedAt;
+
+	private LocalDateTime completedAt;
+
+	private PointCampaign(String name, Long amount, String description, String segment, PointCampaignStatus status,
+			Long targetCount, LocalDateTime startedAt) {
+		Preconditions.validate(amount != null && amount > 0, ErrorCode.INVALID_POINT_AMOUNT);
+
+		this.name = name;
+		this.amount = amount;
+		this.description = description;
+		this.segment = segment;
+		this.status = status;
+		this.preparedUserId = 0L;
+		this.targetCount = targetCount;
+		this.grantedCount = 0L;
+		this.skippedCount = 0L;
+		this.failedCount = 0L;
+		this.startedAt = startedAt;
+	}
+
+	/**
+	 * 사용자 조건으로 대상을 정하는 캠페인 (대상 적재부터 비동기)
+	 */
+	public static PointCampaign forSegment(String name, Long amount, String description, String segment) {
+		return new PointCampaign(name, amount, description, segment, PointCampaignStatus.PREPARING, 0L, null);
+	}
+
+	/**
+	 * 업로드한 사용자 ID 목록으로 대상을 정하는 캠페인 (대상은 생성 요청에서 적재)
+	 */
+	public static PointCampaign forTargets(String name, Long amount, String description, long targetCount) {
+		return new PointCampaign(name, amount, description, null, PointCampaignStatus.RUNNING, targetCount,
+				LocalDateTime.now());
+	}
+}
@@ -0,0 +1,21 @@
+package com.kt.domain.point;
+
+import java.time.LocalDate;
+
+import com.kt.domain.user.Gender;
+
+/**
+ * 포인트 캠페인 지급 대상 조건 (고객 회원 중 모든 조건을 만족하는 사용자, null인 조건은 무시)
+ * @param joinedFrom 가입일 시작 (포함)
+ * @param joinedTo 가입일 끝 (포함)
+ * @param bornFrom 생년월일 시작 (포함)
+ * @param bornTo 생년월일 끝 (포함)
+ */
+public record PointCampaignSegment(
+	Gender gender,
+	LocalDate joinedFrom,
+	LocalDate joinedTo,
+	LocalDate bornFrom,
+	LocalDate bornTo
+) {
+}
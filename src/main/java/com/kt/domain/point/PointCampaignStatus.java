@@ -0,0 +1,14 @@
+package com.kt.domain.point;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PointCampaignStatus {
+	PREPARING("지급 대상 준비 중"),
+	RUNNING("지급 중"),
+	COMPLETED("지급 완료");
+
+	private final String description;
+}
@@ -0,0 +1,46 @@
+package com.kt.domain.point;
+
+import com.kt.common.support.SnowflakeBaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 캠페인 지급 대상 (캠페인당 사용자 한 명에 한 행)
+ * - 지급과 같은 트랜잭션에서 GRANTED/SKIPPED로 바뀌므로 청크 처리 중 장애가 나면 PENDING으로 남아 다시 처리됨
+ * - 쓰기는 PointCampaignJdbcRepository로만 함
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+	name = "point_campaign_targets",
+	indexes = {
+		// 지급 대기/실패 대상을 사용자 ID 순으로 조회
+		@Index(name = "idx_point_campaign_targets_campaign_id_status_user_id", columnList = "campaign_id, status, user_id")
+	},
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_point_campaign_targets_campaign_id_user_id", columnNames = {"campaign_id", "user_id"})
+	}
+)
+public class PointCampaignTarget extends SnowflakeBaseEntity {
+	@Column(name = "campaign_id", nullable = false)
+	private Long campaignId;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private PointCampaignTargetStatus status;
+
+	private String failureReason;
+}
@@ -0,0 +1,15 @@
+package com.kt.domain.point;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PointCampaignTargetStatus {
+	PENDING("지급 대기"),
+	GRANTED("지급 완료"),
+	SKIPPED("지급 제외 (없는 사용자/이미 지급)"),
+	FAILED("지급 실패");
+
+	private final String description;
+}
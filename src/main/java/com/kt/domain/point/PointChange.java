@@ -0,0 +1,16 @@
+package com.kt.domain.point;
+
+/**
+ * 일괄 반영할 잔액 변경 한 건 (PointBalanceStrategy.recordAll)
+ * @param changeAmount 변동 금액 (양수: 증가, 음수: 감소)
+ * @param relatedId 연관 엔티티 ID (예: lotId)
+ * @param relatedType 연관 엔티티 타입 (예: "POINT_LOT")
+ */
+public record PointChange(
+	Long userId,
+	long changeAmount,
+	String description,
+	Long relatedId,
+	String relatedType
+) {
+}
@@ -1,23 +1,39 @@
 package com.kt.domain.point;
 
-import com.kt.common.support.BaseEntity;
+import com.kt.common.support.SnowflakeBaseEntity;
 import com.kt.domain.user.User;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "point_histories")
+@Table(
+	name = "point_histories",
+	indexes = {
+		// 원장 모드 잔액 계산 (스냅샷 이후 이력 합계)
+		@Index(name = "idx_point_histories_user_id_id", columnList = "user_id, id")
+	},
+	uniqueConstraints = {
+		// 같은 연관 엔티티에 대한 같은 타입의 적립/회수/사용은 사용자당 한 번 (relatedId가 없는 수동 조정은 제외)
+		// 앞 세 컬럼은 existsByRelatedIdAndRelatedTypeAndType 조회에도 사용
+		@UniqueConstraint(
+			name = "uk_point_histories_related",
+			columnNames = {"related_id", "related_type", "type", "user_id"}
+		)
+	}
+)
 @NoArgsConstructor
-public class PointHistory extends BaseEntity {
+public class PointHistory extends SnowflakeBaseEntity {
 	/**
 	 * 포인트 거래가 발생한 사용자
 	 */
@@ -55,7 +71,7 @@ public class PointHistory extends BaseEntity {
 
 	/**
 	 * 연관된 엔티티의 ID (주문 ID, 리뷰 ID 등)
-	 * 중복 지급 방지 및 추적용
+	 * 중복 지급 방지(uk_point_histories_related) 및 추적용
 	 */
 	private Long relatedId;
 
@@ -10,10 +10,12 @@ public enum PointHistoryType {
 	CREDITED_REVIEW("리뷰 작성 포인트 적립"),
 	CREDITED_PAYMENT_FAILURE("결제 실패 포인트 복구"),
 	CREDITED_ADMIN("관리자 수동 적립"),
+	CREDITED_CAMPAIGN("프로모션 캠페인 적립"),
 	USED("포인트 사용"),
 	RETRIEVED_REFUND("환불로 인한 회수"),
 	RETRIEVED_REVIEW_BLIND("리뷰 블라인드로 인한 회수"),
-	RETRIEVED_ADMIN("관리자 수동 차감");
+	RETRIEVED_ADMIN("관리자 수동 차감"),
+	EXPIRED("유효기간 만료로 인한 소멸");
 
 	private final String description;
 
@@ -22,13 +24,14 @@ public enum PointHistoryType {
 	 */
 	public boolean isIncrease() {
 		return this == CREDITED_ORDER || this == CREDITED_REVIEW
-				|| this == CREDITED_PAYMENT_FAILURE || this == CREDITED_ADMIN;
+				|| this == CREDITED_PAYMENT_FAILURE || this == CREDITED_ADMIN || this == CREDITED_CAMPAIGN;
 	}
 
 	/**
 	 * 포인트가 감소하는 타입인지 확인
 	 */
 	public boolean isDecrease() {
-		return this == USED || this == RETRIEVED_REFUND || this == RETRIEVED_REVIEW_BLIND || this == RETRIEVED_ADMIN;
+		return this == USED || this == RETRIEVED_REFUND || this == RETRIEVED_REVIEW_BLIND || this == RETRIEVED_ADMIN
+				|| this == EXPIRED;
 	}
 }
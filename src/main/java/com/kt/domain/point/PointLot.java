@@ -0,0 +1,76 @@
+package com.kt.domain.point;
+
+import java.time.LocalDateTime;
+
+import com.kt.common.support.SnowflakeBaseEntity;
+import com.kt.domain.user.User;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 적립 단위(lot)
+ * - 적립 한 건마다 유효기간과 함께 생성되고, 사용/회수는 만료가 가까운 lot부터 remaining을 차감 (FIFO)
+ * - 활성 lot의 remaining 합계는 항상 max(잔액, 0)과 같음 (PointLotTracker 참고)
+ * - 쓰기는 PointLotJdbcRepository로만 함
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+	name = "point_lots",
+	indexes = {
+		// 사용/회수 시 사용자의 활성 lot을 만료 순으로 조회
+		@Index(name = "idx_point_lots_user_id_status_expires_at", columnList = "user_id, status, expires_at, id"),
+		// 만료 배치의 대상 조회 (상태 + 만료 시각 순 키셋)
+		@Index(name = "idx_point_lots_status_expires_at", columnList = "status, expires_at, id")
+	},
+	uniqueConstraints = {
+		// 같은 적립 이력으로 lot을 두 번 만들지 않음 (source_history_id=0은 lot 도입 전 잔액)
+		@UniqueConstraint(name = "uk_point_lots_source", columnNames = {"user_id", "source_history_id"})
+	}
+)
+public class PointLot extends SnowflakeBaseEntity {
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	/**
+	 * 적립된 포인트
+	 */
+	@Column(nullable = false)
+	private Long amount;
+
+	/**
+	 * 아직 사용/회수되지 않은 포인트
+	 */
+	@Column(nullable = false)
+	private Long remaining;
+
+	/**
+	 * 이 시각이 지나면 남은 포인트가 소멸
+	 */
+	@Column(nullable = false)
+	private LocalDateTime expiresAt;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private PointLotStatus status;
+
+	/**
+	 * lot을 만든 적립 이력 ID (lot 도입 전 잔액을 옮긴 lot은 0)
+	 */
+	@Column(nullable = false)
+	private Long sourceHistoryId;
+}
@@ -0,0 +1,14 @@
+package com.kt.domain.point;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PointLotStatus {
+	ACTIVE("사용 가능"),
+	EXHAUSTED("모두 사용/회수"),
+	EXPIRED("유효기간 만료로 소멸");
+
+	private final String description;
+}
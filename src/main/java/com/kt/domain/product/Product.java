@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.logging.log4j.util.Strings;
+import org.hibernate.annotations.DynamicUpdate;
 
 import com.kt.common.exception.ErrorCode;
 import com.kt.common.support.BaseEntity;
@@ -24,6 +25,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @Builder
+@DynamicUpdate
 @NoArgsConstructor
 @AllArgsConstructor
 public class Product extends BaseEntity {
@@ -39,6 +41,9 @@ public class Product extends BaseEntity {
 	@OneToMany(mappedBy = "product")
 	@Builder.Default
 	private List<OrderProduct> orderProducts = new ArrayList<>();
+	@OneToMany(mappedBy = "product")
+	@Builder.Default
+	private List<ProductStockShard> stockShards = new ArrayList<>();
 	private String thumbnailImgUrl;
 	private String detailImgUrl;
 	@Embedded
@@ -61,6 +66,7 @@ public class Product extends BaseEntity {
 		this.thumbnailImgUrl = thumbnailImgUrl;
 		this.detailImgUrl = detailImgUrl;
 		this.productAnalysis = productAnalysis;
+		this.stockShards = new ArrayList<>();
 	}
 
 	public void update(String name, Long price, Long stock, String description, String thumbnailImgUrl,
@@ -99,7 +105,34 @@ public class Product extends BaseEntity {
 	}
 
 	public boolean canProvide(Long quantity) {
-		return this.stock >= quantity;
+		return getAvailableStock() >= quantity;
+	}
+
+	/**
+	 * 분할 재고 모드 여부
+	 */
+	public boolean isStockSharded() {
+		return !this.stockShards.isEmpty();
+	}
+
+	/**
+	 * 현재 판매 가능 수량
+	 * 분할 재고 모드면 버킷 합계, 아니면 stock
+	 */
+	public Long getAvailableStock() {
+		if (!isStockSharded()) {
+			return this.stock;
+		}
+		return this.stockShards.stream()
+				.mapToLong(ProductStockShard::getStock)
+				.sum();
+	}
+
+	/**
+	 * 분할 재고 버킷 합계를 stock에 반영 (목록/관리자 화면 표시용)
+	 */
+	public void syncStock(Long stock) {
+		this.stock = stock;
 	}
 
 	public void mapToOrderProduct(OrderProduct orderProduct) {
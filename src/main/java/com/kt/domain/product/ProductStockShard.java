@@ -0,0 +1,86 @@
+package com.kt.domain.product;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.support.BaseEntity;
+import com.kt.common.support.Preconditions;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분할 재고 버킷
+ * - 인기 상품의 재고를 N개 행으로 나눠 차감 경합을 분산
+ * - 상품의 실제 판매 가능 수량 = 모든 버킷 재고의 합
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+		name = "product_stock_shard",
+		uniqueConstraints = {
+				@UniqueConstraint(
+						name = "uk_product_stock_shard_product_shard_no",
+						columnNames = {"product_id", "shard_no"}
+				)
+		}
+)
+public class ProductStockShard extends BaseEntity {
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "product_id", nullable = false)
+	private Product product;
+
+	@Column(name = "shard_no", nullable = false)
+	private Integer shardNo;
+
+	@Column(nullable = false)
+	private Long stock;
+
+	private ProductStockShard(Product product, Integer shardNo, Long stock) {
+		this.product = product;
+		this.shardNo = shardNo;
+		this.stock = stock;
+	}
+
+	/**
+	 * 전체 재고를 shardCount개 버킷으로 균등 분배 (나머지는 앞 버킷부터 1개씩)
+	 */
+	public static List<ProductStockShard> split(Product product, Long totalStock, int shardCount) {
+		Preconditions.validate(shardCount > 1, ErrorCode.INVALID_STOCK_SHARD);
+
+		List<ProductStockShard> shards = new ArrayList<>(shardCount);
+		for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+			shards.add(new ProductStockShard(product, shardNo, share(totalStock, shardCount, shardNo)));
+		}
+		return shards;
+	}
+
+	/**
+	 * 버킷 간 재고를 균등하게 재분배
+	 * @param shards 같은 상품의 버킷 목록
+	 */
+	public static void rebalance(List<ProductStockShard> shards, Long totalStock) {
+		for (var shard : shards) {
+			shard.stock = share(totalStock, shards.size(), shard.shardNo);
+		}
+	}
+
+	public void decreaseStock(Long quantity) {
+		Preconditions.validate(this.stock >= quantity, ErrorCode.NOT_ENOUGH_STOCK);
+		this.stock -= quantity;
+	}
+
+	private static long share(Long totalStock, int shardCount, int shardNo) {
+		return totalStock / shardCount + (shardNo < totalStock % shardCount ? 1 : 0);
+	}
+}
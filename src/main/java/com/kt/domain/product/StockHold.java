@@ -0,0 +1,81 @@
+package com.kt.domain.product;
+
+import java.time.LocalDateTime;
+
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.support.Preconditions;
+import com.kt.common.support.SnowflakeBaseEntity;
+import com.kt.domain.order.Order;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 대기 중인 주문의 재고 홀드
+ * - 주문 생성 시 재고를 차감하면서 만료 시각과 함께 기록
+ * - 결제 성공 시 CONFIRMED, 결제 실패/취소/만료 시 RELEASED (재고 반환)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+		name = "stock_hold",
+		indexes = {
+				@Index(name = "idx_stock_hold_status_expires_at", columnList = "status, expires_at"),
+				@Index(name = "idx_stock_hold_order_id", columnList = "order_id")
+		}
+)
+public class StockHold extends SnowflakeBaseEntity {
+	// 주문이 아카이브로 옮겨져도 홀드 이력은 남도록 FK를 두지 않음
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "order_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+	private Order order;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "product_id", nullable = false)
+	private Product product;
+
+	@Column(nullable = false)
+	private Long quantity;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private StockHoldStatus status;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+
+	private StockHold(Order order, Product product, Long quantity, LocalDateTime expiresAt) {
+		this.order = order;
+		this.product = product;
+		this.quantity = quantity;
+		this.expiresAt = expiresAt;
+		this.status = StockHoldStatus.HELD;
+	}
+
+	public static StockHold create(Order order, Product product, Long quantity, LocalDateTime expiresAt) {
+		return new StockHold(order, product, quantity, expiresAt);
+	}
+
+	public void confirm() {
+		Preconditions.validate(this.status == StockHoldStatus.HELD, ErrorCode.INVALID_STOCK_HOLD_STATUS);
+		this.status = StockHoldStatus.CONFIRMED;
+	}
+
+	public void release() {
+		Preconditions.validate(this.status == StockHoldStatus.HELD, ErrorCode.INVALID_STOCK_HOLD_STATUS);
+		this.status = StockHoldStatus.RELEASED;
+	}
+}
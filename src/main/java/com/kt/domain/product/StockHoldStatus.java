@@ -0,0 +1,14 @@
+package com.kt.domain.product;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum StockHoldStatus {
+	HELD("재고 확보(결제 대기)"),
+	CONFIRMED("결제 완료로 판매 확정"),
+	RELEASED("만료/취소로 재고 반환");
+
+	private final String description;
+}
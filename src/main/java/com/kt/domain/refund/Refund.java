@@ -13,8 +13,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class Refund extends BaseEntity {
 
+    // 주문이 아카이브로 옮겨져도 환불 이력은 남도록 FK를 두지 않음
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "order_id")
+    @JoinColumn(name = "order_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Order order;
 
     @Enumerated(EnumType.STRING)
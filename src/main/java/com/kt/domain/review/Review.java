@@ -11,8 +11,10 @@ import com.kt.domain.product.Product;
 import com.kt.domain.user.User;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
@@ -38,8 +40,9 @@ public class Review extends BaseEntity {
 	@JoinColumn(name = "product_id")
 	private Product product;
 
+	// 주문 상품이 아카이브로 옮겨져도 리뷰는 남도록 FK를 두지 않음
 	@OneToOne(fetch = FetchType.LAZY)
-	@JoinColumn(name = "order_product_id")
+	@JoinColumn(name = "order_product_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
 	private OrderProduct orderProduct;
 
 	@Column(nullable = false)
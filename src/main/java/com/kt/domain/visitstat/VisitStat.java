@@ -2,7 +2,7 @@ package com.kt.domain.visitstat;
 
 import java.time.LocalDateTime;
 
-import com.kt.common.support.BaseEntity;
+import com.kt.common.support.SnowflakeBaseEntity;
 
 import jakarta.persistence.Entity;
 import lombok.Getter;
@@ -11,7 +11,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @Entity
 @NoArgsConstructor
-public class VisitStat extends BaseEntity {
+public class VisitStat extends SnowflakeBaseEntity {
 	private String ip;
 	private String userAgent;
 	private Long userId;
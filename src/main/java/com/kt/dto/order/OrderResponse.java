@@ -3,8 +3,12 @@ package com.kt.dto.order;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.kt.domain.order.Order;
 import com.kt.domain.order.OrderStatus;
+import com.kt.domain.order.OrderTicket;
+import com.kt.domain.order.OrderTicketStatus;
 import com.querydsl.core.annotations.QueryProjection;
 
 public interface OrderResponse {
@@ -91,4 +95,30 @@ public interface OrderResponse {
 			String username
 	) {
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 비동기 주문 접수 상태
+	 * @param position 앞선 대기 티켓 수 + 1 (PENDING일 때만)
+	 * @param orderId 생성된 주문 ID (COMPLETED일 때만)
+	 * @param failureReason 실패 사유 (FAILED일 때만)
+	 * ticketId는 Snowflake ID(2^53 초과)라 JS 클라이언트에서 정밀도가 깨지지 않도록 문자열로 직렬화
+	 */
+	record Ticket(
+			@JsonSerialize(using = ToStringSerializer.class)
+			Long ticketId,
+			OrderTicketStatus status,
+			Long position,
+			Long orderId,
+			String failureReason
+	) {
+		public static Ticket of(OrderTicket ticket, Long position) {
+			return new Ticket(
+					ticket.getId(),
+					ticket.getStatus(),
+					position,
+					ticket.getOrderId(),
+					ticket.getFailureReason()
+			);
+		}
+	}
+}
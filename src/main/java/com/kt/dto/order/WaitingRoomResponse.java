@@ -0,0 +1,38 @@
+package com.kt.dto.order;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+public interface WaitingRoomResponse {
+	@Getter
+	@RequiredArgsConstructor
+	enum AdmissionStatus {
+		WAITING("대기 중"),
+		ADMITTED("입장 (주문 가능)"),
+		NOT_QUEUED("대기열에 없음 (입장 시간 만료 포함)");
+
+		private final String description;
+	}
+
+	/**
+	 * @param position 대기 순번 (1부터, 대기 중일 때만)
+	 * @param estimatedWaitSeconds 예상 대기 시간 (초, 대기 중일 때만)
+	 */
+	record Status(
+			AdmissionStatus status,
+			Long position,
+			Long estimatedWaitSeconds
+	) {
+		public static Status admitted() {
+			return new Status(AdmissionStatus.ADMITTED, null, null);
+		}
+
+		public static Status notQueued() {
+			return new Status(AdmissionStatus.NOT_QUEUED, null, null);
+		}
+
+		public static Status waiting(long position, long estimatedWaitSeconds) {
+			return new Status(AdmissionStatus.WAITING, position, estimatedWaitSeconds);
+		}
+	}
+}
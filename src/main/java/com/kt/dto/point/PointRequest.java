@@ -1,7 +1,10 @@
 package com.kt.dto.point;
 
+import com.kt.domain.point.PointCampaignSegment;
+
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 public interface PointRequest {
 	/**
@@ -15,4 +18,39 @@ public interface PointRequest {
 			String description
 	) {
 	}
+
+	/**
+	 * 포인트 캠페인 생성 요청 (대상은 업로드한 사용자 ID 목록)
+	 */
+	record Campaign(
+			@NotBlank(message = "캠페인 이름은 필수입니다.")
+			String name,
+
+			@NotNull(message = "지급할 포인트 금액은 필수입니다.")
+			@Positive(message = "지급할 포인트 금액은 0보다 커야 합니다.")
+			Long amount,
+
+			@NotBlank(message = "지급 사유는 필수입니다.")
+			String description
+	) {
+	}
+
+	/**
+	 * 포인트 캠페인 생성 요청 (대상은 사용자 조건)
+	 */
+	record SegmentCampaign(
+			@NotBlank(message = "캠페인 이름은 필수입니다.")
+			String name,
+
+			@NotNull(message = "지급할 포인트 금액은 필수입니다.")
+			@Positive(message = "지급할 포인트 금액은 0보다 커야 합니다.")
+			Long amount,
+
+			@NotBlank(message = "지급 사유는 필수입니다.")
+			String description,
+
+			@NotNull(message = "지급 대상 조건은 필수입니다.")
+			PointCampaignSegment segment
+	) {
+	}
 }
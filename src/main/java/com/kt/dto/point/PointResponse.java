@@ -1,8 +1,13 @@
 package com.kt.dto.point;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.kt.domain.point.Point;
+import com.kt.domain.point.PointCampaign;
+import com.kt.domain.point.PointCampaignStatus;
 import com.kt.domain.point.PointHistory;
 import com.kt.domain.point.PointHistoryType;
 
@@ -24,8 +29,10 @@ public interface PointResponse {
 
 	/**
 	 * 포인트 이력 조회 응답
+	 * - id는 Snowflake ID(2^53 초과)라 JS 클라이언트에서 정밀도가 깨지지 않도록 문자열로 직렬화
 	 */
 	record History(
+			@JsonSerialize(using = ToStringSerializer.class)
 			Long id,
 			PointHistoryType type,
 			String typeDescription,
@@ -46,4 +53,68 @@ public interface PointResponse {
 			);
 		}
 	}
+
+	/**
+	 * 포인트 캠페인 진행 상황
+	 * - progressRate: 처리(지급/제외/실패)한 대상 비율 (%)
+	 * - throughput: 지급 시작 후 초당 처리한 대상 수 (완료 후에는 완료 시각 기준)
+	 * - id는 Snowflake ID라 문자열로 직렬화
+	 */
+	record Campaign(
+			@JsonSerialize(using = ToStringSerializer.class)
+			Long id,
+			String name,
+			Long amount,
+			PointCampaignStatus status,
+			Long targetCount,
+			Long grantedCount,
+			Long skippedCount,
+			Long failedCount,
+			double progressRate,
+			long throughput,
+			LocalDateTime startedAt,
+			LocalDateTime completedAt
+	) {
+		public static Campaign of(PointCampaign campaign) {
+			var processed = campaign.getGrantedCount() + campaign.getSkippedCount() + campaign.getFailedCount();
+			var progressRate = campaign.getTargetCount() > 0
+					? Math.min(100.0, processed * 100.0 / campaign.getTargetCount())
+					: 0.0;
+
+			return new Campaign(
+					campaign.getId(),
+					campaign.getName(),
+					campaign.getAmount(),
+					campaign.getStatus(),
+					campaign.getTargetCount(),
+					campaign.getGrantedCount(),
+					campaign.getSkippedCount(),
+					campaign.getFailedCount(),
+					progressRate,
+					throughput(campaign, processed),
+					campaign.getStartedAt(),
+					campaign.getCompletedAt()
+			);
+		}
+
+		private static long throughput(PointCampaign campaign, long processed) {
+			if (campaign.getStartedAt() == null) {
+				return 0L;
+			}
+
+			var endedAt = campaign.getCompletedAt() != null ? campaign.getCompletedAt() : LocalDateTime.now();
+			var seconds = Math.max(1L, Duration.between(campaign.getStartedAt(), endedAt).toSeconds());
+
+			return processed / seconds;
+		}
+	}
+
+	/**
+	 * 포인트 캠페인 지급 실패 대상
+	 */
+	record CampaignFailure(
+			Long userId,
+			String failureReason
+	) {
+	}
 }
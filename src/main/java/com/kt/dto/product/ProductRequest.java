@@ -3,6 +3,8 @@ package com.kt.dto.product;
 import java.util.List;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -49,6 +51,16 @@ public class ProductRequest {
 		private List<Long> productIds;
 	}
 
+	@Getter
+	@AllArgsConstructor
+	@Schema(name = "ProductRequest.StockShard")
+	public static class StockShard {
+		@NotNull
+		@Min(2)
+		@Max(64)
+		private Integer shardCount;
+	}
+
 	@Getter
 	@AllArgsConstructor
 	@Schema(name = "ProductRequest.Recommend")
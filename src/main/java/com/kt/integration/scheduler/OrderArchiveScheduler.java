@@ -0,0 +1,57 @@
+package com.kt.integration.scheduler;
+
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.service.archive.OrderArchiveProperties;
+import com.kt.service.archive.OrderArchiveService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 아카이브 스케줄러
+ * - 배치마다 별도 트랜잭션으로 옮겨 한 번에 많은 행을 잠그지 않고, 한 번 실행에서 maxBatches까지만 처리
+ * - 여러 노드가 같은 주문을 동시에 옮기지 않도록 아카이브 전용 락 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderArchiveScheduler {
+	private static final String ARCHIVE_LOCK_KEY = "order:archive";
+
+	private final OrderArchiveService orderArchiveService;
+	private final OrderArchiveProperties orderArchiveProperties;
+	private final RedissonClient redissonClient;
+
+	@Scheduled(fixedDelayString = "${order.archive.interval-ms:3600000}")
+	public void archive() {
+		var lock = redissonClient.getLock(ARCHIVE_LOCK_KEY);
+
+		if (!lock.tryLock()) {
+			return;
+		}
+
+		try {
+			var archived = 0;
+
+			for (int i = 0; i < orderArchiveProperties.maxBatches(); i++) {
+				var moved = orderArchiveService.archiveBatch();
+				archived += moved;
+
+				if (moved < orderArchiveProperties.batchSize()) {
+					break;
+				}
+			}
+
+			if (archived > 0) {
+				log.info("주문 아카이브 - archived: {}", archived);
+			}
+		} catch (RuntimeException e) {
+			log.error("주문 아카이브 실패", e);
+		} finally {
+			lock.unlock();
+		}
+	}
+}
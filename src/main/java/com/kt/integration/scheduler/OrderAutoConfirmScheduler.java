@@ -0,0 +1,121 @@
+package com.kt.integration.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.service.autoconfirm.OrderAutoConfirmProperties;
+import com.kt.service.autoconfirm.OrderAutoConfirmService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자동 구매 확정 스케줄러
+ * - 대상 ID를 parallelism개 청크만큼 한 번에 읽어 청크마다 별도 트랜잭션으로 동시에 확정 (동시 실행 수는 전용 실행기로 제한)
+ * - 한 묶음이 끝날 때마다 마지막 ID를 Redis 커서로 저장해, 중단/재시작 후에도 처리한 구간을 다시 읽지 않고 이어서 처리
+ * - 끝까지 처리하면 커서를 지워 다음 실행은 처음부터 (실패한 청크의 주문은 다음 순회에서 다시 대상이 됨)
+ * - 메트릭
+ *   order.auto_confirm.confirmed (Counter): 확정한 주문 수
+ *   order.auto_confirm.chunk (Timer): 청크 처리 시간, outcome(success/failure) 태그
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderAutoConfirmScheduler {
+	private static final String AUTO_CONFIRM_LOCK_KEY = "order:auto-confirm";
+	private static final String CURSOR_KEY = "order:auto-confirm:cursor";
+	private static final String CONFIRMED_COUNTER = "order.auto_confirm.confirmed";
+	private static final String CHUNK_TIMER = "order.auto_confirm.chunk";
+
+	private final OrderAutoConfirmService orderAutoConfirmService;
+	private final OrderAutoConfirmProperties orderAutoConfirmProperties;
+	private final RedissonClient redissonClient;
+	private final ExecutorService orderAutoConfirmExecutor;
+	private final MeterRegistry meterRegistry;
+
+	@Scheduled(fixedDelayString = "${order.auto-confirm.interval-ms:600000}")
+	public void confirm() {
+		var lock = redissonClient.getLock(AUTO_CONFIRM_LOCK_KEY);
+
+		if (!lock.tryLock()) {
+			return;
+		}
+
+		try {
+			RBucket<Long> cursor = redissonClient.getBucket(CURSOR_KEY);
+			var chunkSize = orderAutoConfirmProperties.chunkSize();
+			var waveSize = chunkSize * orderAutoConfirmProperties.parallelism();
+			var startedAt = System.nanoTime();
+			var confirmed = 0;
+
+			for (int chunks = 0; chunks < orderAutoConfirmProperties.maxChunks(); chunks += orderAutoConfirmProperties.parallelism()) {
+				var afterId = Objects.requireNonNullElse(cursor.get(), 0L);
+				var ids = orderAutoConfirmService.findCandidateIds(afterId, waveSize);
+
+				if (ids.isEmpty()) {
+					cursor.delete();
+					break;
+				}
+
+				var futures = partition(ids, chunkSize).stream()
+						.map(chunk -> CompletableFuture.supplyAsync(() -> confirmChunk(chunk), orderAutoConfirmExecutor))
+						.toList();
+
+				confirmed += futures.stream().mapToInt(CompletableFuture::join).sum();
+				cursor.set(ids.getLast());
+
+				if (ids.size() < waveSize) {
+					cursor.delete();
+					break;
+				}
+			}
+
+			if (confirmed > 0) {
+				var elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+				log.info("자동 구매 확정 - confirmed: {}, elapsed: {}ms, throughput: {}/s",
+						confirmed, elapsedMillis, confirmed * 1000 / elapsedMillis);
+			}
+		} catch (RuntimeException e) {
+			log.error("자동 구매 확정 실패", e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private int confirmChunk(List<Long> orderIds) {
+		var sample = Timer.start(meterRegistry);
+		var outcome = "success";
+
+		try {
+			var confirmed = orderAutoConfirmService.confirmChunk(orderIds);
+			meterRegistry.counter(CONFIRMED_COUNTER).increment(confirmed);
+			return confirmed;
+		} catch (RuntimeException e) {
+			outcome = "failure";
+			log.warn("자동 구매 확정 청크 실패, 다음 순회에서 재시도 - orderIds: {}~{}", orderIds.getFirst(), orderIds.getLast(), e);
+			return 0;
+		} finally {
+			sample.stop(meterRegistry.timer(CHUNK_TIMER, "outcome", outcome));
+		}
+	}
+
+	private List<List<Long>> partition(List<Long> ids, int size) {
+		var chunks = new ArrayList<List<Long>>();
+
+		for (int from = 0; from < ids.size(); from += size) {
+			chunks.add(ids.subList(from, Math.min(from + size, ids.size())));
+		}
+
+		return chunks;
+	}
+}
@@ -0,0 +1,94 @@
+package com.kt.integration.scheduler;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import org.redisson.api.RedissonClient;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.service.intake.OrderIntakeService;
+
+import jakarta.persistence.OptimisticLockException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 주문 접수 처리
+ * - 재시도 시각이 된 PENDING 티켓을 batch-size만큼 꺼내 가상 스레드에서 동시에 처리 (마이크로 배치)
+ * - 배치가 모두 끝난 뒤 다음 배치를 꺼내므로 같은 티켓이 동시에 처리되지 않음
+ * - 비즈니스 실패(재고 부족 등)는 바로 FAILED로 기록
+ * - 락 획득 실패, 동시 수정 충돌, 그 외 예상하지 못한 예외는 백오프 후 재시도하고 max-attempts를 넘으면 FAILED
+ * - 여러 노드가 같은 배치를 중복 처리하지 않도록 처리 전용 락 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderIntakeScheduler {
+	private static final String INTAKE_LOCK_KEY = "order:intake";
+	private static final Set<ErrorCode> RETRYABLE_ERRORS = Set.of(
+			ErrorCode.FAIL_ACQUIRED_LOCK,
+			ErrorCode.CONCURRENT_UPDATE
+	);
+
+	private final OrderIntakeService orderIntakeService;
+	private final RedissonClient redissonClient;
+	private final ExecutorService orderIntakeExecutor;
+
+	@Scheduled(fixedDelayString = "${order.intake.poll-interval-ms:200}")
+	public void drain() {
+		var lock = redissonClient.getLock(INTAKE_LOCK_KEY);
+
+		if (!lock.tryLock()) {
+			return;
+		}
+
+		try {
+			var ticketIds = orderIntakeService.findPendingTicketIds();
+
+			if (ticketIds.isEmpty()) {
+				return;
+			}
+
+			var futures = ticketIds.stream()
+					.map(ticketId -> CompletableFuture.runAsync(() -> process(ticketId), orderIntakeExecutor))
+					.toArray(CompletableFuture[]::new);
+
+			CompletableFuture.allOf(futures).join();
+
+			log.info("비동기 주문 배치 처리 - tickets: {}", ticketIds.size());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void process(Long ticketId) {
+		try {
+			orderIntakeService.process(ticketId);
+		} catch (CustomException e) {
+			if (RETRYABLE_ERRORS.contains(e.getErrorCode())) {
+				record(ticketId, () -> orderIntakeService.retry(ticketId, e.getErrorCode()));
+			} else {
+				record(ticketId, () -> orderIntakeService.fail(ticketId, e.getErrorCode()));
+			}
+		} catch (ConcurrencyFailureException | OptimisticLockException e) {
+			record(ticketId, () -> orderIntakeService.retry(ticketId, ErrorCode.CONCURRENT_UPDATE));
+		} catch (RuntimeException e) {
+			log.warn("비동기 주문 처리 오류, 백오프 후 재시도 - ticketId: {}", ticketId, e);
+			record(ticketId, () -> orderIntakeService.retry(ticketId, ErrorCode.ERROR_SYSTEM));
+		}
+	}
+
+	// 결과 기록마저 실패하면 티켓은 그대로 PENDING이므로 다음 배치에서 다시 처리됨
+	private void record(Long ticketId, Runnable action) {
+		try {
+			action.run();
+		} catch (RuntimeException e) {
+			log.warn("비동기 주문 처리 결과 기록 실패 - ticketId: {}", ticketId, e);
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package com.kt.integration.scheduler;
+
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.kt.repository.order.OrderSummaryJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 요약 읽기 모델 백필
+ * - 읽기 모델 도입 전 주문이나 엔티티 리스너를 거치지 않고 생성된 주문의 요약을 기동 시 한 번에 생성
+ * - 이미 요약이 있는 주문은 건너뛰므로 여러 번 실행해도 안전하며, 노드 간 중복 실행은 락으로 막음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryBackfillRunner {
+	private static final String BACKFILL_LOCK_KEY = "order:summary-backfill";
+
+	private final OrderSummaryJdbcRepository orderSummaryJdbcRepository;
+	private final RedissonClient redissonClient;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		var lock = redissonClient.getLock(BACKFILL_LOCK_KEY);
+
+		if (!lock.tryLock()) {
+			return;
+		}
+
+		try {
+			var created = orderSummaryJdbcRepository.backfill();
+
+			if (created > 0) {
+				log.info("주문 요약 백필 - created: {}", created);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.kt.integration.scheduler;
+
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.service.outbox.OutboxService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 릴레이
+ * - 전달 가능한 이벤트를 ID(발행) 순으로 배치 조회해 하나씩 별도 트랜잭션에서 리스너에 전달
+ * - 한 건 실패가 배치 전체를 막지 않고, 실패한 이벤트는 백오프 후 다시 조회됨
+ * - 여러 노드가 같은 이벤트를 중복 전달하지 않도록 릴레이 전용 락 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayScheduler {
+	private static final String RELAY_LOCK_KEY = "outbox:relay";
+
+	private final OutboxService outboxService;
+	private final RedissonClient redissonClient;
+
+	@Scheduled(fixedDelayString = "${outbox.relay-interval-ms:500}")
+	public void relay() {
+		var lock = redissonClient.getLock(RELAY_LOCK_KEY);
+
+		if (!lock.tryLock()) {
+			return;
+		}
+
+		try {
+			var ids = outboxService.findDispatchableIds();
+			var published = 0;
+
+			for (Long id : ids) {
+				try {
+					outboxService.dispatch(id);
+					published++;
+				} catch (RuntimeException e) {
+					outboxService.recordFailure(id, e);
+				}
+			}
+
+			if (published > 0) {
+				log.info("아웃박스 이벤트 전달 - published: {}, failed: {}", published, ids.size() - published);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}")
+	public void purge() {
+		var lock = redissonClient.getLock(RELAY_LOCK_KEY);
+
+		if (!lock.tryLock()) {
+			return;
+		}
+
+		try {
+			var purged = outboxService.purgePublished();
+
+			if (purged > 0) {
+				log.info("전달 완료 아웃박스 이벤트 정리 - purged: {}", purged);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package com.kt.integration.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.domain.point.PointCampaign;
+import com.kt.domain.point.PointCampaignStatus;
+import com.kt.service.point.PointCampaignService;
+import com.kt.service.point.PointProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 포인트 캠페인 일괄 지급 스케줄러
+ * - 먼저 생성된 진행 중 캠페인 하나를 골라 window 동안 처리하고, 남은 작업은 다음 실행에서 이어서 처리
+ * - PREPARING: 조건을 만족하는 사용자를 배치 단위로 대상에 적재 (마지막 적재 사용자 ID를 캠페인에 저장해 재개)
+ * - RUNNING: 지급 대기 대상을 사용자 ID 키셋으로 parallelism개 청크만큼 읽어 청크마다 별도 트랜잭션으로 동시에 지급
+ *   - 처리된 대상은 대기 상태에서 빠지므로 중단/재시작 후 처음부터 읽어도 이미 처리한 구간은 인덱스에서 건너뜀
+ *   - 실패한 청크는 롤백 후 대상을 FAILED로 기록하고 다음 청크를 계속 처리 (부분 실패, 재시도 API로 다시 지급)
+ *   - 대기 대상이 남지 않으면 COMPLETED
+ * - 메트릭
+ *   point.campaign.granted (Counter): 지급한 사용자 수
+ *   point.campaign.failed (Counter): 지급 실패한 사용자 수
+ *   point.campaign.chunk (Timer): 청크 처리 시간, outcome(success/failure) 태그
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointCampaignScheduler {
+	private static final String CAMPAIGN_LOCK_KEY = "point:campaign";
+	private static final String GRANTED_COUNTER = "point.campaign.granted";
+	private static final String FAILED_COUNTER = "point.campaign.failed";
+	private static final String CHUNK_TIMER = "point.campaign.chunk";
+
+	private final PointCampaignService pointCampaignService;
+	private final PointProperties pointProperties;
+	private final RedissonClient redissonClient;
+	private final ExecutorService pointCampaignExecutor;
+	private final MeterRegistry meterRegistry;
+
+	@Scheduled(fixedDelayString = "${point.campaign.interval-ms:5000}")
+	public void run() {
+		var lock = redissonClient.getLock(CAMPAIGN_LOCK_KEY);
+
+		if (!lock.tryLock()) {
+			return;
+		}
+
+		try {
+			var deadline = System.nanoTime() + pointProperties.campaign().window().toNanos();
+			var campaign = pointCampaignService.findActive().orElse(null);
+
+			if (campaign == null) {
+				return;
+			}
+
+			if (campaign.getStatus() == PointCampaignStatus.PREPARING && !prepare(campaign, deadline)) {
+				return;
+			}
+
+			grant(campaign, deadline);
+		} catch (RuntimeException e) {
+			log.error("포인트 캠페인 지급 실패", e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return 대상 적재가 끝났으면 true
+	 */
+	private boolean prepare(PointCampaign campaign, long deadline) {
+		while (System.nanoTime() < deadline) {
+			if (pointCampaignService.prepareBatch(campaign.getId())) {
+				log.info("포인트 캠페인 대상 적재 완료 - campaignId: {}", campaign.getId());
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void grant(PointCampaign campaign, long deadline) {
+		var chunkSize = pointProperties.campaign().chunkSize();
+		var waveSize = chunkSize * pointProperties.campaign().parallelism();
+		var startedAt = System.nanoTime();
+		var afterId = 0L;
+		var granted = 0;
+
+		while (System.nanoTime() < deadline) {
+			var userIds = pointCampaignService.findPendingUserIds(campaign.getId(), afterId, waveSize);
+
+			if (userIds.isEmpty()) {
+				pointCampaignService.complete(campaign.getId());
+				break;
+			}
+
+			var futures = partition(userIds, chunkSize).stream()
+					.map(chunk -> CompletableFuture.supplyAsync(() -> grantChunk(campaign, chunk), pointCampaignExecutor))
+					.toList();
+
+			granted += futures.stream().mapToInt(CompletableFuture::join).sum();
+			afterId = userIds.getLast();
+		}
+
+		if (granted > 0) {
+			var elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+			log.info("포인트 캠페인 지급 - campaignId: {}, granted: {}, elapsed: {}ms, throughput: {}/s",
+					campaign.getId(), granted, elapsedMillis, granted * 1000L / elapsedMillis);
+		}
+	}
+
+	private int grantChunk(PointCampaign campaign, List<Long> userIds) {
+		var sample = Timer.start(meterRegistry);
+		var outcome = "success";
+
+		try {
+			var result = pointCampaignService.grantChunk(campaign, userIds);
+			meterRegistry.counter(GRANTED_COUNTER).increment(result.granted());
+			return result.granted();
+		} catch (RuntimeException e) {
+			outcome = "failure";
+			log.warn("포인트 캠페인 청크 실패 - campaignId: {}, userIds: {}~{}",
+					campaign.getId(), userIds.getFirst(), userIds.getLast(), e);
+			fail(campaign, userIds, e);
+			return 0;
+		} finally {
+			sample.stop(meterRegistry.timer(CHUNK_TIMER, "outcome", outcome));
+		}
+	}
+
+	private void fail(PointCampaign campaign, List<Long> userIds, RuntimeException cause) {
+		try {
+			var failed = pointCampaignService.failChunk(campaign.getId(), userIds, cause.getClass().getSimpleName());
+			meterRegistry.counter(FAILED_COUNTER).increment(failed);
+		} catch (RuntimeException e) {
+			// 기록하지 못한 대상은 지급 대기로 남아 다음 실행에서 다시 처리됨
+			log.warn("포인트 캠페인 실패 기록 실패 - campaignId: {}", campaign.getId(), e);
+		}
+	}
+
+	private List<List<Long>> partition(List<Long> ids, int size) {
+		var chunks = new ArrayList<List<Long>>();
+
+		for (int from = 0; from < ids.size(); from += size) {
+			chunks.add(ids.subList(from, Math.min(from + size, ids.size())));
+		}
+
+		return chunks;
+	}
+}
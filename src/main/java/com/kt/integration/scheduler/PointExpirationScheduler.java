@@ -0,0 +1,197 @@
+package com.kt.integration.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.repository.point.PointLotJdbcRepository;
+import com.kt.service.point.PointExpirationService;
+import com.kt.service.point.PointProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 포인트 유효기간 만료 스케줄러 (매일 point.expiration.cron)
+ * 1. lot이 없는 포인트(lot 도입 전 잔액)를 lot으로 이관 - 처리한 points.id를 Redis 커서로 남겨 다음 실행은 새 행만 확인
+ * 2. 만료 대상 lot을 (expires_at, id) 키셋으로 parallelism개 청크만큼 읽어 청크마다 별도 트랜잭션으로 동시에 소멸
+ *    - 소멸된 lot은 대상에서 빠지므로 중단/재시작 후 처음부터 다시 읽어도 이미 처리한 구간은 인덱스에서 건너뜀
+ *    - 실패한 청크는 키셋이 지나가므로 이번 실행에서는 재시도하지 않고 다음 실행에서 다시 대상이 됨
+ *    - window가 지나면 멈추고 남은 lot은 다음 실행에서 처리
+ * - 메트릭
+ *   point.expiration.expired_lots (Counter): 소멸시킨 lot 수
+ *   point.expiration.expired_amount (Counter): 소멸된 포인트 합계
+ *   point.expiration.migrated (Counter): lot으로 이관한 포인트 수
+ *   point.expiration.chunk (Timer): 청크 처리 시간, outcome(success/failure) 태그
+ *   point.expiration.progress.lots (Gauge): 이번 실행에서 소멸시킨 lot 수
+ *   point.expiration.progress.lag_seconds (Gauge): 처리 중인 lot의 만료 시각이 실행 시각보다 앞선 정도 (0에 가까워지면 끝)
+ */
+@Slf4j
+@Component
+public class PointExpirationScheduler {
+	private static final String EXPIRATION_LOCK_KEY = "point:expiration";
+	private static final String MIGRATION_CURSOR_KEY = "point:expiration:migration-cursor";
+	private static final String EXPIRED_LOTS_COUNTER = "point.expiration.expired_lots";
+	private static final String EXPIRED_AMOUNT_COUNTER = "point.expiration.expired_amount";
+	private static final String MIGRATED_COUNTER = "point.expiration.migrated";
+	private static final String CHUNK_TIMER = "point.expiration.chunk";
+
+	private final PointExpirationService pointExpirationService;
+	private final PointProperties pointProperties;
+	private final RedissonClient redissonClient;
+	private final ExecutorService pointExpirationExecutor;
+	private final MeterRegistry meterRegistry;
+
+	private final AtomicLong progressLots = new AtomicLong();
+	private final AtomicLong progressLagSeconds = new AtomicLong();
+
+	public PointExpirationScheduler(
+			PointExpirationService pointExpirationService,
+			PointProperties pointProperties,
+			RedissonClient redissonClient,
+			ExecutorService pointExpirationExecutor,
+			MeterRegistry meterRegistry
+	) {
+		this.pointExpirationService = pointExpirationService;
+		this.pointProperties = pointProperties;
+		this.redissonClient = redissonClient;
+		this.pointExpirationExecutor = pointExpirationExecutor;
+		this.meterRegistry = meterRegistry;
+
+		meterRegistry.gauge("point.expiration.progress.lots", progressLots);
+		meterRegistry.gauge("point.expiration.progress.lag_seconds", progressLagSeconds);
+	}
+
+	@Scheduled(cron = "${point.expiration.cron:0 0 3 * * *}")
+	public void expire() {
+		var lock = redissonClient.getLock(EXPIRATION_LOCK_KEY);
+
+		if (!lock.tryLock()) {
+			return;
+		}
+
+		try {
+			var deadline = System.nanoTime() + pointProperties.expiration().window().toNanos();
+
+			migrate(deadline);
+			expireLots(deadline);
+		} catch (RuntimeException e) {
+			log.error("포인트 유효기간 만료 실패", e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void migrate(long deadline) {
+		RBucket<Long> cursor = redissonClient.getBucket(MIGRATION_CURSOR_KEY);
+		var batchSize = pointProperties.expiration().backfillBatchSize();
+		var migrated = 0;
+
+		while (System.nanoTime() < deadline) {
+			var result = pointExpirationService.migrateBatch(Objects.requireNonNullElse(cursor.get(), 0L), batchSize);
+
+			migrated += result.migrated();
+			meterRegistry.counter(MIGRATED_COUNTER).increment(result.migrated());
+			// 이관이 끝나도 커서를 남겨, 이후 생성된 포인트(처음부터 lot이 있음)만 확인
+			cursor.set(result.lastPointId());
+
+			if (result.done()) {
+				break;
+			}
+		}
+
+		if (migrated > 0) {
+			log.info("포인트 lot 이관 - migrated: {}", migrated);
+		}
+	}
+
+	private void expireLots(long deadline) {
+		var expiration = pointProperties.expiration();
+		var chunkSize = expiration.chunkSize();
+		var waveSize = chunkSize * expiration.parallelism();
+		var now = LocalDateTime.now();
+		var startedAt = System.nanoTime();
+		var afterExpiresAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+		var afterId = 0L;
+		var expiredLots = 0;
+		var expiredAmount = 0L;
+
+		progressLots.set(0);
+
+		while (System.nanoTime() < deadline) {
+			var lots = pointExpirationService.findExpired(now, afterExpiresAt, afterId, waveSize);
+
+			if (lots.isEmpty()) {
+				break;
+			}
+
+			var futures = partition(lots.stream().map(PointLotJdbcRepository.Lot::id).toList(), chunkSize).stream()
+					.map(chunk -> CompletableFuture.supplyAsync(() -> expireChunk(chunk, now), pointExpirationExecutor))
+					.toList();
+
+			for (var future : futures) {
+				var expired = future.join();
+				expiredLots += expired.lots();
+				expiredAmount += expired.amount();
+			}
+
+			var last = lots.getLast();
+			afterExpiresAt = last.expiresAt();
+			afterId = last.id();
+
+			progressLots.set(expiredLots);
+			progressLagSeconds.set(Math.max(0, Duration.between(last.expiresAt(), now).toSeconds()));
+
+			if (lots.size() < waveSize) {
+				break;
+			}
+		}
+
+		progressLagSeconds.set(0);
+
+		if (expiredLots > 0) {
+			var elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+			log.info("포인트 유효기간 만료 - lots: {}, amount: {}P, elapsed: {}ms, throughput: {}/s",
+					expiredLots, expiredAmount, elapsedMillis, expiredLots * 1000L / elapsedMillis);
+		}
+	}
+
+	private PointExpirationService.Expired expireChunk(List<Long> lotIds, LocalDateTime now) {
+		var sample = Timer.start(meterRegistry);
+		var outcome = "success";
+
+		try {
+			var expired = pointExpirationService.expireChunk(lotIds, now);
+			meterRegistry.counter(EXPIRED_LOTS_COUNTER).increment(expired.lots());
+			meterRegistry.counter(EXPIRED_AMOUNT_COUNTER).increment(expired.amount());
+			return expired;
+		} catch (RuntimeException e) {
+			outcome = "failure";
+			log.warn("포인트 만료 청크 실패, 다음 실행에서 재시도 - lotIds: {}~{}", lotIds.getFirst(), lotIds.getLast(), e);
+			return new PointExpirationService.Expired(0, 0L);
+		} finally {
+			sample.stop(meterRegistry.timer(CHUNK_TIMER, "outcome", outcome));
+		}
+	}
+
+	private List<List<Long>> partition(List<Long> ids, int size) {
+		var chunks = new ArrayList<List<Long>>();
+
+		for (int from = 0; from < ids.size(); from += size) {
+			chunks.add(ids.subList(from, Math.min(from + size, ids.size())));
+		}
+
+		return chunks;
+	}
+}
@@ -0,0 +1,79 @@
+package com.kt.integration.scheduler;
+
+import java.util.Objects;
+
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.service.point.PointLedgerCompactionService;
+import com.kt.service.point.PointProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 포인트 원장 스냅샷 압축 스케줄러 (point.strategy=ledger)
+ * - 압축이 끝난 이력 ID를 Redis에 저장해 다음 실행은 그 이후 이력만 읽음 (없으면 처음부터 - 이미 합친 사용자는 건너뜀)
+ * - 배치마다 별도 트랜잭션, 한 번 실행에서 compactMaxBatches까지만 처리
+ * - 기동 시 원장 모드 전환 전 포인트의 스냅샷 기준 ID를 채움 (이미 채운 행은 건너뜀)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point", name = "strategy", havingValue = "ledger")
+public class PointLedgerCompactionScheduler {
+	private static final String COMPACTION_LOCK_KEY = "point:ledger-compaction";
+	private static final String COMPACTED_ID_KEY = "point:ledger:compacted-id";
+
+	private final PointLedgerCompactionService pointLedgerCompactionService;
+	private final PointProperties pointProperties;
+	private final RedissonClient redissonClient;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void fillLastHistoryId() {
+		var lock = redissonClient.getLock(COMPACTION_LOCK_KEY);
+
+		if (!lock.tryLock()) {
+			return;
+		}
+
+		try {
+			var filled = pointLedgerCompactionService.fillLastHistoryId();
+
+			if (filled > 0) {
+				log.info("포인트 원장 스냅샷 기준 채우기 - filled: {}", filled);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${point.ledger.compact-interval-ms:60000}")
+	public void compact() {
+		var lock = redissonClient.getLock(COMPACTION_LOCK_KEY);
+
+		if (!lock.tryLock()) {
+			return;
+		}
+
+		try {
+			RBucket<Long> compactedId = redissonClient.getBucket(COMPACTED_ID_KEY);
+			var boundaryId = pointLedgerCompactionService.boundaryId();
+			var afterId = Objects.requireNonNullElse(compactedId.get(), 0L);
+
+			for (int i = 0; i < pointProperties.ledger().compactMaxBatches() && afterId < boundaryId; i++) {
+				afterId = pointLedgerCompactionService.compactBatch(afterId, boundaryId);
+				compactedId.set(afterId);
+			}
+		} catch (RuntimeException e) {
+			log.error("포인트 원장 스냅샷 압축 실패", e);
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.kt.integration.scheduler;
+
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.service.StockHoldService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 재고 홀드 정리
+ * - 결제하지 않은 채 TTL이 지난 주문을 배치 단위로 찾아 재고 반환 + 주문 취소
+ * - 주문별로 별도 트랜잭션에서 처리해 한 건 실패가 배치 전체를 막지 않음
+ * - 여러 노드가 같은 배치를 중복 조회하지 않도록 정리 전용 락 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockHoldSweepScheduler {
+	private static final String SWEEP_LOCK_KEY = "stock:hold-sweep";
+
+	private final StockHoldService stockHoldService;
+	private final RedissonClient redissonClient;
+
+	@Scheduled(fixedDelayString = "${stock.hold.sweep-interval-ms:30000}")
+	public void sweep() {
+		var lock = redissonClient.getLock(SWEEP_LOCK_KEY);
+
+		if (!lock.tryLock()) {
+			return;
+		}
+
+		try {
+			var orderIds = stockHoldService.findExpiredOrderIds();
+			var expired = 0;
+
+			for (Long orderId : orderIds) {
+				if (expire(orderId)) {
+					expired++;
+				}
+			}
+
+			if (expired > 0) {
+				log.info("만료 재고 홀드 정리 - expiredOrders: {}", expired);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private boolean expire(Long orderId) {
+		try {
+			stockHoldService.expire(orderId);
+			return true;
+		} catch (CustomException e) {
+			if (e.getErrorCode() != ErrorCode.INVALID_ORDER_STATUS) {
+				log.warn("만료 재고 홀드 정리 실패 - orderId: {}", orderId, e);
+				return false;
+			}
+		} catch (RuntimeException e) {
+			log.warn("만료 재고 홀드 정리 실패 - orderId: {}", orderId, e);
+			return false;
+		}
+
+		// 처리 중 주문 상태가 바뀐 경우 (보관된 주문 포함) 취소 없이 홀드만 정리해 매번 재시도되지 않도록 함
+		try {
+			stockHoldService.acknowledge(orderId);
+		} catch (RuntimeException e) {
+			log.warn("만료 재고 홀드 정리 실패 - orderId: {}", orderId, e);
+		}
+		return false;
+	}
+}
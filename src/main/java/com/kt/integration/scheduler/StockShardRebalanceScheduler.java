@@ -0,0 +1,47 @@
+package com.kt.integration.scheduler;
+
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.service.stock.ShardedStockService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분할 재고 버킷 재분배
+ * - 특정 버킷에 차감이 몰려 비어가면 버킷 간 재고를 다시 균등하게 맞춤
+ * - 여러 노드가 같은 상품을 동시에 재분배하지 않도록 재분배 전용 락 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockShardRebalanceScheduler {
+	private static final String REBALANCE_LOCK_KEY = "stock:shard-rebalance";
+
+	private final ShardedStockService shardedStockService;
+	private final RedissonClient redissonClient;
+
+	@Scheduled(fixedDelayString = "${stock.shard.rebalance-interval-ms:5000}")
+	public void rebalance() {
+		var lock = redissonClient.getLock(REBALANCE_LOCK_KEY);
+
+		if (!lock.tryLock()) {
+			return;
+		}
+
+		try {
+			for (Long productId : shardedStockService.findAllShardedProductIds()) {
+				try {
+					shardedStockService.rebalance(productId);
+				} catch (RuntimeException e) {
+					// 한 상품 실패가 다른 상품 재분배를 막지 않도록 로그만 남김
+					log.warn("분할 재고 재분배 실패 - productId: {}", productId, e);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.kt.integration.scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kt.repository.product.ProductJdbcRepository;
+import com.kt.service.stock.RedisStockStrategy;
+import com.kt.service.stock.StockProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * redis 재고 전략의 DB 동기화
+ * - 주기적으로 Redis에 쌓인 판매량을 batch UPDATE로 product.stock에 반영
+ * - 기동 시 DB 재고 기준으로 Redis 판매 가능 수량을 다시 맞춤
+ * - 여러 노드가 동시에 반영/정합성 작업을 하지 않도록 동기화 전용 락 사용 (관리자 재고 수정의 Redis 재설정도 같은 락)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "stock", name = "strategy", havingValue = "redis")
+public class StockSyncScheduler {
+	private final RedisStockStrategy redisStockStrategy;
+	private final ProductJdbcRepository productJdbcRepository;
+	private final RedissonClient redissonClient;
+	private final TransactionTemplate transactionTemplate;
+	private final StockProperties stockProperties;
+
+	@Scheduled(fixedDelayString = "${stock.redis.sync-interval-ms:1000}")
+	public void syncStock() {
+		var lock = redissonClient.getLock(RedisStockStrategy.SYNC_LOCK_KEY);
+
+		if (!lock.tryLock()) {
+			return;
+		}
+
+		try {
+			flush();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void reconcileOnStartup() throws InterruptedException {
+		var lock = redissonClient.getLock(RedisStockStrategy.SYNC_LOCK_KEY);
+
+		if (!lock.tryLock(30, TimeUnit.SECONDS)) {
+			log.warn("Redis 재고 정합성 작업 락 획득 실패 - 다음 기동 시 재시도");
+			return;
+		}
+
+		try {
+			flush();
+
+			var batchSize = stockProperties.redis().syncBatchSize();
+			var lastId = 0L;
+			var reconciled = 0;
+
+			while (true) {
+				var stocks = productJdbcRepository.findStocksAfter(lastId, batchSize);
+				if (stocks.isEmpty()) {
+					break;
+				}
+
+				stocks.forEach(it -> redisStockStrategy.reconcile(it.productId(), it.stock(), true));
+
+				reconciled += stocks.size();
+				lastId = stocks.getLast().productId();
+			}
+
+			log.info("Redis 재고 정합성 작업 완료 - {}개 상품", reconciled);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void flush() {
+		var pending = redisStockStrategy.drainPending();
+
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		try {
+			transactionTemplate.executeWithoutResult(status -> productJdbcRepository.decreaseStocks(pending));
+			log.info("Redis 재고 DB 반영 - {}개 상품", pending.size());
+		} catch (RuntimeException e) {
+			// 반영 실패 시 판매량을 되돌려 다음 주기에 재시도
+			redisStockStrategy.restorePending(pending);
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package com.kt.integration.scheduler;
+
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kt.service.waitingroom.WaitingRoomService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 대기열 입장 처리
+ * - 1초마다 대기열이 열린 상품별로 waiting-room.admit-per-second 명씩 입장
+ * - 여러 노드가 동시에 입장시키면 유입량이 노드 수만큼 늘어나므로 전용 락으로 한 노드만 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomAdmissionScheduler {
+	private static final String ADMIT_LOCK_KEY = "waiting-room:admit";
+
+	private final WaitingRoomService waitingRoomService;
+	private final RedissonClient redissonClient;
+
+	@Scheduled(fixedRate = 1000)
+	public void admit() {
+		var lock = redissonClient.getLock(ADMIT_LOCK_KEY);
+
+		if (!lock.tryLock()) {
+			return;
+		}
+
+		try {
+			for (Long productId : waitingRoomService.findOpenProductIds()) {
+				var admitted = waitingRoomService.admit(productId);
+
+				if (admitted > 0) {
+					log.debug("주문 대기열 입장 - productId: {}, admitted: {}", productId, admitted);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -8,6 +8,7 @@ import com.kt.common.exception.ErrorCode;
 import com.kt.domain.order.Order;
 import com.kt.domain.payment.event.PaymentEvent;
 import com.kt.repository.order.OrderRepository;
+import com.kt.service.StockHoldService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,15 +24,19 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderEventListener {
 	private final OrderRepository orderRepository;
 	private final com.kt.service.PointService pointService;
+	private final StockHoldService stockHoldService;
 
 	/**
 	 * 결제 성공 이벤트 처리
-	 * Order 상태를 ORDER_ACCEPTED로 변경
+	 * 재고 홀드를 확정하고 Order 상태를 ORDER_ACCEPTED로 변경
+	 * 홀드가 이미 만료되었으면 예외로 결제 트랜잭션 전체를 롤백
 	 */
 	@EventListener(PaymentEvent.Success.class)
 	public void onPaymentSuccess(PaymentEvent.Success event) {
 		log.info("결제 성공 이벤트 수신 - paymentId: {}, orderId: {}", event.paymentId(), event.orderId());
 
+		stockHoldService.confirm(event.orderId());
+
 		Order order = orderRepository.findByOrderIdOrThrow(event.orderId());
 		order.acceptPayment(event.paymentId());
 
@@ -40,7 +45,7 @@ public class OrderEventListener {
 
 	/**
 	 * 결제 실패 이벤트 처리
-	 * Order 상태를 ORDER_CANCELLED로 변경하고, 사용한 포인트를 복구
+	 * Order 상태를 ORDER_CANCELLED로 변경하고, 확보한 재고와 사용한 포인트를 복구
 	 */
 	@EventListener(PaymentEvent.Failed.class)
 	public void onPaymentFailed(PaymentEvent.Failed event) {
@@ -50,6 +55,9 @@ public class OrderEventListener {
 		Order order = orderRepository.findByOrderIdOrThrow(event.orderId());
 		order.cancelByPaymentFailure();
 
+		// 확보해 둔 재고 반환
+		stockHoldService.release(event.orderId());
+
 		// 사용한 포인트 복구
 		pointService.refundPointsForPaymentFailure(order.getUser().getId(), event.orderId());
 
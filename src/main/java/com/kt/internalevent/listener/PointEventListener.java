@@ -15,6 +15,8 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Point 도메인 이벤트 리스너
  * Order, Review 도메인에서 발행하는 이벤트를 수신하여 포인트 적립/회수 처리
+ * 이벤트는 아웃박스에 기록된 뒤 릴레이(OutboxService.dispatch) 트랜잭션에서 전달되므로
+ * 요청 트랜잭션과 분리되며, 실패하면 롤백 후 재시도됨
  */
 @Slf4j
 @Component
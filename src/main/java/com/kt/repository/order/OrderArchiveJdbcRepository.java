@@ -0,0 +1,92 @@
+package com.kt.repository.order;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.kt.domain.order.OrderStatus;
+import com.kt.domain.product.StockHoldStatus;
+import com.kt.domain.refund.RefundStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 아카이브 이동용 JDBC 리포지토리
+ * - 주문/주문 상품/결제를 INSERT ... SELECT로 아카이브 테이블에 복사한 뒤 원본을 삭제 (같은 트랜잭션에서 호출해야 함)
+ * - 주문 요약(order_summary)은 목록 조회를 위해 그대로 둠
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderArchiveJdbcRepository {
+	private static final String ORDER_COLUMNS = "id, created_at, updated_at, receiver_name, receiver_mobile, "
+			+ "receiver_zipcode, receiver_address, receiver_detail_address, delivery_request, status, previous_status, "
+			+ "payment_id, used_points, total_price, first_product_name, product_count, cancel_decision_reason, "
+			+ "user_cancel_reason, delivered_at, user_id";
+
+	private static final String ORDER_PRODUCT_COLUMNS = "id, created_at, updated_at, quantity, unit_price, line_total, "
+			+ "order_id, product_id";
+
+	private static final String PAYMENT_COLUMNS = "id, created_at, updated_at, delivery_fee, payment_type_id, "
+			+ "original_price, discount_price, final_price, status, order_id";
+
+	// 진행 중인 환불/재고 홀드가 있는 주문은 제외 (idx_orders_status_updated_at)
+	private static final String FIND_ARCHIVABLE_IDS_SQL = "SELECT o.id FROM orders o "
+			+ "WHERE o.status IN (:statuses) AND o.updated_at < :cutoff "
+			+ "AND NOT EXISTS (SELECT 1 FROM refund r WHERE r.order_id = o.id AND r.status IN (:openRefundStatuses)) "
+			+ "AND NOT EXISTS (SELECT 1 FROM stock_hold h WHERE h.order_id = o.id AND h.status = :heldStatus) "
+			+ "ORDER BY o.id LIMIT :limit";
+
+	private static final String ARCHIVE_ORDERS_SQL = "INSERT INTO orders_archive (" + ORDER_COLUMNS + ", archived_at) "
+			+ "SELECT " + ORDER_COLUMNS + ", :archivedAt FROM orders WHERE id IN (:ids)";
+
+	private static final String ARCHIVE_ORDER_PRODUCTS_SQL = "INSERT INTO order_product_archive (" + ORDER_PRODUCT_COLUMNS + ") "
+			+ "SELECT " + ORDER_PRODUCT_COLUMNS + " FROM order_product WHERE order_id IN (:ids)";
+
+	private static final String ARCHIVE_PAYMENTS_SQL = "INSERT INTO payment_archive (" + PAYMENT_COLUMNS + ") "
+			+ "SELECT " + PAYMENT_COLUMNS + " FROM payment WHERE order_id IN (:ids)";
+
+	private static final String DELETE_PAYMENTS_SQL = "DELETE FROM payment WHERE order_id IN (:ids)";
+
+	private static final String DELETE_ORDER_PRODUCTS_SQL = "DELETE FROM order_product WHERE order_id IN (:ids)";
+
+	private static final String DELETE_ORDERS_SQL = "DELETE FROM orders WHERE id IN (:ids)";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public List<Long> findArchivableIds(Collection<OrderStatus> statuses, LocalDateTime cutoff, int limit) {
+		return jdbcTemplate.queryForList(
+				FIND_ARCHIVABLE_IDS_SQL,
+				Map.of(
+						"statuses", statuses.stream().map(Enum::name).toList(),
+						"cutoff", cutoff,
+						"openRefundStatuses", List.of(RefundStatus.REFUND_REQUESTED.name(), RefundStatus.REFUND_APPROVED.name()),
+						"heldStatus", StockHoldStatus.HELD.name(),
+						"limit", limit
+				),
+				Long.class
+		);
+	}
+
+	/**
+	 * 주문과 주문 상품/결제를 아카이브로 이동
+	 * - 자식(결제, 주문 상품)을 먼저 삭제해 orders FK 제약을 지킴
+	 * @return 이동한 주문 수
+	 */
+	public int archive(List<Long> orderIds, LocalDateTime archivedAt) {
+		var ids = Map.of("ids", orderIds);
+
+		var archived = jdbcTemplate.update(ARCHIVE_ORDERS_SQL, Map.of("ids", orderIds, "archivedAt", archivedAt));
+		jdbcTemplate.update(ARCHIVE_ORDER_PRODUCTS_SQL, ids);
+		jdbcTemplate.update(ARCHIVE_PAYMENTS_SQL, ids);
+
+		jdbcTemplate.update(DELETE_PAYMENTS_SQL, ids);
+		jdbcTemplate.update(DELETE_ORDER_PRODUCTS_SQL, ids);
+		jdbcTemplate.update(DELETE_ORDERS_SQL, ids);
+
+		return archived;
+	}
+}
@@ -0,0 +1,102 @@
+package com.kt.repository.order;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.kt.domain.order.OrderStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 자동 구매 확정용 JDBC 리포지토리
+ * - 후보 조회는 ID 키셋(id > :afterId ORDER BY id)으로 앞에서 처리한 구간을 다시 읽지 않음 (idx_orders_status_id)
+ * - lockDelivered/confirm은 같은 트랜잭션에서 호출해야 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderAutoConfirmJdbcRepository {
+	// 결제가 없는 주문은 적립 금액을 알 수 없으므로 제외
+	private static final String FIND_CANDIDATE_IDS_SQL = "SELECT o.id FROM orders o "
+			+ "WHERE o.status = :deliveredStatus AND o.id > :afterId AND o.delivered_at < :cutoff "
+			+ "AND EXISTS (SELECT 1 FROM payment p WHERE p.order_id = o.id) "
+			+ "ORDER BY o.id LIMIT :limit";
+
+	private static final String LOCK_DELIVERED_SQL = "SELECT id, user_id FROM orders "
+			+ "WHERE id IN (:ids) AND status = :deliveredStatus FOR UPDATE";
+
+	private static final String FIND_FINAL_PRICES_SQL = "SELECT order_id, final_price FROM payment WHERE order_id IN (:ids)";
+
+	private static final String CONFIRM_SQL = "UPDATE orders SET status = :confirmedStatus, updated_at = :now "
+			+ "WHERE id IN (:ids) AND status = :deliveredStatus";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public List<Long> findCandidateIds(LocalDateTime cutoff, Long afterId, int limit) {
+		return jdbcTemplate.queryForList(
+				FIND_CANDIDATE_IDS_SQL,
+				Map.of(
+						"deliveredStatus", OrderStatus.ORDER_DELIVERED.name(),
+						"afterId", afterId,
+						"cutoff", cutoff,
+						"limit", limit
+				),
+				Long.class
+		);
+	}
+
+	/**
+	 * 아직 배송 완료 상태인 주문을 잠그고 조회 (그 사이 직접 구매 확정/환불된 주문은 제외)
+	 */
+	public List<ConfirmTarget> lockDelivered(List<Long> orderIds) {
+		var rows = jdbcTemplate.query(
+				LOCK_DELIVERED_SQL,
+				Map.of("ids", orderIds, "deliveredStatus", OrderStatus.ORDER_DELIVERED.name()),
+				(rs, rowNum) -> new ConfirmTarget(rs.getLong("id"), rs.getLong("user_id"), null)
+		);
+
+		if (rows.isEmpty()) {
+			return rows;
+		}
+
+		Map<Long, Long> finalPrices = new HashMap<>();
+		jdbcTemplate.query(
+				FIND_FINAL_PRICES_SQL,
+				Map.of("ids", rows.stream().map(ConfirmTarget::orderId).toList()),
+				rs -> {
+					finalPrices.put(rs.getLong("order_id"), rs.getLong("final_price"));
+				}
+		);
+
+		return rows.stream()
+				.map(row -> new ConfirmTarget(row.orderId(), row.userId(), finalPrices.get(row.orderId())))
+				.toList();
+	}
+
+	/**
+	 * 배송 완료 주문을 한 번에 구매 확정으로 변경
+	 * @return 변경된 주문 수
+	 */
+	public int confirm(List<Long> orderIds, LocalDateTime now) {
+		return jdbcTemplate.update(
+				CONFIRM_SQL,
+				Map.of(
+						"ids", orderIds,
+						"confirmedStatus", OrderStatus.ORDER_CONFIRMED.name(),
+						"deliveredStatus", OrderStatus.ORDER_DELIVERED.name(),
+						"now", now
+				)
+		);
+	}
+
+	public record ConfirmTarget(
+			Long orderId,
+			Long userId,
+			Long finalPrice
+	) {
+	}
+}
@@ -15,9 +15,8 @@ import com.kt.domain.order.OrderStatus;
 import jakarta.validation.constraints.NotNull;
 
 public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
-	// 주문 목록 조회 (페이징)
+	// 주문 목록 조회 (페이징) - 목록은 주문 스냅샷만 사용하므로 주문 상품을 함께 조회하지 않음
 	@NotNull
-	@EntityGraph(attributePaths = {"orderProducts", "orderProducts.product"})
 	Page<Order> findAllByUserId(Long userId, Pageable pageable);
 
 	/**
@@ -34,13 +33,31 @@ public interface OrderRepository extends JpaRepository<Order, Long>, OrderReposi
 	@EntityGraph(attributePaths = {"orderProducts", "orderProducts.product", "user"})
 	Optional<Order> findByIdAndUserId(Long id, Long userId);
 
+    // 변경용 조회 - 보관된 주문은 종료 상태로 고정되어 있으므로 변경 요청을 거부
     default Order findByIdAndUserIdOrThrow(Long id, Long userId) {
         return findByIdAndUserId(id, userId)
-            .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_ORDER));
+            .orElseThrow(() -> existsArchivedByIdAndUserId(id, userId)
+                ? new CustomException(ErrorCode.INVALID_ORDER_STATUS)
+                : new CustomException(ErrorCode.NOT_FOUND_ORDER));
     }
 
     default Order findByOrderIdOrThrow(Long id) {
         return findById(id)
+            .orElseThrow(() -> existsArchivedById(id)
+                ? new CustomException(ErrorCode.INVALID_ORDER_STATUS)
+                : new CustomException(ErrorCode.NOT_FOUND_ORDER));
+    }
+
+    // 조회 전용 - 보관된 주문이면 아카이브에서 복원해 반환 (영속 상태가 아니므로 변경은 반영되지 않음)
+    default Order findByIdAndUserIdIncludingArchivedOrThrow(Long id, Long userId) {
+        return findByIdAndUserId(id, userId)
+            .or(() -> findArchivedByIdAndUserId(id, userId))
+            .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_ORDER));
+    }
+
+    default Order findByOrderIdIncludingArchivedOrThrow(Long id) {
+        return findById(id)
+            .or(() -> findArchivedById(id))
             .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_ORDER));
     }
 }
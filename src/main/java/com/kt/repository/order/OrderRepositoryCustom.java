@@ -1,14 +1,22 @@
 package com.kt.repository.order;
 
+import java.util.Optional;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import com.kt.domain.order.Order;
 import com.kt.dto.order.OrderResponse;
-import com.kt.dto.order.OrderSearchCondition;
 
 public interface OrderRepositoryCustom {
 	Page<OrderResponse.Search> search(String keyword, Pageable pageable);
 
-	Page<Order> findByConditions(OrderSearchCondition condition, Pageable pageable);
+	// 아카이브 테이블에서 주문 + 주문 상품을 조회해 Order로 복원
+	Optional<Order> findArchivedById(Long id);
+
+	Optional<Order> findArchivedByIdAndUserId(Long id, Long userId);
+
+	boolean existsArchivedById(Long id);
+
+	boolean existsArchivedByIdAndUserId(Long id, Long userId);
 }
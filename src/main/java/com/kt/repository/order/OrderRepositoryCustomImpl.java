@@ -1,26 +1,25 @@
 package com.kt.repository.order;
 
-import java.util.List;
+import java.util.Optional;
 
 import org.apache.logging.log4j.util.Strings;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import com.kt.domain.order.ArchivedOrder;
 import com.kt.domain.order.Order;
-import com.kt.domain.order.OrderStatus;
+import com.kt.domain.order.QArchivedOrder;
 import com.kt.domain.order.QOrder;
+import com.kt.domain.orderproduct.QArchivedOrderProduct;
 import com.kt.domain.orderproduct.QOrderProduct;
 import com.kt.domain.product.QProduct;
 import com.kt.domain.user.QUser;
 import com.kt.dto.order.OrderResponse;
-import com.kt.dto.order.OrderSearchCondition;
 import com.kt.dto.order.QOrderResponse_Search;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -33,6 +32,8 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
 	private final QOrderProduct orderProduct = QOrderProduct.orderProduct;
 	private final QProduct product = QProduct.product;
 	private final QUser user = QUser.user;
+	private final QArchivedOrder archivedOrder = QArchivedOrder.archivedOrder;
+	private final QArchivedOrderProduct archivedOrderProduct = QArchivedOrderProduct.archivedOrderProduct;
 
 	@Override
 	public Page<OrderResponse.Search> search(
@@ -64,56 +65,72 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
 				.limit(pageable.getPageSize())
 				.fetch();
 
-		var total = (long)jpaQueryFactory.select(order.id)
+		// 목록과 같은 조인 결과(주문 상품 행) 수를 DB에서 COUNT (ID를 모두 가져와 세지 않음)
+		var countQuery = jpaQueryFactory.select(orderProduct.count())
 				.from(order)
 				.join(orderProduct).on(orderProduct.order.id.eq(order.id))
 				.join(product).on(orderProduct.product.id.eq(product.id))
-				.where(booleanBuilder)
-				.fetch().size();
+				.where(booleanBuilder);
+
+		return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+	}
+
+	@Override
+	public Optional<Order> findArchivedById(Long id) {
+		var archived = jpaQueryFactory
+				.selectFrom(archivedOrder)
+				.where(archivedOrder.id.eq(id))
+				.fetchOne();
 
-		return new PageImpl<>(content, pageable, total);
+		return Optional.ofNullable(archived).map(this::restore);
 	}
 
 	@Override
-	public Page<Order> findByConditions(OrderSearchCondition condition, Pageable pageable) {
-		List<Order> content = jpaQueryFactory
-				.selectFrom(order)
-				.join(order.user, user).fetchJoin()
+	public Optional<Order> findArchivedByIdAndUserId(Long id, Long userId) {
+		var archived = jpaQueryFactory
+				.selectFrom(archivedOrder)
 				.where(
-						eqUsername(condition.username()),
-						eqReceiverName(condition.receiverName()),
-						eqStatus(condition.status())
+						archivedOrder.id.eq(id),
+						archivedOrder.user.id.eq(userId)
 				)
-				.offset(pageable.getOffset())
-				.limit(pageable.getPageSize())
-				.orderBy(order.id.desc())
-				.fetch();
+				.fetchOne();
 
-		JPAQuery<Long> countQuery = jpaQueryFactory
-				.select(order.count())
-				.from(order)
-				.where(
-						eqUsername(condition.username()),
-						eqReceiverName(condition.receiverName()),
-						eqStatus(condition.status())
-				);
-		
-		return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+		return Optional.ofNullable(archived).map(this::restore);
 	}
 
-	private BooleanExpression containsProductName(String keyword) {
-		return Strings.isNotBlank(keyword) ? product.name.containsIgnoreCase(keyword) : null;
+	@Override
+	public boolean existsArchivedById(Long id) {
+		return jpaQueryFactory
+				.selectOne()
+				.from(archivedOrder)
+				.where(archivedOrder.id.eq(id))
+				.fetchFirst() != null;
 	}
 
-	private BooleanExpression eqUsername(String username) {
-		return Strings.isNotBlank(username) ? user.name.eq(username) : null;
+	@Override
+	public boolean existsArchivedByIdAndUserId(Long id, Long userId) {
+		return jpaQueryFactory
+				.selectOne()
+				.from(archivedOrder)
+				.where(
+						archivedOrder.id.eq(id),
+						archivedOrder.user.id.eq(userId)
+				)
+				.fetchFirst() != null;
 	}
 
-	private BooleanExpression eqReceiverName(String receiverName) {
-		return Strings.isNotBlank(receiverName) ? order.receiver.name.eq(receiverName) : null;
+	private Order restore(ArchivedOrder archived) {
+		var items = jpaQueryFactory
+				.selectFrom(archivedOrderProduct)
+				.join(archivedOrderProduct.product).fetchJoin()
+				.where(archivedOrderProduct.orderId.eq(archived.getId()))
+				.orderBy(archivedOrderProduct.id.asc())
+				.fetch();
+
+		return Order.restore(archived, items);
 	}
 
-	private BooleanExpression eqStatus(OrderStatus status) {
-		return status != null ? order.status.eq(status) : null;
+	private BooleanExpression containsProductName(String keyword) {
+		return Strings.isNotBlank(keyword) ? product.name.containsIgnoreCase(keyword) : null;
 	}
-}
\ No newline at end of file
+}
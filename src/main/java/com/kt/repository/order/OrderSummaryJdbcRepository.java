@@ -0,0 +1,90 @@
+package com.kt.repository.order;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.kt.domain.order.OrderSummaryWriter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 요약 읽기 모델 쓰기용 JDBC 리포지토리
+ * - 주문 행을 기준으로 INSERT ... SELECT 하므로 호출 시점에 orders 행이 먼저 반영되어 있어야 함
+ * - 스냅샷 컬럼이 없는 이전 주문은 주문 상품으로 대표 상품명/상품 수/총액을 계산
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderSummaryJdbcRepository implements OrderSummaryWriter {
+	private static final String INSERT_FROM_ORDERS_SQL = "INSERT INTO order_summary "
+			+ "(order_id, user_id, username, receiver_name, first_product_name, product_count, total_price, status, created_at) "
+			+ "SELECT o.id, o.user_id, u.name, o.receiver_name, "
+			+ "COALESCE(o.first_product_name, (SELECT p.name FROM order_product op JOIN product p ON p.id = op.product_id "
+			+ "WHERE op.order_id = o.id ORDER BY op.id LIMIT 1)), "
+			+ "COALESCE(o.product_count, (SELECT COUNT(*) FROM order_product op WHERE op.order_id = o.id)), "
+			+ "COALESCE(o.total_price, (SELECT COALESCE(SUM(COALESCE(op.line_total, p.price * op.quantity)), 0) "
+			+ "FROM order_product op JOIN product p ON p.id = op.product_id WHERE op.order_id = o.id)), "
+			+ "o.status, o.created_at "
+			+ "FROM orders o JOIN users u ON u.id = o.user_id ";
+
+	private static final String INSERT_SQL = INSERT_FROM_ORDERS_SQL + "WHERE o.id = ?";
+
+	private static final String BACKFILL_SQL = INSERT_FROM_ORDERS_SQL
+			+ "WHERE NOT EXISTS (SELECT 1 FROM order_summary s WHERE s.order_id = o.id)";
+
+	private static final String UPDATE_SQL = "UPDATE order_summary SET status = ?, receiver_name = ? WHERE order_id = ?";
+
+	private static final String UPDATE_STATUS_SQL = "UPDATE order_summary SET status = ? WHERE order_id = ?";
+
+	private static final String DELETE_SQL = "DELETE FROM order_summary WHERE order_id = ?";
+
+	private static final String UPDATE_USERNAME_SQL = "UPDATE order_summary SET username = ? WHERE user_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void insert(Long orderId) {
+		jdbcTemplate.update(INSERT_SQL, orderId);
+	}
+
+	/**
+	 * 주문 상태/수령인 변경 반영 (요약이 없는 이전 주문이면 새로 생성)
+	 * - JDBC batch 사용 시 orders UPDATE가 아직 실행되지 않았을 수 있어, 생성 후 전달받은 값으로 다시 갱신
+	 */
+	@Override
+	public void update(Long orderId, String status, String receiverName) {
+		if (jdbcTemplate.update(UPDATE_SQL, status, receiverName, orderId) == 0) {
+			insert(orderId);
+			jdbcTemplate.update(UPDATE_SQL, status, receiverName, orderId);
+		}
+	}
+
+	/**
+	 * 여러 주문의 상태 변경을 한 번에 반영 (JDBC로 orders를 일괄 변경해 엔티티 리스너가 호출되지 않는 경우)
+	 * - 요약이 없는 이전 주문은 백필 시 현재 상태로 생성됨
+	 */
+	public void updateStatus(List<Long> orderIds, String status) {
+		jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, orderIds, orderIds.size(), (ps, orderId) -> {
+			ps.setString(1, status);
+			ps.setLong(2, orderId);
+		});
+	}
+
+	@Override
+	public void delete(Long orderId) {
+		jdbcTemplate.update(DELETE_SQL, orderId);
+	}
+
+	public void updateUsername(Long userId, String username) {
+		jdbcTemplate.update(UPDATE_USERNAME_SQL, username, userId);
+	}
+
+	/**
+	 * 요약이 없는 주문을 한 번에 생성
+	 * @return 생성한 요약 수
+	 */
+	public int backfill() {
+		return jdbcTemplate.update(BACKFILL_SQL);
+	}
+}
@@ -0,0 +1,12 @@
+package com.kt.repository.order;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.kt.domain.order.OrderSummary;
+
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long>, OrderSummaryRepositoryCustom {
+	// 사용자 주문 목록 (idx_order_summary_user_id_created_at)
+	Page<OrderSummary> findAllByUserId(Long userId, Pageable pageable);
+}
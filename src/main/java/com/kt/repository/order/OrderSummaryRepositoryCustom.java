@@ -0,0 +1,19 @@
+package com.kt.repository.order;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+
+import com.kt.common.request.CursorPaging;
+import com.kt.domain.order.OrderSummary;
+import com.kt.dto.order.OrderSearchCondition;
+
+public interface OrderSummaryRepositoryCustom {
+	// 목록만 조회 (전체 건수는 countByConditions로 별도 조회)
+	List<OrderSummary> findByConditions(OrderSearchCondition condition, Pageable pageable);
+
+	long countByConditions(OrderSearchCondition condition);
+
+	// 사용자 주문 목록 커서 조회 (createdAt DESC, orderId DESC), size + 1건 반환
+	List<OrderSummary> findAllByUserIdAfter(Long userId, CursorPaging paging);
+}
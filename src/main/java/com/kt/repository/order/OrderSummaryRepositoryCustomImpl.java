@@ -0,0 +1,88 @@
+package com.kt.repository.order;
+
+import java.util.List;
+
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import com.kt.common.request.CursorPaging;
+import com.kt.common.support.Cursor;
+import com.kt.common.support.CursorConditions;
+import com.kt.domain.order.OrderStatus;
+import com.kt.domain.order.OrderSummary;
+import com.kt.domain.order.QOrderSummary;
+import com.kt.dto.order.OrderSearchCondition;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderSummaryRepositoryCustomImpl implements OrderSummaryRepositoryCustom {
+	private final JPAQueryFactory jpaQueryFactory;
+	private final QOrderSummary orderSummary = QOrderSummary.orderSummary;
+
+	// 관리자 주문 목록 - users 조인 없이 요약 테이블만 조회
+	@Override
+	public List<OrderSummary> findByConditions(OrderSearchCondition condition, Pageable pageable) {
+		return jpaQueryFactory
+				.selectFrom(orderSummary)
+				.where(
+						eqUsername(condition.username()),
+						eqReceiverName(condition.receiverName()),
+						eqStatus(condition.status())
+				)
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize())
+				.orderBy(orderSummary.orderId.desc())
+				.fetch();
+	}
+
+	@Override
+	public long countByConditions(OrderSearchCondition condition) {
+		Long total = jpaQueryFactory
+				.select(orderSummary.count())
+				.from(orderSummary)
+				.where(
+						eqUsername(condition.username()),
+						eqReceiverName(condition.receiverName()),
+						eqStatus(condition.status())
+				)
+				.fetchOne();
+
+		return total != null ? total : 0L;
+	}
+
+	// OFFSET/COUNT 없이 (user_id, created_at) 인덱스를 따라 커서 다음 행부터 조회
+	@Override
+	public List<OrderSummary> findAllByUserIdAfter(Long userId, CursorPaging paging) {
+		return jpaQueryFactory
+				.selectFrom(orderSummary)
+				.where(
+						orderSummary.userId.eq(userId),
+						CursorConditions.afterDesc(
+								orderSummary.createdAt,
+								orderSummary.orderId,
+								paging.toCursor(),
+								Cursor::keyAsDateTime
+						)
+				)
+				.orderBy(orderSummary.createdAt.desc(), orderSummary.orderId.desc())
+				.limit(paging.fetchSize())
+				.fetch();
+	}
+
+	private BooleanExpression eqUsername(String username) {
+		return Strings.isNotBlank(username) ? orderSummary.username.eq(username) : null;
+	}
+
+	private BooleanExpression eqReceiverName(String receiverName) {
+		return Strings.isNotBlank(receiverName) ? orderSummary.receiverName.eq(receiverName) : null;
+	}
+
+	private BooleanExpression eqStatus(OrderStatus status) {
+		return status != null ? orderSummary.status.eq(status) : null;
+	}
+}
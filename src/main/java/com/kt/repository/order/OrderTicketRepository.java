@@ -0,0 +1,40 @@
+package com.kt.repository.order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.domain.order.OrderTicket;
+import com.kt.domain.order.OrderTicketStatus;
+
+public interface OrderTicketRepository extends JpaRepository<OrderTicket, Long> {
+	// 재시도 시각이 된 티켓만 (재시도 대기 중인 티켓이 뒤 티켓을 막지 않도록)
+	@Query("SELECT t.id FROM OrderTicket t WHERE t.status = :status AND t.nextAttemptAt <= :now ORDER BY t.nextAttemptAt, t.id")
+	List<Long> findDueIdsByStatus(
+			@Param("status") OrderTicketStatus status,
+			@Param("now") LocalDateTime now,
+			Limit limit
+	);
+
+	// 앞서 접수된 대기 티켓 수 (대기 순번 계산용)
+	long countByStatusAndIdLessThan(OrderTicketStatus status, Long id);
+
+	Optional<OrderTicket> findByIdAndUserId(Long id, Long userId);
+
+	default OrderTicket findByIdAndUserIdOrThrow(Long id, Long userId) {
+		return findByIdAndUserId(id, userId)
+				.orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_ORDER_TICKET));
+	}
+
+	default OrderTicket findByIdOrThrow(Long id) {
+		return findById(id)
+				.orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_ORDER_TICKET));
+	}
+}
@@ -0,0 +1,48 @@
+package com.kt.repository.orderproduct;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.kt.common.support.Snowflake;
+import com.kt.domain.product.Product;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 상품 일괄 저장용 JDBC 리포지토리
+ * 주문 생성 시 엔티티 생성/변경감지 없이 batch INSERT로 직접 저장 (ID는 엔티티와 같은 Snowflake로 발급)
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderProductJdbcRepository {
+	private static final String INSERT_SQL =
+			"INSERT INTO order_product (id, order_id, product_id, quantity, unit_price, line_total, created_at, updated_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 주문 시점 상품 가격으로 단가/금액 스냅샷을 함께 저장
+	 * @param quantities 상품ID -> 주문 수량
+	 */
+	public void saveAll(Long orderId, List<Product> products, Map<Long, Long> quantities) {
+		var now = Timestamp.valueOf(LocalDateTime.now());
+
+		List<Object[]> args = new ArrayList<>(products.size());
+		products.forEach(product -> {
+			var quantity = quantities.get(product.getId());
+			args.add(new Object[] {
+					Snowflake.nextId(), orderId, product.getId(), quantity,
+					product.getPrice(), product.getPrice() * quantity, now, now
+			});
+		});
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, args);
+	}
+}
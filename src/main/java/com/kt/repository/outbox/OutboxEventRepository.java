@@ -0,0 +1,27 @@
+package com.kt.repository.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.kt.domain.outbox.OutboxEvent;
+import com.kt.domain.outbox.OutboxEventStatus;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+	@Query("SELECT e.id FROM OutboxEvent e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id")
+	List<Long> findDispatchableIds(
+			@Param("status") OutboxEventStatus status,
+			@Param("now") LocalDateTime now,
+			Limit limit);
+
+	@Modifying
+	@Query("DELETE FROM OutboxEvent e WHERE e.status = :status AND e.createdAt < :before")
+	int deleteByStatusAndCreatedAtBefore(
+			@Param("status") OutboxEventStatus status,
+			@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,282 @@
+package com.kt.repository.point;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.kt.common.support.Snowflake;
+import com.kt.domain.point.PointCampaignSegment;
+import com.kt.domain.point.PointCampaignStatus;
+import com.kt.domain.point.PointCampaignTargetStatus;
+import com.kt.domain.user.Role;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포인트 캠페인 진행용 JDBC 리포지토리
+ * - 대상은 사용자 ID 키셋으로 읽고 JDBC batch로 적재 (idx_point_campaign_targets_campaign_id_status_user_id)
+ * - 집계는 청크 트랜잭션에서 상대값으로 더하므로 병렬 청크끼리 값을 덮어쓰지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointCampaignJdbcRepository {
+	private static final String FIND_ACTIVE_ID_SQL = "SELECT id FROM point_campaigns WHERE status IN (:statuses) "
+			+ "ORDER BY id LIMIT 1";
+
+	private static final String FIND_SEGMENT_USER_IDS_SQL = "SELECT id FROM users "
+			+ "WHERE deleted = false AND role = :role AND id > :afterId";
+
+	private static final String INSERT_TARGET_SQL = "INSERT INTO point_campaign_targets "
+			+ "(id, campaign_id, user_id, status, created_at, updated_at) "
+			+ "VALUES (:id, :campaignId, :userId, :status, :now, :now)";
+
+	private static final String ADD_PREPARED_SQL = "UPDATE point_campaigns SET prepared_user_id = :lastUserId, "
+			+ "target_count = target_count + :added, updated_at = :now WHERE id = :campaignId";
+
+	private static final String START_SQL = "UPDATE point_campaigns SET status = :running, started_at = :now, "
+			+ "updated_at = :now WHERE id = :campaignId AND status = :preparing";
+
+	private static final String FIND_TARGET_USER_IDS_SQL = "SELECT user_id FROM point_campaign_targets "
+			+ "WHERE campaign_id = :campaignId AND status = :status AND user_id > :afterId ORDER BY user_id LIMIT :limit";
+
+	private static final String LOCK_PENDING_SQL = "SELECT user_id FROM point_campaign_targets "
+			+ "WHERE campaign_id = :campaignId AND user_id IN (:userIds) AND status = :status ORDER BY user_id FOR UPDATE";
+
+	private static final String FIND_EXISTING_USER_IDS_SQL = "SELECT id FROM users WHERE id IN (:userIds) AND deleted = false";
+
+	private static final String FIND_GRANTED_USER_IDS_SQL = "SELECT user_id FROM point_histories "
+			+ "WHERE related_id = :campaignId AND related_type = :relatedType AND type = :type AND user_id IN (:userIds)";
+
+	private static final String MARK_TARGETS_SQL = "UPDATE point_campaign_targets SET status = :status, "
+			+ "failure_reason = :failureReason, updated_at = :now "
+			+ "WHERE campaign_id = :campaignId AND user_id IN (:userIds) AND status = :from";
+
+	private static final String ADD_COUNTS_SQL = "UPDATE point_campaigns SET granted_count = granted_count + :granted, "
+			+ "skipped_count = skipped_count + :skipped, failed_count = failed_count + :failed, updated_at = :now "
+			+ "WHERE id = :campaignId";
+
+	private static final String COMPLETE_SQL = "UPDATE point_campaigns SET status = :completed, completed_at = :now, "
+			+ "updated_at = :now WHERE id = :campaignId AND status = :running "
+			+ "AND NOT EXISTS (SELECT 1 FROM point_campaign_targets WHERE campaign_id = :campaignId AND status = :pending)";
+
+	private static final String RETRY_SQL = "UPDATE point_campaigns SET status = :running, failed_count = 0, "
+			+ "completed_at = NULL, updated_at = :now WHERE id = :campaignId AND status = :completed AND failed_count > 0";
+
+	private static final String RETRY_TARGETS_SQL = "UPDATE point_campaign_targets SET status = :pending, "
+			+ "failure_reason = NULL, updated_at = :now WHERE campaign_id = :campaignId AND status = :failed";
+
+	private static final String FIND_FAILURES_SQL = "SELECT user_id, failure_reason FROM point_campaign_targets "
+			+ "WHERE campaign_id = :campaignId AND status = :status AND user_id > :afterId ORDER BY user_id LIMIT :limit";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * 먼저 생성된 진행 중 캠페인 (한 번에 하나씩 처리)
+	 */
+	public Optional<Long> findActiveId() {
+		return jdbcTemplate.queryForList(
+				FIND_ACTIVE_ID_SQL,
+				Map.of("statuses", List.of(PointCampaignStatus.PREPARING.name(), PointCampaignStatus.RUNNING.name())),
+				Long.class
+		).stream().findFirst();
+	}
+
+	/**
+	 * 조건을 만족하는 고객 ID를 afterId 다음부터 ID 순으로 조회
+	 */
+	public List<Long> findSegmentUserIds(PointCampaignSegment segment, long afterId, int limit) {
+		var sql = new StringBuilder(FIND_SEGMENT_USER_IDS_SQL);
+		var params = new MapSqlParameterSource()
+				.addValue("role", Role.CUSTOMER.name())
+				.addValue("afterId", afterId)
+				.addValue("limit", limit);
+
+		if (segment.gender() != null) {
+			sql.append(" AND gender = :gender");
+			params.addValue("gender", segment.gender().name());
+		}
+		if (segment.joinedFrom() != null) {
+			sql.append(" AND created_at >= :joinedFrom");
+			params.addValue("joinedFrom", segment.joinedFrom().atStartOfDay());
+		}
+		if (segment.joinedTo() != null) {
+			sql.append(" AND created_at < :joinedTo");
+			params.addValue("joinedTo", segment.joinedTo().plusDays(1).atStartOfDay());
+		}
+		if (segment.bornFrom() != null) {
+			sql.append(" AND birthday >= :bornFrom");
+			params.addValue("bornFrom", segment.bornFrom());
+		}
+		if (segment.bornTo() != null) {
+			sql.append(" AND birthday <= :bornTo");
+			params.addValue("bornTo", segment.bornTo());
+		}
+
+		sql.append(" ORDER BY id LIMIT :limit");
+
+		return jdbcTemplate.queryForList(sql.toString(), params, Long.class);
+	}
+
+	/**
+	 * 지급 대상 적재 (중복 없는 사용자 ID만 넘겨야 함)
+	 */
+	public void insertTargets(Long campaignId, List<Long> userIds) {
+		var now = LocalDateTime.now();
+		var params = userIds.stream()
+				.map(userId -> new MapSqlParameterSource()
+						.addValue("id", Snowflake.nextId())
+						.addValue("campaignId", campaignId)
+						.addValue("userId", userId)
+						.addValue("status", PointCampaignTargetStatus.PENDING.name())
+						.addValue("now", now))
+				.toArray(MapSqlParameterSource[]::new);
+
+		jdbcTemplate.batchUpdate(INSERT_TARGET_SQL, params);
+	}
+
+	public void addPrepared(Long campaignId, long lastUserId, int added) {
+		jdbcTemplate.update(ADD_PREPARED_SQL, Map.of(
+				"campaignId", campaignId,
+				"lastUserId", lastUserId,
+				"added", added,
+				"now", LocalDateTime.now()
+		));
+	}
+
+	/**
+	 * 대상 적재가 끝난 캠페인을 지급 단계로
+	 */
+	public void start(Long campaignId) {
+		jdbcTemplate.update(START_SQL, Map.of(
+				"campaignId", campaignId,
+				"running", PointCampaignStatus.RUNNING.name(),
+				"preparing", PointCampaignStatus.PREPARING.name(),
+				"now", LocalDateTime.now()
+		));
+	}
+
+	/**
+	 * 지정 상태의 대상을 afterId 다음부터 사용자 ID 순으로 조회
+	 */
+	public List<Long> findTargetUserIds(Long campaignId, PointCampaignTargetStatus status, long afterId, int limit) {
+		return jdbcTemplate.queryForList(
+				FIND_TARGET_USER_IDS_SQL,
+				Map.of("campaignId", campaignId, "status", status.name(), "afterId", afterId, "limit", limit),
+				Long.class
+		);
+	}
+
+	/**
+	 * 아직 지급 대기인 대상만 잠금 조회
+	 */
+	public List<Long> lockPending(Long campaignId, Collection<Long> userIds) {
+		return jdbcTemplate.queryForList(
+				LOCK_PENDING_SQL,
+				Map.of("campaignId", campaignId, "userIds", userIds, "status", PointCampaignTargetStatus.PENDING.name()),
+				Long.class
+		);
+	}
+
+	/**
+	 * 탈퇴하지 않은 사용자 ID
+	 */
+	public List<Long> findExistingUserIds(Collection<Long> userIds) {
+		return jdbcTemplate.queryForList(FIND_EXISTING_USER_IDS_SQL, Map.of("userIds", userIds), Long.class);
+	}
+
+	/**
+	 * 이 캠페인 포인트 이력이 이미 있는 사용자 ID (uk_point_histories_related)
+	 */
+	public List<Long> findGrantedUserIds(Long campaignId, String relatedType, String type, Collection<Long> userIds) {
+		return jdbcTemplate.queryForList(
+				FIND_GRANTED_USER_IDS_SQL,
+				Map.of("campaignId", campaignId, "relatedType", relatedType, "type", type, "userIds", userIds),
+				Long.class
+		);
+	}
+
+	public int markTargets(Long campaignId, Collection<Long> userIds, PointCampaignTargetStatus from,
+			PointCampaignTargetStatus to, String failureReason) {
+		var params = new MapSqlParameterSource()
+				.addValue("campaignId", campaignId)
+				.addValue("userIds", userIds)
+				.addValue("from", from.name())
+				.addValue("status", to.name())
+				.addValue("failureReason", failureReason)
+				.addValue("now", LocalDateTime.now());
+
+		return jdbcTemplate.update(MARK_TARGETS_SQL, params);
+	}
+
+	public void addCounts(Long campaignId, int granted, int skipped, int failed) {
+		jdbcTemplate.update(ADD_COUNTS_SQL, Map.of(
+				"campaignId", campaignId,
+				"granted", granted,
+				"skipped", skipped,
+				"failed", failed,
+				"now", LocalDateTime.now()
+		));
+	}
+
+	/**
+	 * 지급 대기 대상이 남지 않았으면 완료
+	 */
+	public void complete(Long campaignId) {
+		jdbcTemplate.update(COMPLETE_SQL, Map.of(
+				"campaignId", campaignId,
+				"completed", PointCampaignStatus.COMPLETED.name(),
+				"running", PointCampaignStatus.RUNNING.name(),
+				"pending", PointCampaignTargetStatus.PENDING.name(),
+				"now", LocalDateTime.now()
+		));
+	}
+
+	/**
+	 * 실패 대상이 있는 완료 캠페인을 다시 지급 단계로 (실패 대상은 지급 대기로 되돌림)
+	 * @return 바뀐 캠페인 수 (0이면 재시도할 수 없는 상태)
+	 */
+	public int retry(Long campaignId) {
+		var now = LocalDateTime.now();
+		var updated = jdbcTemplate.update(RETRY_SQL, Map.of(
+				"campaignId", campaignId,
+				"running", PointCampaignStatus.RUNNING.name(),
+				"completed", PointCampaignStatus.COMPLETED.name(),
+				"now", now
+		));
+
+		if (updated > 0) {
+			jdbcTemplate.update(RETRY_TARGETS_SQL, Map.of(
+					"campaignId", campaignId,
+					"pending", PointCampaignTargetStatus.PENDING.name(),
+					"failed", PointCampaignTargetStatus.FAILED.name(),
+					"now", now
+			));
+		}
+
+		return updated;
+	}
+
+	/**
+	 * 지급 실패 대상을 afterId 다음부터 사용자 ID 순으로 조회
+	 */
+	public List<Failure> findFailures(Long campaignId, long afterId, int limit) {
+		return jdbcTemplate.query(
+				FIND_FAILURES_SQL,
+				Map.of("campaignId", campaignId, "status", PointCampaignTargetStatus.FAILED.name(), "afterId", afterId,
+						"limit", limit),
+				(rs, rowNum) -> new Failure(rs.getLong("user_id"), rs.getString("failure_reason"))
+		);
+	}
+
+	public record Failure(
+			Long userId,
+			String failureReason
+	) {
+	}
+}
@@ -0,0 +1,14 @@
+package com.kt.repository.point;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.domain.point.PointCampaign;
+
+public interface PointCampaignRepository extends JpaRepository<PointCampaign, Long> {
+	default PointCampaign findByIdOrThrow(Long id) {
+		return findById(id)
+				.orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_POINT_CAMPAIGN));
+	}
+}
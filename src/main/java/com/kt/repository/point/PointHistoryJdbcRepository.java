@@ -0,0 +1,92 @@
+package com.kt.repository.point;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.kt.domain.point.PointHistory;
+import com.kt.domain.point.PointHistoryType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포인트 이력 저장용 JDBC 리포지토리
+ * - 중복 지급/회수 방지를 uk_point_histories_related 유니크 키에 맡기고, 위반은 false로 돌려줌
+ * - JPA flush가 아닌 즉시 INSERT이므로 중복을 호출 시점에 알 수 있고,
+ *   실패한 문장만 취소되어 호출 측 트랜잭션/영속성 컨텍스트는 계속 사용 가능
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointHistoryJdbcRepository {
+	private static final String INSERT_SQL = "INSERT INTO point_histories "
+			+ "(id, user_id, type, change_amount, remaining_points, description, related_id, related_type, created_at, updated_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @param id Snowflake ID
+	 * @return 같은 연관 엔티티/타입의 이력이 이미 있으면 false
+	 */
+	public boolean insert(long id, PointHistory history) {
+		var now = Timestamp.valueOf(LocalDateTime.now());
+
+		try {
+			jdbcTemplate.update(
+					INSERT_SQL,
+					id,
+					history.getUser().getId(),
+					history.getType().name(),
+					history.getChangeAmount(),
+					history.getRemainingPoints(),
+					history.getDescription(),
+					history.getRelatedId(),
+					history.getRelatedType(),
+					now,
+					now
+			);
+			return true;
+		} catch (DuplicateKeyException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * 여러 이력을 한 번에 저장 (JDBC batch, rewriteBatchedStatements로 multi-row INSERT)
+	 * - 중복 검사가 필요 없는 이력만 (하나라도 중복이면 DuplicateKeyException)
+	 */
+	public void insertAll(List<Row> rows) {
+		var now = Timestamp.valueOf(LocalDateTime.now());
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, rows.stream()
+				.map(row -> new Object[] {
+						row.id(),
+						row.userId(),
+						row.type().name(),
+						row.changeAmount(),
+						row.remainingPoints(),
+						row.description(),
+						row.relatedId(),
+						row.relatedType(),
+						now,
+						now
+				})
+				.toList());
+	}
+
+	public record Row(
+			long id,
+			Long userId,
+			PointHistoryType type,
+			long changeAmount,
+			long remainingPoints,
+			String description,
+			Long relatedId,
+			String relatedType
+	) {
+	}
+}
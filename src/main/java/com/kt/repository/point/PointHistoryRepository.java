@@ -1,7 +1,9 @@
 package com.kt.repository.point;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -22,6 +24,18 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, Long
 			@Param("endDate") LocalDateTime endDate,
 			Pageable pageable);
 
+	/**
+	 * 사용자 포인트 이력 커서 조회 (기간 필터링)
+	 * Snowflake ID가 생성 순서이므로 ID만으로 최신순 키셋 조회, COUNT 쿼리 없음
+	 */
+	@Query("SELECT ph FROM PointHistory ph JOIN FETCH ph.user WHERE ph.user.id = :userId "
+			+ "AND ph.createdAt BETWEEN :startDate AND :endDate AND ph.id < :cursorId ORDER BY ph.id DESC")
+	List<PointHistory> findByUserIdAndCreatedAtBetweenAndIdLessThan(@Param("userId") Long userId,
+			@Param("startDate") LocalDateTime startDate,
+			@Param("endDate") LocalDateTime endDate,
+			@Param("cursorId") Long cursorId,
+			Limit limit);
+
 	/**
 	 * 사용자 전체 포인트 이력 조회 (관리자용)
 	 * N+1 문제 방지를 위해 fetch join 사용
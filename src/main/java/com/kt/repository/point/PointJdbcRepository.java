@@ -0,0 +1,106 @@
+package com.kt.repository.point;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.kt.domain.point.PointBalance;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 사용자의 포인트 잔액을 한 번에 바꾸는 JDBC 리포지토리 (일괄 변경)
+ * - available_points를 상대값으로 갱신하고 version을 올려, 같은 행을 읽어 둔 JPA 트랜잭션은 낙관적 락 충돌로 재시도하게 함
+ * - 호출 측은 교착을 피하도록 사용자 ID 오름차순으로 넘김
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointJdbcRepository {
+	private static final String ADD_SQL = "UPDATE points SET available_points = available_points + :amount, "
+			+ "version = version + 1, last_history_id = :lastHistoryId, updated_at = :now WHERE user_id = :userId";
+
+	// 이미 있는 행은 그대로 두는 INSERT (NOT EXISTS 서브쿼리는 REPEATABLE READ에서 user_id 갭에 공유 락을 잡아
+	// 인접한 사용자 범위를 처리하는 청크끼리 INSERT 시 교착됨)
+	private static final String CREATE_IF_ABSENT_SQL = "INSERT INTO points "
+			+ "(created_at, updated_at, available_points, version, user_id, last_history_id) "
+			+ "VALUES (:now, :now, 0, 0, :userId, 0) "
+			+ "ON DUPLICATE KEY UPDATE user_id = user_id";
+
+	private static final String UPSERT_SQL = "INSERT INTO points "
+			+ "(created_at, updated_at, available_points, version, user_id, last_history_id) "
+			+ "VALUES (:now, :now, :amount, 0, :userId, :lastHistoryId) "
+			+ "ON DUPLICATE KEY UPDATE available_points = available_points + VALUES(available_points), "
+			+ "version = version + 1, last_history_id = VALUES(last_history_id), updated_at = VALUES(updated_at)";
+
+	private static final String FIND_BALANCES_SQL = "SELECT user_id, version, available_points FROM points "
+			+ "WHERE user_id IN (:userIds)";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * 포인트 정보가 없는 사용자의 행을 잔액 0으로 생성 (이미 있으면 변경 없음)
+	 */
+	public void createAllIfAbsent(Collection<Long> userIds) {
+		var now = LocalDateTime.now();
+		var params = userIds.stream()
+				.map(userId -> new MapSqlParameterSource()
+						.addValue("userId", userId)
+						.addValue("now", now))
+				.toArray(MapSqlParameterSource[]::new);
+
+		jdbcTemplate.batchUpdate(CREATE_IF_ABSENT_SQL, params);
+	}
+
+	public void addAll(List<Delta> deltas) {
+		jdbcTemplate.batchUpdate(ADD_SQL, params(deltas));
+	}
+
+	/**
+	 * 포인트 정보가 없는 사용자는 변동 금액으로 행을 생성하고, 있으면 addAll과 같이 상대값으로 갱신 (UPSERT)
+	 */
+	public void upsertAll(List<Delta> deltas) {
+		jdbcTemplate.batchUpdate(UPSERT_SQL, params(deltas));
+	}
+
+	/**
+	 * 사용자별 잔액과 버전 (포인트 정보가 없는 사용자는 제외)
+	 */
+	public Map<Long, PointBalance> findBalances(Collection<Long> userIds) {
+		var balances = new HashMap<Long, PointBalance>();
+
+		jdbcTemplate.query(FIND_BALANCES_SQL, Map.of("userIds", userIds), rs -> {
+			balances.put(rs.getLong("user_id"), new PointBalance(rs.getLong("version"), rs.getLong("available_points")));
+		});
+
+		return balances;
+	}
+
+	private MapSqlParameterSource[] params(List<Delta> deltas) {
+		var now = LocalDateTime.now();
+
+		return deltas.stream()
+				.map(delta -> new MapSqlParameterSource()
+						.addValue("userId", delta.userId())
+						.addValue("amount", delta.amount())
+						.addValue("lastHistoryId", delta.lastHistoryId())
+						.addValue("now", now))
+				.toArray(MapSqlParameterSource[]::new);
+	}
+
+	/**
+	 * @param amount 변동 금액 합계
+	 * @param lastHistoryId 이번 변경으로 저장한 마지막 이력 ID
+	 */
+	public record Delta(
+			Long userId,
+			long amount,
+			long lastHistoryId
+	) {
+	}
+}
@@ -0,0 +1,147 @@
+package com.kt.repository.point;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포인트 원장 모드용 JDBC 리포지토리
+ * - points 행은 last_history_id까지의 잔액 스냅샷, 그 이후 point_histories 행이 원장 항목
+ * - 잔액 = 스냅샷 + 이후 이력 합계 (idx_point_histories_user_id_id)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerJdbcRepository {
+	// 한 문장으로 읽어 스냅샷 압축과 동시에 실행돼도 같은 이력을 두 번 더하거나 빠뜨리지 않음
+	private static final String BALANCE_SQL = "SELECT p.available_points + COALESCE(("
+			+ "SELECT SUM(h.change_amount) FROM point_histories h "
+			+ "WHERE h.user_id = p.user_id AND h.id > p.last_history_id), 0) "
+			+ "FROM points p WHERE p.user_id = :userId";
+
+	private static final String BALANCES_SQL = "SELECT p.user_id, p.available_points + COALESCE(("
+			+ "SELECT SUM(h.change_amount) FROM point_histories h "
+			+ "WHERE h.user_id = p.user_id AND h.id > p.last_history_id), 0) AS balance "
+			+ "FROM points p WHERE p.user_id IN (:userIds)";
+
+	private static final String LOCK_SNAPSHOT_SQL = "SELECT available_points, last_history_id FROM points "
+			+ "WHERE user_id = :userId FOR UPDATE";
+
+	private static final String LOCK_ENTRIES_SQL = "SELECT change_amount FROM point_histories "
+			+ "WHERE user_id = :userId AND id > :lastHistoryId FOR UPDATE";
+
+	private static final String CREATE_IF_ABSENT_SQL = "INSERT INTO points "
+			+ "(created_at, updated_at, available_points, version, user_id, last_history_id) "
+			+ "VALUES (:now, :now, 0, 0, :userId, 0) "
+			+ "ON DUPLICATE KEY UPDATE user_id = user_id";
+
+	// 행 모드에서 쓰던 포인트는 잔액에 모든 이력이 반영되어 있음
+	private static final String FILL_LAST_HISTORY_ID_SQL = "UPDATE points SET last_history_id = COALESCE(("
+			+ "SELECT MAX(h.id) FROM point_histories h WHERE h.user_id = points.user_id), 0) "
+			+ "WHERE last_history_id IS NULL";
+
+	private static final String FIND_ENTRIES_SQL = "SELECT id, user_id FROM point_histories "
+			+ "WHERE id > :afterId AND id <= :boundaryId ORDER BY id LIMIT :limit";
+
+	private static final String COMPACT_SQL = "UPDATE points SET available_points = available_points + COALESCE(("
+			+ "SELECT SUM(h.change_amount) FROM point_histories h "
+			+ "WHERE h.user_id = points.user_id AND h.id > points.last_history_id AND h.id <= :boundaryId), 0), "
+			+ "last_history_id = :boundaryId, updated_at = :now "
+			+ "WHERE user_id IN (:userIds) AND last_history_id < :boundaryId";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public long balance(Long userId) {
+		var balances = jdbcTemplate.queryForList(BALANCE_SQL, Map.of("userId", userId), Long.class);
+		return balances.isEmpty() ? 0L : balances.getFirst();
+	}
+
+	/**
+	 * 사용자별 잔액 (스냅샷 행이 없는 사용자는 제외)
+	 */
+	public Map<Long, Long> balances(Collection<Long> userIds) {
+		var balances = new HashMap<Long, Long>();
+
+		jdbcTemplate.query(BALANCES_SQL, Map.of("userIds", userIds), rs -> {
+			balances.put(rs.getLong("user_id"), rs.getLong("balance"));
+		});
+
+		return balances;
+	}
+
+	/**
+	 * 스냅샷 행과 이후 원장 항목을 잠그고 최신 잔액 계산 (트랜잭션 스냅샷이 아닌 커밋된 최신 값을 읽음)
+	 * - 커밋 전까지 같은 사용자의 다른 잠금 조회(사용)는 대기
+	 * @return 스냅샷 행이 없으면 empty
+	 */
+	public Optional<Long> lockBalance(Long userId) {
+		var snapshots = jdbcTemplate.query(
+				LOCK_SNAPSHOT_SQL,
+				Map.of("userId", userId),
+				(rs, rowNum) -> new long[] {rs.getLong("available_points"), rs.getLong("last_history_id")}
+		);
+
+		if (snapshots.isEmpty()) {
+			return Optional.empty();
+		}
+
+		var snapshot = snapshots.getFirst();
+		var entries = jdbcTemplate.queryForList(
+				LOCK_ENTRIES_SQL,
+				Map.of("userId", userId, "lastHistoryId", snapshot[1]),
+				Long.class
+		);
+
+		return Optional.of(snapshot[0] + entries.stream().mapToLong(Long::longValue).sum());
+	}
+
+	/**
+	 * 스냅샷 행이 없으면 생성 (이미 있으면 변경 없음)
+	 */
+	public void createIfAbsent(Long userId) {
+		jdbcTemplate.update(CREATE_IF_ABSENT_SQL, Map.of("userId", userId, "now", LocalDateTime.now()));
+	}
+
+	/**
+	 * 스냅샷 기준 이력 ID가 없는 포인트(원장 모드 전환 전 행)를 마지막 이력 ID로 채움
+	 * @return 채운 행 수
+	 */
+	public int fillLastHistoryId() {
+		return jdbcTemplate.update(FILL_LAST_HISTORY_ID_SQL, Map.of());
+	}
+
+	/**
+	 * afterId 다음부터 boundaryId까지의 원장 항목을 ID 순으로 조회
+	 */
+	public List<Entry> findEntries(long afterId, long boundaryId, int limit) {
+		return jdbcTemplate.query(
+				FIND_ENTRIES_SQL,
+				Map.of("afterId", afterId, "boundaryId", boundaryId, "limit", limit),
+				(rs, rowNum) -> new Entry(rs.getLong("id"), rs.getLong("user_id"))
+		);
+	}
+
+	/**
+	 * boundaryId까지의 이력을 스냅샷에 합치고 기준 ID를 boundaryId로 이동
+	 * @return 압축한 사용자 수
+	 */
+	public int compact(Collection<Long> userIds, long boundaryId) {
+		return jdbcTemplate.update(
+				COMPACT_SQL,
+				Map.of("userIds", userIds, "boundaryId", boundaryId, "now", LocalDateTime.now())
+		);
+	}
+
+	public record Entry(
+			Long id,
+			Long userId
+	) {
+	}
+}
@@ -0,0 +1,227 @@
+package com.kt.repository.point;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.kt.domain.point.PointLotStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포인트 lot JDBC 리포지토리
+ * - 사용/회수는 사용자의 활성 lot을 잠근 뒤 만료 순으로 차감 (idx_point_lots_user_id_status_expires_at)
+ * - 만료 배치는 (status, expires_at, id) 키셋으로 대상을 읽고 (idx_point_lots_status_expires_at),
+ *   청크마다 잠금 조회로 상태를 다시 확인한 뒤 일괄 소멸
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLotJdbcRepository {
+	private static final String LOT_COLUMNS = "id, user_id, remaining, expires_at";
+
+	private static final String INSERT_SQL = "INSERT INTO point_lots "
+			+ "(id, user_id, amount, remaining, expires_at, status, source_history_id, created_at, updated_at) "
+			+ "VALUES (:id, :userId, :amount, :amount, :expiresAt, :status, :sourceHistoryId, :now, :now)";
+
+	private static final String FIND_TRACKED_USER_IDS_SQL = "SELECT DISTINCT user_id FROM point_lots WHERE user_id IN (:userIds)";
+
+	private static final String EXISTS_SQL = "SELECT 1 FROM point_lots WHERE user_id = :userId LIMIT 1";
+
+	private static final String LOCK_ACTIVE_SQL = "SELECT " + LOT_COLUMNS + " FROM point_lots "
+			+ "WHERE user_id = :userId AND status = :status ORDER BY expires_at, id FOR UPDATE";
+
+	private static final String CONSUME_SQL = "UPDATE point_lots SET remaining = :remaining, status = :status, "
+			+ "updated_at = :now WHERE id = :id";
+
+	// (expires_at, id) > (:afterExpiresAt, :afterId)
+	private static final String FIND_EXPIRED_SQL = "SELECT " + LOT_COLUMNS + " FROM point_lots "
+			+ "WHERE status = :status AND expires_at <= :now "
+			+ "AND (expires_at > :afterExpiresAt OR (expires_at = :afterExpiresAt AND id > :afterId)) "
+			+ "ORDER BY expires_at, id LIMIT :limit";
+
+	private static final String LOCK_EXPIRED_SQL = "SELECT " + LOT_COLUMNS + " FROM point_lots "
+			+ "WHERE id IN (:ids) AND status = :status AND expires_at <= :now ORDER BY id FOR UPDATE";
+
+	private static final String EXPIRE_SQL = "UPDATE point_lots SET remaining = 0, status = :status, updated_at = :now "
+			+ "WHERE id IN (:ids)";
+
+	private static final String FIND_UNTRACKED_SQL = "SELECT p.id, p.user_id FROM points p "
+			+ "WHERE p.id > :afterId "
+			+ "AND NOT EXISTS (SELECT 1 FROM point_lots l WHERE l.user_id = p.user_id) "
+			+ "ORDER BY p.id LIMIT :limit";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * @param sourceHistoryId 적립 이력 ID (lot 도입 전 잔액이면 0)
+	 * @return 같은 적립 이력의 lot이 이미 있으면 false
+	 */
+	public boolean insert(long id, Long userId, long amount, LocalDateTime expiresAt, long sourceHistoryId) {
+		var params = new MapSqlParameterSource()
+				.addValue("id", id)
+				.addValue("userId", userId)
+				.addValue("amount", amount)
+				.addValue("expiresAt", expiresAt)
+				.addValue("status", PointLotStatus.ACTIVE.name())
+				.addValue("sourceHistoryId", sourceHistoryId)
+				.addValue("now", LocalDateTime.now());
+
+		try {
+			jdbcTemplate.update(INSERT_SQL, params);
+			return true;
+		} catch (DuplicateKeyException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * 여러 lot을 한 번에 저장 (JDBC batch, 하나라도 중복이면 DuplicateKeyException)
+	 */
+	public void insertAll(List<NewLot> lots) {
+		if (lots.isEmpty()) {
+			return;
+		}
+
+		var now = LocalDateTime.now();
+		var params = lots.stream()
+				.map(lot -> new MapSqlParameterSource()
+						.addValue("id", lot.id())
+						.addValue("userId", lot.userId())
+						.addValue("amount", lot.amount())
+						.addValue("expiresAt", lot.expiresAt())
+						.addValue("status", PointLotStatus.ACTIVE.name())
+						.addValue("sourceHistoryId", lot.sourceHistoryId())
+						.addValue("now", now))
+				.toArray(MapSqlParameterSource[]::new);
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, params);
+	}
+
+	/**
+	 * lot이 한 번이라도 만들어진 사용자 ID
+	 */
+	public List<Long> findTrackedUserIds(Collection<Long> userIds) {
+		return jdbcTemplate.queryForList(FIND_TRACKED_USER_IDS_SQL, Map.of("userIds", userIds), Long.class);
+	}
+
+	/**
+	 * lot이 한 번이라도 만들어진 사용자인지 (소진/만료된 lot 포함)
+	 */
+	public boolean exists(Long userId) {
+		return !jdbcTemplate.queryForList(EXISTS_SQL, Map.of("userId", userId), Integer.class).isEmpty();
+	}
+
+	/**
+	 * 사용자의 활성 lot을 만료가 가까운 순으로 잠금 조회
+	 */
+	public List<Lot> lockActive(Long userId) {
+		return jdbcTemplate.query(
+				LOCK_ACTIVE_SQL,
+				Map.of("userId", userId, "status", PointLotStatus.ACTIVE.name()),
+				this::mapLot
+		);
+	}
+
+	/**
+	 * 차감 후 남은 포인트 반영 (0이면 EXHAUSTED)
+	 */
+	public void consume(List<Lot> lots) {
+		var now = LocalDateTime.now();
+		var params = lots.stream()
+				.map(lot -> new MapSqlParameterSource()
+						.addValue("id", lot.id())
+						.addValue("remaining", lot.remaining())
+						.addValue("status", (lot.remaining() > 0 ? PointLotStatus.ACTIVE : PointLotStatus.EXHAUSTED).name())
+						.addValue("now", now))
+				.toArray(MapSqlParameterSource[]::new);
+
+		jdbcTemplate.batchUpdate(CONSUME_SQL, params);
+	}
+
+	/**
+	 * (afterExpiresAt, afterId) 다음부터 만료 시각 순으로 만료 대상 활성 lot 조회
+	 */
+	public List<Lot> findExpired(LocalDateTime now, LocalDateTime afterExpiresAt, long afterId, int limit) {
+		return jdbcTemplate.query(
+				FIND_EXPIRED_SQL,
+				new MapSqlParameterSource()
+						.addValue("status", PointLotStatus.ACTIVE.name())
+						.addValue("now", now)
+						.addValue("afterExpiresAt", afterExpiresAt)
+						.addValue("afterId", afterId)
+						.addValue("limit", limit),
+				this::mapLot
+		);
+	}
+
+	/**
+	 * 아직 활성 상태인 만료 대상 lot만 잠금 조회 (조회 후 사용/만료된 lot은 제외)
+	 */
+	public List<Lot> lockExpired(Collection<Long> ids, LocalDateTime now) {
+		return jdbcTemplate.query(
+				LOCK_EXPIRED_SQL,
+				Map.of("ids", ids, "status", PointLotStatus.ACTIVE.name(), "now", now),
+				this::mapLot
+		);
+	}
+
+	public int expire(Collection<Long> ids) {
+		return jdbcTemplate.update(
+				EXPIRE_SQL,
+				Map.of("ids", ids, "status", PointLotStatus.EXPIRED.name(), "now", LocalDateTime.now())
+		);
+	}
+
+	/**
+	 * lot이 없는 포인트(lot 도입 전 잔액) 조회
+	 * @param afterId points.id 키셋
+	 */
+	public List<Untracked> findUntracked(long afterId, int limit) {
+		return jdbcTemplate.query(
+				FIND_UNTRACKED_SQL,
+				Map.of("afterId", afterId, "limit", limit),
+				(rs, rowNum) -> new Untracked(rs.getLong("id"), rs.getLong("user_id"))
+		);
+	}
+
+	private Lot mapLot(ResultSet rs, int rowNum) throws SQLException {
+		Timestamp expiresAt = rs.getTimestamp("expires_at");
+
+		return new Lot(rs.getLong("id"), rs.getLong("user_id"), rs.getLong("remaining"), expiresAt.toLocalDateTime());
+	}
+
+	public record Lot(
+			Long id,
+			Long userId,
+			long remaining,
+			LocalDateTime expiresAt
+	) {
+		public Lot withRemaining(long remaining) {
+			return new Lot(id, userId, remaining, expiresAt);
+		}
+	}
+
+	public record NewLot(
+			long id,
+			Long userId,
+			long amount,
+			LocalDateTime expiresAt,
+			long sourceHistoryId
+	) {
+	}
+
+	public record Untracked(
+			Long pointId,
+			Long userId
+	) {
+	}
+}
@@ -4,16 +4,25 @@ import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.kt.common.exception.CustomException;
 import com.kt.common.exception.ErrorCode;
 import com.kt.domain.point.Point;
+import com.kt.domain.point.PointBalance;
 
 import jakarta.persistence.LockModeType;
 
 public interface PointRepository extends JpaRepository<Point, Long> {
 	Optional<Point> findByUserId(Long userId);
 
+	/**
+	 * 잔액 캐시 적재용 (엔티티를 영속성 컨텍스트에 올리지 않음)
+	 */
+	@Query("SELECT new com.kt.domain.point.PointBalance(p.version, p.availablePoints) FROM Point p WHERE p.user.id = :userId")
+	Optional<PointBalance> findBalanceByUserId(@Param("userId") Long userId);
+
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
 	Optional<Point> findWithLockByUserId(Long userId);
 
@@ -0,0 +1,48 @@
+package com.kt.repository.product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재고 일괄 반영용 JDBC 리포지토리
+ * JPA 변경감지 대신 batch UPDATE로 여러 상품의 재고를 한 번에 반영
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductJdbcRepository {
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @param quantities 상품ID -> 차감할 수량 (음수면 증가)
+	 */
+	public void decreaseStocks(Map<Long, Long> quantities) {
+		List<Object[]> args = new ArrayList<>(quantities.size());
+		quantities.forEach((productId, quantity) -> args.add(new Object[] {quantity, productId}));
+
+		jdbcTemplate.batchUpdate("UPDATE product SET stock = stock - ? WHERE id = ?", args);
+	}
+
+	/**
+	 * id 기준 keyset 방식으로 재고 조회
+	 */
+	public List<ProductStock> findStocksAfter(Long lastId, int limit) {
+		return jdbcTemplate.query(
+				"SELECT id, stock FROM product WHERE id > ? ORDER BY id LIMIT ?",
+				(rs, rowNum) -> new ProductStock(rs.getLong("id"), rs.getLong("stock")),
+				lastId,
+				limit
+		);
+	}
+
+	public record ProductStock(
+			Long productId,
+			Long stock
+	) {
+	}
+}
@@ -1,12 +1,16 @@
 package com.kt.repository.product;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -22,10 +26,40 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 		return findById(id).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_PRODUCT));
 	}
 
+	// 재고 검증(canProvide) 시 분할 버킷을 지연 로딩하지 않도록 함께 조회
+	default Product findWithStockShardsByIdOrThrow(Long id) {
+		return findWithStockShardsById(id).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_PRODUCT));
+	}
+
+	@EntityGraph(attributePaths = "stockShards")
+	@Query("SELECT p FROM Product p WHERE p.id = :id")
+	Optional<Product> findWithStockShardsById(@Param("id") Long id);
+
+	@EntityGraph(attributePaths = "stockShards")
+	@Query("SELECT p FROM Product p WHERE p.id IN :ids")
+	List<Product> findAllWithStockShardsByIdIn(@Param("ids") Collection<Long> ids);
+
+	default Product findByIdPessimisticOrThrow(Long id) {
+		return findByIdPessimistic(id).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_PRODUCT));
+	}
+
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@EntityGraph(attributePaths = "stockShards")
 	@Query("SELECT p FROM Product p WHERE p.id = :id")
 	Optional<Product> findByIdPessimistic(Long id);
 
+	/**
+	 * 재고가 충분할 때만 차감 (조회/락 없이 한 번의 UPDATE)
+	 * @return 1이면 차감 성공, 0이면 재고 부족 또는 상품 없음
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Product p SET p.stock = p.stock - :quantity WHERE p.id = :id AND p.stock >= :quantity")
+	int decreaseStockIfEnough(@Param("id") Long id, @Param("quantity") Long quantity);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Product p SET p.stock = p.stock + :quantity WHERE p.id = :id")
+	int increaseStock(@Param("id") Long id, @Param("quantity") Long quantity);
+
 	@Query("SELECT p FROM Product p " +
 			"WHERE (:keyword = '' OR p.name LIKE %:keyword%) " +
 			"AND p.status IN :statuses")
@@ -34,6 +68,15 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 			@Param("statuses") List<ProductStatus> statuses,
 			Pageable pageable);
 
+	// 무한 스크롤용 - COUNT 없이 size + 1건으로 다음 페이지 여부만 판단
+	@Query("SELECT p FROM Product p " +
+			"WHERE (:keyword = '' OR p.name LIKE %:keyword%) " +
+			"AND p.status IN :statuses")
+	Slice<Product> findSliceByKeywordAndStatuses(
+			@Param("keyword") String keyword,
+			@Param("statuses") List<ProductStatus> statuses,
+			Pageable pageable);
+
 	@Query("SELECT p FROM Product p "
 			+ "WHERE p.stock <= :threshold "
 			+ "AND p.status IN :statuses")
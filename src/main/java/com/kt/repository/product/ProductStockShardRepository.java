@@ -0,0 +1,51 @@
+package com.kt.repository.product;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.kt.domain.product.ProductStockShard;
+
+import jakarta.persistence.LockModeType;
+
+public interface ProductStockShardRepository extends JpaRepository<ProductStockShard, Long> {
+	List<ProductStockShard> findAllByProductIdOrderByShardNo(Long productId);
+
+	/**
+	 * 재분배/병합 시 버킷 전체 row-lock (shardNo 순으로 잠가 교착 방지)
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT s FROM ProductStockShard s WHERE s.product.id = :productId ORDER BY s.shardNo")
+	List<ProductStockShard> findAllByProductIdForUpdate(@Param("productId") Long productId);
+
+	/**
+	 * 엔티티를 영속성 컨텍스트에 올리지 않고 버킷 재고만 조회 (쏠림 판단용)
+	 */
+	@Query("SELECT s.stock FROM ProductStockShard s WHERE s.product.id = :productId")
+	List<Long> findStocksByProductId(@Param("productId") Long productId);
+
+	@Query("SELECT DISTINCT s.product.id FROM ProductStockShard s WHERE s.product.id IN :productIds")
+	List<Long> findShardedProductIds(@Param("productIds") Collection<Long> productIds);
+
+	@Query("SELECT DISTINCT s.product.id FROM ProductStockShard s")
+	List<Long> findAllShardedProductIds();
+
+	/**
+	 * 버킷 재고가 충분할 때만 차감 (락 없이 한 번의 UPDATE)
+	 * @return 1이면 차감 성공, 0이면 버킷 재고 부족
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE ProductStockShard s SET s.stock = s.stock - :quantity WHERE s.id = :id AND s.stock >= :quantity")
+	int decreaseIfEnough(@Param("id") Long id, @Param("quantity") Long quantity);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE ProductStockShard s SET s.stock = s.stock + :quantity WHERE s.id = :id")
+	int increase(@Param("id") Long id, @Param("quantity") Long quantity);
+
+	void deleteAllByProductId(Long productId);
+}
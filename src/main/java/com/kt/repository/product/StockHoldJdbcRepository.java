@@ -0,0 +1,43 @@
+package com.kt.repository.product;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.kt.common.support.Snowflake;
+import com.kt.domain.product.StockHoldStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재고 홀드 일괄 저장용 JDBC 리포지토리
+ * 주문 상품 수만큼 INSERT가 나가지 않도록 batch INSERT로 저장
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockHoldJdbcRepository {
+	private static final String INSERT_SQL = "INSERT INTO stock_hold "
+			+ "(id, order_id, product_id, quantity, status, expires_at, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @param quantities 상품ID -> 홀드 수량
+	 */
+	public void saveAll(Long orderId, Map<Long, Long> quantities, LocalDateTime expiresAt) {
+		var now = Timestamp.valueOf(LocalDateTime.now());
+		var expiresAtTimestamp = Timestamp.valueOf(expiresAt);
+
+		List<Object[]> args = new ArrayList<>(quantities.size());
+		quantities.forEach((productId, quantity) -> args.add(new Object[] {
+				Snowflake.nextId(), orderId, productId, quantity, StockHoldStatus.HELD.name(), expiresAtTimestamp, now, now
+		}));
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, args);
+	}
+}
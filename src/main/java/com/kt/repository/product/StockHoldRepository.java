@@ -0,0 +1,34 @@
+package com.kt.repository.product;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.kt.domain.product.StockHold;
+import com.kt.domain.product.StockHoldStatus;
+
+import jakarta.persistence.LockModeType;
+
+public interface StockHoldRepository extends JpaRepository<StockHold, Long> {
+	/**
+	 * 결제 확정과 만료 처리가 동시에 같은 홀드를 처리하지 않도록 row-lock
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT h FROM StockHold h WHERE h.order.id = :orderId AND h.status = :status ORDER BY h.id")
+	List<StockHold> findAllByOrderIdAndStatusForUpdate(
+			@Param("orderId") Long orderId,
+			@Param("status") StockHoldStatus status);
+
+	boolean existsByOrderId(Long orderId);
+
+	@Query("SELECT DISTINCT h.order.id FROM StockHold h WHERE h.status = :status AND h.expiresAt < :now")
+	List<Long> findOrderIdsByStatusAndExpiresAtBefore(
+			@Param("status") StockHoldStatus status,
+			@Param("now") LocalDateTime now,
+			Limit limit);
+}
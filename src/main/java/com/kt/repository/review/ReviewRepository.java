@@ -7,6 +7,7 @@ import com.kt.domain.review.Review;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,6 +23,9 @@ public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewRep
 
 	Page<Review> findByProduct(Product product, Pageable pageable);
 
+	// COUNT 없이 size + 1건으로 다음 페이지 여부만 판단
+	Slice<Review> findSliceByProduct(Product product, Pageable pageable);
+
 	boolean existsByOrderProductId(Long orderProductId);
 
     @Query("""
@@ -2,9 +2,13 @@ package com.kt.repository.review;
 
 import com.kt.domain.review.Review;
 import com.kt.dto.review.ReviewSearchCondition;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface ReviewRepositoryCustom {
-    Page<Review> searchReviews(ReviewSearchCondition condition, Pageable pageable);
+    // 목록만 조회 (전체 건수는 countReviews로 별도 조회)
+    List<Review> searchReviews(ReviewSearchCondition condition, Pageable pageable);
+
+    long countReviews(ReviewSearchCondition condition);
 }
@@ -6,8 +6,6 @@ import com.kt.dto.review.ReviewSearchCondition;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.util.StringUtils;
 
@@ -22,37 +20,39 @@ public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
     }
 
     @Override
-    public Page<Review> searchReviews(ReviewSearchCondition condition, Pageable pageable) {
+    public List<Review> searchReviews(ReviewSearchCondition condition, Pageable pageable) {
         QReview review = QReview.review;
 
-        List<Review> content = queryFactory
+        return queryFactory
                 .selectFrom(review)
-                .where(
-                        productNameContains(condition.getProductName()),
-                        userNameContains(condition.getUserName()),
-                        ratingEq(condition.getRating()),
-                        isBlindedEq(condition.getIsBlinded()),
-                        ratingGoe(condition.getMinRating()),
-                        ratingLoe(condition.getMaxRating())
-                )
+                .where(conditions(condition))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
+    }
+
+    @Override
+    public long countReviews(ReviewSearchCondition condition) {
+        QReview review = QReview.review;
 
         Long total = queryFactory
                 .select(review.count())
                 .from(review)
-                .where(
-                        productNameContains(condition.getProductName()),
-                        userNameContains(condition.getUserName()),
-                        ratingEq(condition.getRating()),
-                        isBlindedEq(condition.getIsBlinded()),
-                        ratingGoe(condition.getMinRating()),
-                        ratingLoe(condition.getMaxRating())
-                )
+                .where(conditions(condition))
                 .fetchOne();
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0);
+        return total != null ? total : 0;
+    }
+
+    private BooleanExpression[] conditions(ReviewSearchCondition condition) {
+        return new BooleanExpression[] {
+                productNameContains(condition.getProductName()),
+                userNameContains(condition.getUserName()),
+                ratingEq(condition.getRating()),
+                isBlindedEq(condition.getIsBlinded()),
+                ratingGoe(condition.getMinRating()),
+                ratingLoe(condition.getMaxRating())
+        };
     }
 
     private BooleanExpression productNameContains(String productName) {
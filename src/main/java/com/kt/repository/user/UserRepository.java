@@ -5,6 +5,7 @@ import java.util.Collection;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -50,6 +51,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
 	Page<User> findByRoleInAndNameContaining(Collection<Role> roles, String name, Pageable pageable);
 
+	// 관리자 사용자 목록 - 목록은 COUNT 없이 조회하고 전체 건수는 아래 count 메서드로 별도 조회 (CountCache)
+	Slice<User> findSliceByRoleIn(Collection<Role> roles, Pageable pageable);
+
+	Slice<User> findSliceByRoleInAndNameContaining(Collection<Role> roles, String name, Pageable pageable);
+
+	long countByRoleIn(Collection<Role> roles);
+
+	long countByRoleInAndNameContaining(Collection<Role> roles, String name);
+
 	@Query(
 			value = """
 					SELECT * FROM users u
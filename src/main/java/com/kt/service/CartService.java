@@ -33,7 +33,7 @@ public class CartService {
         validateQuantity(quantity);
 
         var user = userRepository.findByIdOrThrow(userId);
-        var product = productRepository.findByIdOrThrow(productId);
+        var product = productRepository.findWithStockShardsByIdOrThrow(productId);
 
         validateProductAvailable(product, quantity);
 
@@ -44,7 +44,7 @@ public class CartService {
     public CartItem changeQuantity(Long userId, Long productId, Long quantity) {
         validateQuantity(quantity);
 
-        var product = productRepository.findByIdOrThrow(productId);
+        var product = productRepository.findWithStockShardsByIdOrThrow(productId);
         validateProductAvailable(product, quantity);
 
         var item = cartItemRepository.findByUserIdAndProductIdForUpdateOrThrow(
@@ -136,7 +136,7 @@ public class CartService {
         }
 
         // 상품 조회
-        var productOpt = productRepository.findById(guestItem.productId());
+        var productOpt = productRepository.findWithStockShardsById(guestItem.productId());
         if (productOpt.isEmpty()) {
             return Optional.of(new ExcludedItem(guestItem.productId(), ExcludeReason.NOT_FOUND));
         }
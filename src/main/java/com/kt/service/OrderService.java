@@ -10,6 +10,7 @@ import com.kt.domain.order.Receiver;
 import com.kt.domain.order.event.OrderEvent;
 import com.kt.domain.orderproduct.OrderProduct;
 import com.kt.domain.payment.Payment;
+import com.kt.domain.product.Product;
 import com.kt.domain.product.ProductStatus;
 import com.kt.domain.refund.Refund;
 import com.kt.domain.refund.RefundType;
@@ -23,12 +24,16 @@ import com.kt.dto.refund.RefundResponse;
 import com.kt.repository.address.AddressRepository;
 import com.kt.repository.cart.CartItemRepository;
 import com.kt.repository.order.OrderRepository;
-import com.kt.repository.orderproduct.OrderProductRepository;
+import com.kt.repository.order.OrderSummaryRepository;
+import com.kt.repository.orderproduct.OrderProductJdbcRepository;
 import com.kt.repository.payment.PaymentRepository;
 import com.kt.repository.product.ProductRepository;
 import com.kt.repository.refund.RefundRepository;
 import com.kt.repository.user.UserRepository;
 import com.kt.security.CurrentUser;
+import com.kt.service.count.CountCache;
+import com.kt.service.outbox.OutboxService;
+import com.kt.service.waitingroom.WaitingRoomService;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -39,7 +44,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -49,17 +58,43 @@ public class OrderService {
 	private final UserRepository userRepository;
 	private final ProductRepository productRepository;
 	private final OrderRepository orderRepository;
-	private final OrderProductRepository orderProductRepository;
+	private final OrderSummaryRepository orderSummaryRepository;
+	private final OrderProductJdbcRepository orderProductJdbcRepository;
 	private final AddressRepository addressRepository;
 	private final CartItemRepository cartItemRepository;
 	private final RefundRepository refundRepository;
 	private final PaymentRepository paymentRepository;
 
 	private final StockService stockService;
+	private final StockHoldService stockHoldService;
+	private final WaitingRoomService waitingRoomService;
 	private final PointService pointService;
+	private final OutboxService outboxService;
+	private final CountCache countCache;
 	private final ApplicationEventPublisher applicationEventPublisher;
 
-	public void create(Long userId, OrderRequest.Create request) {
+	/**
+	 * @return 생성된 주문 ID
+	 */
+	public Long create(Long userId, OrderRequest.Create request) {
+		// 대기열이 열린 한정 판매 상품은 입장한 사용자만 재고 락 단계까지 진입
+		waitingRoomService.validateAdmitted(userId, productIds(request));
+
+		return createOrder(userId, request);
+	}
+
+	/**
+	 * 접수 시점에 대기열 입장을 확인한 비동기 주문 생성
+	 * - 처리 시점에는 입장을 다시 확인하지 않고, 주문이 커밋될 때 입장권만 소진
+	 * @return 생성된 주문 ID
+	 */
+	public Long createAdmitted(Long userId, OrderRequest.Create request) {
+		waitingRoomService.consumeAdmission(userId, productIds(request));
+
+		return createOrder(userId, request);
+	}
+
+	private Long createOrder(Long userId, OrderRequest.Create request) {
 		var user = userRepository.findByIdOrThrow(userId);
 		var address = addressRepository.findByIdAndUserIdOrThrow(request.addressId(), userId);
 
@@ -71,30 +106,47 @@ public class OrderService {
 				address.getDetailAddress()
 		);
 
-        var deliveryRequest = (request.deliveryRequest() != null) ? request.deliveryRequest() : "";
-        var order = orderRepository.save(Order.create(receiver, user, deliveryRequest));
-
-		for (var item : request.items()) {
-            var productId = item.productId();
-            var quantity = item.quantity();
-            var product = productRepository.findByIdOrThrow(productId);
-
-            Preconditions.validate(product.getStatus() == ProductStatus.ACTIVATED, ErrorCode.NOT_ON_SALE_PRODUCT);
+		// 같은 상품이 여러 줄로 들어와도 한 번만 락을 잡도록 수량 합산
+		Map<Long, Long> quantities = request.items().stream()
+				.collect(Collectors.toMap(
+						OrderRequest.OrderItem::productId,
+						OrderRequest.OrderItem::quantity,
+						Long::sum,
+						LinkedHashMap::new
+				));
+
+		// 상품은 한 번에 조회해 메모리에서 검증
+		var products = productRepository.findAllById(quantities.keySet());
+
+		Preconditions.validate(products.size() == quantities.size(), ErrorCode.NOT_FOUND_PRODUCT);
+		products.forEach(product ->
+				Preconditions.validate(product.getStatus() == ProductStatus.ACTIVATED, ErrorCode.NOT_ON_SALE_PRODUCT));
+
+		// 총액/대표 상품명은 주문 시점 가격으로 한 번만 계산해 주문에 저장
+		var productsById = products.stream()
+				.collect(Collectors.toMap(Product::getId, Function.identity()));
+		long totalPrice = products.stream()
+				.mapToLong(product -> product.getPrice() * quantities.get(product.getId()))
+				.sum();
+		var firstProductName = productsById.get(quantities.keySet().iterator().next()).getName();
 
-            stockService.decreaseStockWithLock(productId, quantity);
+        var deliveryRequest = (request.deliveryRequest() != null) ? request.deliveryRequest() : "";
+        var order = Order.create(receiver, user, deliveryRequest);
+		order.snapshotItems(totalPrice, firstProductName, quantities.size());
+		orderRepository.save(order);
 
-            var orderProduct = orderProductRepository.save(
-                    new OrderProduct(order, product, quantity)
-            );
+		// 전체 상품 락을 한 번에 획득하고 하나의 트랜잭션으로 차감
+		// 결제 전까지는 홀드로 관리되며, 만료되면 StockHoldSweepScheduler가 반환
+		stockService.decreaseStocks(quantities);
+		stockHoldService.hold(order.getId(), quantities);
 
-            product.mapToOrderProduct(orderProduct);
-            order.mapToOrderProduct(orderProduct);
-        }
+		// 주문 상품은 단가 스냅샷과 함께 batch INSERT 한 번으로 저장
+		orderProductJdbcRepository.saveAll(order.getId(), products, quantities);
 
 		// 포인트 사용 처리
         Long usePoints = request.usePoints();
 		if (usePoints != null && usePoints > 0) {
-            Preconditions.validate(usePoints <= order.getTotalPrice(), ErrorCode.INVALID_POINT_AMOUNT);
+            Preconditions.validate(usePoints <= totalPrice, ErrorCode.INVALID_POINT_AMOUNT);
 
 			order.setUsedPoints(usePoints);  // Order에 사용 포인트 저장
 			pointService.usePoints(userId, order.getId(), usePoints);
@@ -111,14 +163,22 @@ public class OrderService {
         }
 
 		log.info("주문 생성 - orderId: {}, userId: {}, totalAmount: {}원, productCount: {}, usePoints: {}P",
-			order.getId(), userId, order.getTotalPrice(), request.items().size(), usePoints != null ? usePoints : 0);
+			order.getId(), userId, totalPrice, request.items().size(), usePoints != null ? usePoints : 0);
 
 		applicationEventPublisher.publishEvent(
                 new Message(String.format(
                         "[주문 생성] orderId=%d / userId=%d / 총액=%d원 / 상품수=%d",
-                        order.getId(), userId, order.getTotalPrice(), request.items().size()
+                        order.getId(), userId, totalPrice, request.items().size()
                 ))
         );
+
+		return order.getId();
+	}
+
+	private List<Long> productIds(OrderRequest.Create request) {
+		return request.items().stream()
+				.map(OrderRequest.OrderItem::productId)
+				.toList();
 	}
 
 	public void requestCancelByUser(Long orderId, CurrentUser currentUser, String reason) {
@@ -130,6 +190,9 @@ public class OrderService {
 						.equals(currentUser.getId()), ErrorCode.NO_AUTHORITY_TO_CANCEL_ORDER);
 		order.requestCancel(reason);
 
+		// 결제 전 주문이면 확보해 둔 재고 반환 (결제된 주문은 홀드가 확정되어 있어 변화 없음)
+		stockHoldService.release(orderId);
+
 		log.info("주문 취소 요청 - orderId: {}, userId: {}, reason: {}", orderId, currentUser.getId(), reason);
 	}
 
@@ -184,12 +247,14 @@ public class OrderService {
 		refund.approve();
 
 		// 재고 복원 (환불/반품 승인 시)
+		Map<Long, Long> quantities = order.getOrderProducts().stream()
+				.collect(Collectors.toMap(op -> op.getProduct().getId(), OrderProduct::getQuantity, Long::sum));
 		if (refund.getType() == RefundType.REFUND) {
 			// 배송 전 환불이므로 재고 복원
-			order.getOrderProducts().forEach(op -> stockService.increaseStockWithLock(op.getProduct().getId(), op.getQuantity()));
+			stockService.increaseStocks(quantities);
 		} else { // RETURN
 			// TODO: 반품된 상품의 상태 확인 후 재고 복원 여부 결정 필요 (일단 복원)
-			order.getOrderProducts().forEach(op -> stockService.increaseStockWithLock(op.getProduct().getId(), op.getQuantity()));
+			stockService.increaseStocks(quantities);
 		}
 
 		// 환불/반품 처리 완료
@@ -198,8 +263,8 @@ public class OrderService {
 		log.info("환불/반품 승인 - refundId: {}, orderId: {}, userId: {}, type: {}, amount: {}원",
 			refund.getId(), orderId, order.getUser().getId(), refund.getType(), order.getTotalPrice());
 
-		// 환불 승인 이벤트 발행 (포인트 회수 트리거)
-		applicationEventPublisher.publishEvent(
+		// 환불 승인 이벤트 발행 (포인트 회수 트리거, 커밋 후 아웃박스 릴레이가 전달)
+		outboxService.publish(
 			new RefundEvent.Approved(
 				refund.getId(),
 				orderId,
@@ -225,40 +290,37 @@ public class OrderService {
 
 	@Transactional(readOnly = true)
 	public Page<OrderResponse.AdminSummary> getAdminOrders(OrderSearchCondition condition, Pageable pageable) {
-		Page<Order> orders = orderRepository.findByConditions(condition, pageable);
-
-		return orders.map(order -> {
-			String firstProductName = order.getOrderProducts().stream()
-					.findFirst()
-					.map(orderProduct -> orderProduct.getProduct().getName())
-					.orElse(null);
-			int productCount = order.getOrderProducts().size();
-
-			return new OrderResponse.AdminSummary(
-					order.getId(),
-					order.getTotalPrice(),
-					order.getCreatedAt(),
-					order.getStatus(),
-					firstProductName,
-					productCount,
-					order.getUser().getId(),
-					order.getUser().getName()
-			);
-		});
+		// 주문 요약 읽기 모델만 조회 (orders/users/order_product 조인 없음), 전체 건수는 캐시된 근사값
+		var content = orderSummaryRepository.findByConditions(condition, pageable).stream()
+				.map(summary -> new OrderResponse.AdminSummary(
+						summary.getOrderId(),
+						summary.getTotalPrice(),
+						summary.getCreatedAt(),
+						summary.getStatus(),
+						summary.getFirstProductName(),
+						summary.getProductCount(),
+						summary.getUserId(),
+						summary.getUsername()
+				))
+				.toList();
+
+		return countCache.page(content, pageable, "admin-orders",
+				() -> orderSummaryRepository.countByConditions(condition),
+				condition.username(), condition.receiverName(), condition.status());
 	}
 
 	@Transactional(readOnly = true)
 	public OrderResponse.AdminDetail getAdminOrderDetail(Long orderId) {
-		Order order = orderRepository.findByOrderIdOrThrow(orderId);
+		Order order = orderRepository.findByOrderIdIncludingArchivedOrThrow(orderId);
 		Receiver receiver = order.getReceiver();
 
 		List<OrderResponse.Item> items = order.getOrderProducts().stream()
 				.map(op -> new OrderResponse.Item(
 						op.getProduct().getId(),
 						op.getProduct().getName(),
-						op.getProduct().getPrice(),
+						op.getUnitPrice(),
 						op.getQuantity(),
-						op.getProduct().getPrice() * op.getQuantity()
+						op.getLineTotal()
 				))
 				.toList();
 
@@ -320,8 +382,8 @@ public class OrderService {
 		log.info("구매 확정 - orderId: {}, userId: {}, actualPayment: {}원",
 			orderId, currentUser.getId(), actualPaymentAmount);
 
-		// 구매 확정 이벤트 발행 (포인트 적립 트리거)
-		applicationEventPublisher.publishEvent(
+		// 구매 확정 이벤트 발행 (포인트 적립 트리거, 커밋 후 아웃박스 릴레이가 전달)
+		outboxService.publish(
 			new OrderEvent.Confirmed(orderId, currentUser.getId(), actualPaymentAmount)
 		);
 	}
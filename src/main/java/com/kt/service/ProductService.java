@@ -17,6 +17,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -49,6 +50,7 @@ public class ProductService {
 
 	private final ProductRepository productRepository;
 	private final AwsS3Service awsS3Service;
+	private final StockService stockService;
 	private final VectorStore vectorStore;
 	// TODO(YE) ProductService ChatClient 분리
 	private final ChatClient chatClient;
@@ -97,6 +99,17 @@ public class ProductService {
 		);
 	}
 
+	public Slice<Product> slicePublicStatus(String keyword, ProductSortType sortType, Pageable pageable) {
+		String searchKeyword = StringUtils.hasText(keyword) ? keyword : "";
+		Pageable sortedPageable = createSortedPageable(pageable, sortType);
+
+		return productRepository.findSliceByKeywordAndStatuses(
+				searchKeyword,
+				PUBLIC_VIEWABLE_STATUS,
+				sortedPageable
+		);
+	}
+
 	public Page<Product> searchNonDeletedStatus(String keyword, ProductSortType sortType, Pageable pageable) {
 		String searchKeyword = StringUtils.hasText(keyword) ? keyword : "";
 		Pageable sortedPageable = createSortedPageable(pageable, sortType);
@@ -132,6 +145,8 @@ public class ProductService {
 				updateImage(command.thumbnail(), product.getThumbnailImgUrl()),
 				updateImage(command.detail(), product.getDetailImgUrl())
 		);
+
+		stockService.refreshStock(product.getId(), product.getStock());
 	}
 
 	public void soldOut(Long id) {
@@ -17,13 +17,15 @@ import com.kt.repository.orderproduct.OrderProductRepository;
 import com.kt.repository.product.ProductRepository;
 import com.kt.repository.review.ReviewRepository;
 import com.kt.repository.user.UserRepository;
+import com.kt.service.count.CountCache;
+import com.kt.service.outbox.OutboxService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,8 +39,9 @@ public class ReviewService {
 	private final OrderProductRepository orderProductRepository;
 	private final ProductRepository productRepository;
 	private final UserRepository userRepository;
-	private final ApplicationEventPublisher applicationEventPublisher;
+	private final OutboxService outboxService;
 	private final PointService pointService;
+	private final CountCache countCache;
 
 	public void createReview(Long userId, ReviewCreateRequest request) {
 		OrderProduct orderProduct = orderProductRepository.findByIdOrThrow(request.getOrderProductId());
@@ -68,8 +71,8 @@ public class ReviewService {
 		log.info("리뷰 작성 - reviewId: {}, userId: {}, productId: {}, rating: {}",
 			savedReview.getId(), userId, orderProduct.getProduct().getId(), request.getRating());
 
-		// 리뷰 작성 이벤트 발행 (포인트 적립 트리거)
-		applicationEventPublisher.publishEvent(
+		// 리뷰 작성 이벤트 발행 (포인트 적립 트리거, 커밋 후 아웃박스 릴레이가 전달)
+		outboxService.publish(
 			new ReviewEvent.Created(
 				savedReview.getId(),
 				userId,
@@ -87,6 +90,14 @@ public class ReviewService {
 		return reviews.map(ReviewResponse::new);
 	}
 
+	// 무한 스크롤용 - 전체 건수 없이 다음 페이지 존재 여부만 반환
+	@Transactional(readOnly = true)
+	public Slice<ReviewResponse> getReviewSliceByProductId(Long productId, Pageable pageable) {
+		Product product = productRepository.findByIdOrThrow(productId);
+
+		return reviewRepository.findSliceByProduct(product, pageable).map(ReviewResponse::new);
+	}
+
 	public void updateReview(Long reviewId, Long userId, ReviewUpdateRequest request) {
 		Review review = findReviewByIdAndValidateOwner(reviewId, userId, ErrorCode.NO_AUTHORITY_TO_UPDATE_REVIEW);
 		review.update(request.getContent(), request.getRating());
@@ -104,8 +115,13 @@ public class ReviewService {
 
 	@Transactional(readOnly = true)
 	public Page<AdminReviewResponse> getAdminReviews(ReviewSearchCondition condition, Pageable pageable) {
-		Page<Review> reviews = reviewRepository.searchReviews(condition, pageable);
-		return reviews.map(AdminReviewResponse::new);
+		var content = reviewRepository.searchReviews(condition, pageable).stream()
+				.map(AdminReviewResponse::new)
+				.toList();
+
+		return countCache.page(content, pageable, "admin-reviews", () -> reviewRepository.countReviews(condition),
+				condition.getProductName(), condition.getUserName(), condition.getRating(),
+				condition.getIsBlinded(), condition.getMinRating(), condition.getMaxRating());
 	}
 
 	public void deleteReviewByAdmin(Long reviewId) {
@@ -125,8 +141,8 @@ public class ReviewService {
 		log.info("리뷰 블라인드 - reviewId: {}, userId: {}, adminId: {}, reason: {}",
 			reviewId, review.getUser().getId(), adminId, reason);
 
-		// 리뷰 블라인드 이벤트 발행 (포인트 회수 트리거)
-		applicationEventPublisher.publishEvent(
+		// 리뷰 블라인드 이벤트 발행 (포인트 회수 트리거, 커밋 후 아웃박스 릴레이가 전달)
+		outboxService.publish(
 			new ReviewEvent.Blinded(
 				reviewId,
 				review.getUser().getId(),
@@ -0,0 +1,154 @@
+package com.kt.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.support.Preconditions;
+import com.kt.domain.order.OrderStatus;
+import com.kt.domain.product.StockHold;
+import com.kt.domain.product.StockHoldStatus;
+import com.kt.repository.order.OrderRepository;
+import com.kt.repository.product.StockHoldJdbcRepository;
+import com.kt.repository.product.StockHoldRepository;
+import com.kt.service.stock.StockProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 대기 재고 홀드
+ * - 주문 생성: 재고 차감 + 만료 시각이 있는 홀드 기록
+ * - 결제 성공: 홀드 확정 (이미 차감된 재고를 판매로 확정)
+ * - 결제 실패/주문 취소/만료: 홀드 해제 후 재고 반환
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class StockHoldService {
+	private final StockHoldRepository stockHoldRepository;
+	private final StockHoldJdbcRepository stockHoldJdbcRepository;
+	private final OrderRepository orderRepository;
+	private final StockService stockService;
+	private final PointService pointService;
+	private final StockProperties stockProperties;
+
+	/**
+	 * 재고 홀드 기록
+	 * - 재고 차감은 호출 측에서 StockService로 먼저 수행
+	 * @param quantities 상품ID -> 홀드 수량
+	 */
+	public void hold(Long orderId, Map<Long, Long> quantities) {
+		var expiresAt = LocalDateTime.now().plus(stockProperties.hold().ttl());
+
+		stockHoldJdbcRepository.saveAll(orderId, quantities, expiresAt);
+	}
+
+	/**
+	 * 결제 성공 시 홀드 확정
+	 * - 만료 처리로 이미 재고가 반환된 주문이면 결제를 진행하지 않음
+	 * - 홀드 도입 이전 주문은 홀드가 없으므로 그대로 통과
+	 */
+	public void confirm(Long orderId) {
+		var holds = stockHoldRepository.findAllByOrderIdAndStatusForUpdate(orderId, StockHoldStatus.HELD);
+
+		if (holds.isEmpty()) {
+			Preconditions.validate(!stockHoldRepository.existsByOrderId(orderId), ErrorCode.EXPIRED_STOCK_HOLD);
+			return;
+		}
+
+		holds.forEach(StockHold::confirm);
+
+		log.info("재고 홀드 확정 - orderId: {}, productCount: {}", orderId, holds.size());
+	}
+
+	/**
+	 * 홀드 해제 후 재고 반환
+	 * - 재고 증가는 전략에 따라 별도 트랜잭션에서 바로 커밋되므로, 홀드 해제가 커밋된 뒤에 반영
+	 *   (호출 측이 롤백되면 홀드는 HELD로 남고 재고도 그대로라 다음 정리에서 한 번만 반환됨)
+	 * @return 해제한 홀드가 있으면 true
+	 */
+	public boolean release(Long orderId) {
+		var holds = stockHoldRepository.findAllByOrderIdAndStatusForUpdate(orderId, StockHoldStatus.HELD);
+
+		if (holds.isEmpty()) {
+			return false;
+		}
+
+		holds.forEach(StockHold::release);
+
+		Map<Long, Long> quantities = holds.stream()
+				.collect(Collectors.toMap(hold -> hold.getProduct().getId(), StockHold::getQuantity, Long::sum));
+		increaseStocksAfterCommit(quantities);
+
+		log.info("재고 홀드 해제 - orderId: {}, quantities: {}", orderId, quantities);
+		return true;
+	}
+
+	/**
+	 * 결제 없이 만료된 주문 정리
+	 * - 홀드 해제 + 주문 취소 + 사용 포인트 복구
+	 * - 주문이 이미 결제 대기 상태가 아니면 취소하지 않고 홀드만 정리 (정리 대상에 계속 남지 않도록)
+	 */
+	public void expire(Long orderId) {
+		var order = orderRepository.findByOrderIdOrThrow(orderId);
+
+		if (order.getStatus() != OrderStatus.ORDER_CREATED) {
+			acknowledge(orderId);
+			return;
+		}
+
+		if (!release(orderId)) {
+			return;
+		}
+
+		order.cancelByHoldExpiry();
+		pointService.refundPointsForPaymentFailure(order.getUser().getId(), orderId);
+
+		log.info("결제 대기 만료로 주문 취소 - orderId: {}, userId: {}", orderId, order.getUser().getId());
+	}
+
+	/**
+	 * 더 이상 만료 취소할 수 없는 주문의 홀드를 확정해 정리 대상에서 제외
+	 * - 주문이 이미 다음 단계로 넘어갔으므로 재고는 주문에 남겨 둠
+	 */
+	public void acknowledge(Long orderId) {
+		var holds = stockHoldRepository.findAllByOrderIdAndStatusForUpdate(orderId, StockHoldStatus.HELD);
+
+		holds.forEach(StockHold::confirm);
+
+		log.warn("결제 대기 상태가 아닌 주문의 만료 홀드 정리 - orderId: {}, productCount: {}", orderId, holds.size());
+	}
+
+	private void increaseStocksAfterCommit(Map<Long, Long> quantities) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			stockService.increaseStocks(quantities);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				stockService.increaseStocks(quantities);
+			}
+		});
+	}
+
+	@Transactional(readOnly = true)
+	public List<Long> findExpiredOrderIds() {
+		return stockHoldRepository.findOrderIdsByStatusAndExpiresAtBefore(
+				StockHoldStatus.HELD,
+				LocalDateTime.now(),
+				Limit.of(stockProperties.hold().sweepBatchSize())
+		);
+	}
+}
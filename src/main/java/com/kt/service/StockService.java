@@ -1,42 +1,170 @@
 package com.kt.service;
 
-import com.kt.common.exception.ErrorCode;
-import com.kt.common.support.Preconditions;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import com.kt.common.support.Lock;
-import com.kt.repository.product.ProductRepository;
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.support.Preconditions;
+import com.kt.service.stock.ShardedStockService;
+import com.kt.service.stock.StockMetrics;
+import com.kt.service.stock.StockStrategy;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 재고 차감/복원 진입점
+ * - 실제 처리는 stock.strategy 설정으로 선택된 StockStrategy에 위임
+ *   lock(기본값): 상품 단위 분산락 + JPA 변경감지
+ *   conditional: 조건부 UPDATE 한 번으로 검증/차감
+ *   pessimistic: SELECT ... FOR UPDATE 행 락 + JPA 변경감지
+ *   redis: Redis Lua 스크립트 원자 차감 + 비동기 DB 반영
+ * - 분할 재고 모드 상품은 ShardedStockService가 처리
+ * - 전략별 지연시간/충돌 횟수는 StockMetrics로 기록
+ */
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class StockService {
-    private final ProductRepository productRepository;
+	private static final String SHARDED = "sharded";
+	private static final String DECREASE = "decrease";
+	private static final String INCREASE = "increase";
+
+	private final StockStrategy stockStrategy;
+	private final ShardedStockService shardedStockService;
+	private final StockMetrics stockMetrics;
 
 	/**
 	 * 재고 차감
-	 * - 상품 단위로 락 획득
 	 * - 재고 충분 여부 검증 후 차감
 	 */
-	@Lock(key = Lock.Key.STOCK, index = 0)
-	public void decreaseStockWithLock(Long productId, Long quantity) {
-		var product = productRepository.findByIdOrThrow(productId);
+	public void decreaseStock(Long productId, Long quantity) {
+		decreaseStocks(Map.of(productId, quantity));
+	}
+
+	/**
+	 * 재고 증가
+	 */
+	public void increaseStock(Long productId, Long quantity) {
+		increaseStocks(Map.of(productId, quantity));
+	}
+
+	/**
+	 * 여러 상품 재고 일괄 차감
+	 * - 차감은 별도 트랜잭션에서 커밋되므로, 호출한 트랜잭션이 롤백되면 차감분을 복원
+	 * @param quantities 상품ID -> 차감 수량
+	 */
+	public void decreaseStocks(Map<Long, Long> quantities) {
+		var split = split(quantities);
+
+		if (!split.sharded().isEmpty()) {
+			stockMetrics.record(SHARDED, DECREASE, () -> shardedStockService.decreaseAll(split.sharded()));
+		}
 
-		Preconditions.validate(product.canProvide(quantity), ErrorCode.NOT_ENOUGH_STOCK);
+		try {
+			if (!split.others().isEmpty()) {
+				stockMetrics.record(stockStrategy.name(), DECREASE, () -> stockStrategy.decreaseAll(split.others()));
+			}
+		} catch (RuntimeException e) {
+			if (!split.sharded().isEmpty()) {
+				shardedStockService.increaseAll(split.sharded());
+			}
+			throw e;
+		}
 
-		product.decreaseStock(quantity);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status == STATUS_ROLLED_BACK) {
+						increaseStocks(quantities);
+					}
+				}
+			});
+		}
 	}
 
 	/**
-	 * 재고 증가
-	 * - 상품 단위로 락 획득
+	 * 여러 상품 재고 일괄 복원
+	 * @param quantities 상품ID -> 복원 수량
+	 */
+	public void increaseStocks(Map<Long, Long> quantities) {
+		var split = split(quantities);
+
+		if (!split.sharded().isEmpty()) {
+			stockMetrics.record(SHARDED, INCREASE, () -> shardedStockService.increaseAll(split.sharded()));
+		}
+		if (!split.others().isEmpty()) {
+			stockMetrics.record(stockStrategy.name(), INCREASE, () -> stockStrategy.increaseAll(split.others()));
+		}
+	}
+
+	/**
+	 * 관리자 재고 수정 반영
+	 * - 롤백될 수 있는 재고가 Redis/분할 버킷에 반영되지 않도록 상품 수정이 커밋된 뒤 반영
 	 */
-    @Lock(key = Lock.Key.STOCK, index = 0)
-    public void increaseStockWithLock(Long productId, Long quantity) {
-        var product = productRepository.findByIdOrThrow(productId);
-        product.increaseStock(quantity);
-    }
-}
\ No newline at end of file
+	public void refreshStock(Long productId, Long stock) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			applyRefresh(productId, stock);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				applyRefresh(productId, stock);
+			}
+		});
+	}
+
+	private void applyRefresh(Long productId, Long stock) {
+		if (split(Map.of(productId, stock)).sharded().isEmpty()) {
+			stockStrategy.refresh(productId, stock);
+			return;
+		}
+
+		shardedStockService.refresh(productId, stock);
+	}
+
+	/**
+	 * 분할 재고 모드 전환
+	 */
+	public void enableSharding(Long productId, int shardCount) {
+		Preconditions.validate(stockStrategy.supportsSharding(), ErrorCode.INVALID_STOCK_SHARD);
+
+		shardedStockService.enable(productId, shardCount);
+	}
+
+	/**
+	 * 분할 재고 모드 해제
+	 */
+	public void disableSharding(Long productId) {
+		shardedStockService.disable(productId);
+	}
+
+	private Split split(Map<Long, Long> quantities) {
+		if (!stockStrategy.supportsSharding()) {
+			return new Split(Map.of(), quantities);
+		}
+
+		var shardedIds = shardedStockService.findShardedProductIds(quantities.keySet());
+		if (shardedIds.isEmpty()) {
+			return new Split(Map.of(), quantities);
+		}
+
+		Map<Long, Long> sharded = new HashMap<>();
+		Map<Long, Long> others = new HashMap<>();
+		quantities.forEach((productId, quantity) ->
+				(shardedIds.contains(productId) ? sharded : others).put(productId, quantity));
+
+		return new Split(sharded, others);
+	}
+
+	private record Split(
+			Map<Long, Long> sharded,
+			Map<Long, Long> others
+	) {
+	}
+}
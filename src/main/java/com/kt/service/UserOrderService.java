@@ -1,13 +1,18 @@
 package com.kt.service;
 
 import com.kt.common.exception.ErrorCode;
+import com.kt.common.request.CursorPaging;
+import com.kt.common.response.CursorPage;
+import com.kt.common.support.Cursor;
 import com.kt.common.support.Preconditions;
 import com.kt.domain.order.Order;
+import com.kt.domain.order.OrderSummary;
 import com.kt.domain.order.Receiver;
 import com.kt.dto.order.OrderRequest;
 import com.kt.dto.order.OrderResponse;
 import com.kt.repository.address.AddressRepository;
 import com.kt.repository.order.OrderRepository;
+import com.kt.repository.order.OrderSummaryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,22 +24,31 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UserOrderService {
 	private final OrderRepository orderRepository;
+	private final OrderSummaryRepository orderSummaryRepository;
 	private final AddressRepository addressRepository;
 
 	// 주문 상세 조회
 	@Transactional(readOnly = true)
 	public OrderResponse.Detail getByIdForUser(Long userId, Long orderId) {
-		var order = orderRepository.findByIdAndUserIdOrThrow(orderId, userId);
+		var order = orderRepository.findByIdAndUserIdIncludingArchivedOrThrow(orderId, userId);
 		return mapToDetail(order);
 	}
 
-	// 주문 목록 조회
+	// 주문 목록 조회 (주문 요약 읽기 모델만 조회)
 	@Transactional(readOnly = true)
 	public Page<OrderResponse.Summary> listMyOrders(Long userId, Pageable pageable) {
-		var page = orderRepository.findAllByUserId(userId, pageable);
+		var page = orderSummaryRepository.findAllByUserId(userId, pageable);
 		return page.map(this::mapToSummary);
 	}
 
+	// 주문 목록 커서 조회 (최신순)
+	@Transactional(readOnly = true)
+	public CursorPage<OrderResponse.Summary> scrollMyOrders(Long userId, CursorPaging paging) {
+		var rows = orderSummaryRepository.findAllByUserIdAfter(userId, paging);
+		return CursorPage.of(rows, paging.size(), it -> Cursor.of(it.getCreatedAt(), it.getOrderId()))
+			.map(this::mapToSummary);
+	}
+
 	/**
 	 * 주문 배송지 및 요청사항 변경
 	 * AddressId를 받아 DB에서 주소 정보를 조회한 뒤 스냅샷을 갱신합니다.
@@ -60,15 +74,12 @@ public class UserOrderService {
 	private OrderResponse.Detail mapToDetail(Order order) {
 		var items = order.getOrderProducts().stream().map(op -> {
 			var product = op.getProduct();
-			var price = product.getPrice();
-			var qty = op.getQuantity();
-			var lineTotal = price * qty;
 			return new OrderResponse.Item(
 				product.getId(),
 				product.getName(),
-				price,
-				qty,
-				lineTotal
+				op.getUnitPrice(),
+				op.getQuantity(),
+				op.getLineTotal()
 			);
 		}).toList();
 
@@ -90,19 +101,14 @@ public class UserOrderService {
 		);
 	}
 
-	private OrderResponse.Summary mapToSummary(Order order) {
-		var firstProductName = order.getOrderProducts().stream()
-			.map(op -> op.getProduct().getName())
-			.findFirst()
-			.orElse(null);
-
+	private OrderResponse.Summary mapToSummary(OrderSummary summary) {
 		return new OrderResponse.Summary(
-			order.getId(),
-			order.getTotalPrice(),
-			order.getCreatedAt(),
-			order.getStatus(),
-			firstProductName,
-			order.getOrderProducts().size()
+			summary.getOrderId(),
+			summary.getTotalPrice(),
+			summary.getCreatedAt(),
+			summary.getStatus(),
+			summary.getFirstProductName(),
+			summary.getProductCount()
 		);
 	}
 }
\ No newline at end of file
@@ -6,13 +6,16 @@ import com.kt.common.support.Preconditions;
 import com.kt.domain.user.User;
 import com.kt.dto.user.*;
 import com.kt.repository.order.OrderRepository;
+import com.kt.repository.order.OrderSummaryJdbcRepository;
 import com.kt.repository.user.UserRepository;
 import com.kt.security.DefaultCurrentUser;
 import com.kt.security.CurrentUser;
+import com.kt.service.count.CountCache;
 import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -37,6 +40,8 @@ public class UserService {
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final OrderRepository orderRepository;
+	private final OrderSummaryJdbcRepository orderSummaryJdbcRepository;
+	private final CountCache countCache;
 	private final MailCheckService mailCheckService;
 
 	public void create(UserCreateRequest request) {
@@ -174,9 +179,14 @@ public class UserService {
 		}
 
 		if (nameKeyword == null) {
-			return userRepository.findByRoleIn(roles, sortedPageable);
+			var content = userRepository.findSliceByRoleIn(roles, sortedPageable).getContent();
+			return countCache.page(content, sortedPageable, "admin-users",
+					() -> userRepository.countByRoleIn(roles), roles);
 		}
-		return userRepository.findByRoleInAndNameContaining(roles, nameKeyword, sortedPageable);
+
+		var content = userRepository.findSliceByRoleInAndNameContaining(roles, nameKeyword, sortedPageable).getContent();
+		return countCache.page(content, sortedPageable, "admin-users",
+				() -> userRepository.countByRoleInAndNameContaining(roles, nameKeyword), roles, nameKeyword);
 	}
 
 	private Pageable createSortedPageable(Pageable pageable, CreatedAtSortType sortType) {
@@ -196,7 +206,7 @@ public class UserService {
     @Transactional
 	public UserResponse.Detail update(Long id, String name, String email, String mobile) {
 		var user = userRepository.findByIdOrThrow(id);
-		user.update(name, email, mobile);
+		updateProfile(user, name, email, mobile);
 		return UserResponse.Detail.of(user);
 	}
 
@@ -234,11 +244,22 @@ public class UserService {
 
         User user = userRepository.findByIdOrThrow(currentUser.getId());
 
-        user.update(request.name(), request.email(), request.mobile());
+        updateProfile(user, request.name(), request.email(), request.mobile());
 
         return UserResponse.Detail.of(user);
     }
 
+	// 이름이 바뀌면 주문 요약 읽기 모델의 주문자명도 함께 갱신
+	private void updateProfile(User user, String name, String email, String mobile) {
+		var previousName = user.getName();
+
+		user.update(name, email, mobile);
+
+		if (!Objects.equals(previousName, name)) {
+			orderSummaryJdbcRepository.updateUsername(user.getId(), name);
+		}
+	}
+
 	public void getOrders(Long id) {
 		var user = userRepository.findByIdOrThrow(id);
 		var page = orderRepository.findAllByUserId(user.getId(), Pageable.unpaged());
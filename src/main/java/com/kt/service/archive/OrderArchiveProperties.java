@@ -0,0 +1,20 @@
+package com.kt.service.archive;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 주문 아카이브 설정
+ * @param minAge 구매 확정/취소 후 이 기간이 지난 주문만 이동
+ * @param batchSize 한 트랜잭션에서 이동할 주문 수
+ * @param maxBatches 한 번 실행에서 처리할 최대 배치 수 (오래 락을 잡지 않도록 제한)
+ */
+@ConfigurationProperties(prefix = "order.archive")
+public record OrderArchiveProperties(
+		@DefaultValue("180d") Duration minAge,
+		@DefaultValue("500") int batchSize,
+		@DefaultValue("20") int maxBatches
+) {
+}
@@ -0,0 +1,51 @@
+package com.kt.service.archive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.domain.order.OrderStatus;
+import com.kt.repository.order.OrderArchiveJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 아카이브
+ * - 더 이상 상태가 바뀌지 않는 주문(구매 확정, 취소 - 환불 완료 포함)을 minAge가 지나면 아카이브 테이블로 옮겨
+ *   orders/order_product/payment에는 최근 주문만 남도록 함
+ * - 보관된 주문도 OrderRepository의 조회 전용 단건 조회(...IncludingArchivedOrThrow)와 주문 요약 목록으로 계속 조회됨
+ * - 변경용 단건 조회(findByOrderIdOrThrow, findByIdAndUserIdOrThrow)는 보관된 주문을 INVALID_ORDER_STATUS로 거부
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderArchiveService {
+	private static final List<OrderStatus> ARCHIVABLE_STATUSES = List.of(
+			OrderStatus.ORDER_CONFIRMED,
+			OrderStatus.ORDER_CANCELLED
+	);
+
+	private final OrderArchiveJdbcRepository orderArchiveJdbcRepository;
+	private final OrderArchiveProperties orderArchiveProperties;
+
+	/**
+	 * 한 배치만큼 이동
+	 * @return 이동한 주문 수 (0이면 더 옮길 주문이 없음)
+	 */
+	@Transactional
+	public int archiveBatch() {
+		var now = LocalDateTime.now();
+		var ids = orderArchiveJdbcRepository.findArchivableIds(
+				ARCHIVABLE_STATUSES,
+				now.minus(orderArchiveProperties.minAge()),
+				orderArchiveProperties.batchSize()
+		);
+
+		if (ids.isEmpty()) {
+			return 0;
+		}
+
+		return orderArchiveJdbcRepository.archive(ids, now);
+	}
+}
@@ -0,0 +1,22 @@
+package com.kt.service.autoconfirm;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 자동 구매 확정 설정
+ * @param afterDelivered 배송 완료 후 이 기간이 지난 주문을 자동 구매 확정
+ * @param chunkSize 한 트랜잭션에서 확정할 주문 수
+ * @param parallelism 동시에 처리할 청크 수 (DB 커넥션 풀보다 작게 유지)
+ * @param maxChunks 한 번 실행에서 처리할 최대 청크 수 (남은 주문은 저장된 커서부터 다음 실행에서 이어서 처리)
+ */
+@ConfigurationProperties(prefix = "order.auto-confirm")
+public record OrderAutoConfirmProperties(
+		@DefaultValue("7d") Duration afterDelivered,
+		@DefaultValue("500") int chunkSize,
+		@DefaultValue("4") int parallelism,
+		@DefaultValue("100") int maxChunks
+) {
+}
@@ -0,0 +1,66 @@
+package com.kt.service.autoconfirm;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.domain.order.OrderStatus;
+import com.kt.domain.order.event.OrderEvent;
+import com.kt.repository.order.OrderAutoConfirmJdbcRepository;
+import com.kt.repository.order.OrderSummaryJdbcRepository;
+import com.kt.service.outbox.OutboxService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 자동 구매 확정
+ * - 배송 완료 후 afterDelivered가 지나도록 사용자가 구매 확정하지 않은 주문을 청크 단위로 일괄 확정
+ * - 직접 구매 확정(OrderService.confirmOrder)과 같은 OrderEvent.Confirmed를 아웃박스로 발행해 포인트 적립
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderAutoConfirmService {
+	private final OrderAutoConfirmJdbcRepository orderAutoConfirmJdbcRepository;
+	private final OrderSummaryJdbcRepository orderSummaryJdbcRepository;
+	private final OutboxService outboxService;
+	private final OrderAutoConfirmProperties orderAutoConfirmProperties;
+
+	/**
+	 * afterId 다음부터 ID 순으로 확정 대상 주문 ID 조회
+	 */
+	public List<Long> findCandidateIds(Long afterId, int limit) {
+		return orderAutoConfirmJdbcRepository.findCandidateIds(
+				LocalDateTime.now().minus(orderAutoConfirmProperties.afterDelivered()),
+				afterId,
+				limit
+		);
+	}
+
+	/**
+	 * 한 청크 확정
+	 * - 대상 행을 잠근 뒤 상태를 확인하므로 그 사이 직접 확정/환불된 주문은 건너뛰고, 이벤트도 중복 발행되지 않음
+	 * @return 확정한 주문 수
+	 */
+	@Transactional
+	public int confirmChunk(List<Long> orderIds) {
+		var targets = orderAutoConfirmJdbcRepository.lockDelivered(orderIds);
+
+		if (targets.isEmpty()) {
+			return 0;
+		}
+
+		var ids = targets.stream().map(OrderAutoConfirmJdbcRepository.ConfirmTarget::orderId).toList();
+
+		orderAutoConfirmJdbcRepository.confirm(ids, LocalDateTime.now());
+		orderSummaryJdbcRepository.updateStatus(ids, OrderStatus.ORDER_CONFIRMED.name());
+
+		// 구매 확정 이벤트 발행 (포인트 적립 트리거, 커밋 후 아웃박스 릴레이가 전달)
+		targets.forEach(target -> outboxService.publish(
+				new OrderEvent.Confirmed(target.orderId(), target.userId(), target.finalPrice())
+		));
+
+		return targets.size();
+	}
+}
@@ -0,0 +1,79 @@
+package com.kt.service.count;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 목록용 근사 전체 건수
+ * - 목록 이름 + 검색 조건별로 COUNT 결과를 ttl 동안 Redis에 보관해, 페이지를 넘길 때마다 COUNT를 다시 실행하지 않음
+ * - ttl 사이에 추가/삭제된 행은 반영되지 않으므로 정확한 건수가 필요한 곳에는 사용하지 않음
+ * - 첫 페이지가 size보다 적거나 마지막 페이지면 건수를 계산할 수 있으므로 COUNT와 캐시 모두 생략
+ * - Redis 장애 시 캐시 없이 COUNT를 실행 (목록 조회는 실패하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CountCache {
+	private static final String KEY_PREFIX = "count:";
+
+	private final RedissonClient redissonClient;
+	private final CountCacheProperties countCacheProperties;
+
+	/**
+	 * @param content size건만 조회한 목록
+	 * @param name 목록 이름 (키 구분용)
+	 * @param counter 캐시가 없을 때 실행할 COUNT
+	 * @param conditions 건수에 영향을 주는 검색 조건 (정렬/페이지 번호는 제외)
+	 */
+	public <T> Page<T> page(List<T> content, Pageable pageable, String name, LongSupplier counter, Object... conditions) {
+		return PageableExecutionUtils.getPage(content, pageable, () -> count(name, counter, conditions));
+	}
+
+	public long count(String name, LongSupplier counter, Object... conditions) {
+		if (countCacheProperties.ttl().isZero()) {
+			return counter.getAsLong();
+		}
+
+		RBucket<Long> bucket;
+
+		try {
+			bucket = redissonClient.getBucket(createKey(name, conditions));
+			var cached = bucket.get();
+
+			if (cached != null) {
+				return cached;
+			}
+		} catch (RuntimeException e) {
+			log.warn("건수 캐시 조회 실패 - name: {}", name, e);
+			return counter.getAsLong();
+		}
+
+		var count = counter.getAsLong();
+
+		try {
+			bucket.set(count, countCacheProperties.ttl());
+		} catch (RuntimeException e) {
+			log.warn("건수 캐시 갱신 실패 - name: {}", name, e);
+		}
+
+		return count;
+	}
+
+	private String createKey(String name, Object... conditions) {
+		return KEY_PREFIX + name + ":" + Arrays.stream(conditions)
+				.map(String::valueOf)
+				.collect(Collectors.joining(":"));
+	}
+}
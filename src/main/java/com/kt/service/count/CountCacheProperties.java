@@ -0,0 +1,16 @@
+package com.kt.service.count;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 목록 전체 건수 캐시 설정
+ * @param ttl 건수 보관 시간 (0이면 캐시하지 않고 매번 COUNT)
+ */
+@ConfigurationProperties(prefix = "count-cache")
+public record CountCacheProperties(
+		@DefaultValue("30s") Duration ttl
+) {
+}
@@ -0,0 +1,22 @@
+package com.kt.service.intake;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 비동기 주문 접수 설정
+ * @param batchSize 한 번에 꺼내 동시에 처리할 티켓 수
+ * @param maxAttempts 일시적 실패를 포함한 최대 처리 시도 횟수 (넘으면 FAILED)
+ * @param retryBackoff 첫 재시도까지의 대기 시간 (시도마다 두 배)
+ * @param maxRetryBackoff 재시도 대기 시간 상한
+ */
+@ConfigurationProperties(prefix = "order.intake")
+public record OrderIntakeProperties(
+		@DefaultValue("50") int batchSize,
+		@DefaultValue("5") int maxAttempts,
+		@DefaultValue("1s") Duration retryBackoff,
+		@DefaultValue("1m") Duration maxRetryBackoff
+) {
+}
@@ -0,0 +1,156 @@
+package com.kt.service.intake;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.domain.order.OrderTicket;
+import com.kt.domain.order.OrderTicketStatus;
+import com.kt.dto.order.OrderRequest;
+import com.kt.dto.order.OrderResponse;
+import com.kt.repository.address.AddressRepository;
+import com.kt.repository.order.OrderTicketRepository;
+import com.kt.service.OrderService;
+import com.kt.service.waitingroom.WaitingRoomService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 주문 접수
+ * - 접수: 락/재고와 무관한 검증(배송지, 대기열 입장)만 하고 티켓으로 저장 → 요청 지연이 락 경합과 무관
+ *   (입장권은 접수 시 확인만 하고, 처리 시 주문이 커밋될 때 소진)
+ * - 처리: OrderIntakeScheduler가 재시도 시각이 된 PENDING 티켓을 배치로 꺼내 티켓마다 process 호출
+ *   (주문 생성과 티켓 완료가 한 트랜잭션이므로 같은 티켓으로 주문이 두 번 생기지 않음)
+ * - 실패: 다시 해도 같은 결과인 실패는 fail, 락 경합 등 일시적 실패는 retry로 지수 백오프 후 재시도
+ * - 조회: 티켓 상태와 대기 순번으로 진행 상황 확인
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class OrderIntakeService {
+	private final OrderTicketRepository orderTicketRepository;
+	private final AddressRepository addressRepository;
+	private final OrderService orderService;
+	private final WaitingRoomService waitingRoomService;
+	private final OrderIntakeProperties orderIntakeProperties;
+	private final ObjectMapper objectMapper;
+
+	public OrderResponse.Ticket enqueue(Long userId, OrderRequest.Create request) {
+		addressRepository.findByIdAndUserIdOrThrow(request.addressId(), userId);
+		waitingRoomService.checkAdmitted(userId, request.items().stream()
+				.map(OrderRequest.OrderItem::productId)
+				.toList());
+
+		var ticket = orderTicketRepository.save(OrderTicket.create(userId, serialize(request)));
+
+		return OrderResponse.Ticket.of(ticket, position(ticket));
+	}
+
+	@Transactional(readOnly = true)
+	public OrderResponse.Ticket getTicket(Long userId, Long ticketId) {
+		var ticket = orderTicketRepository.findByIdAndUserIdOrThrow(ticketId, userId);
+
+		return OrderResponse.Ticket.of(ticket, ticket.getStatus() == OrderTicketStatus.PENDING ? position(ticket) : null);
+	}
+
+	@Transactional(readOnly = true)
+	public List<Long> findPendingTicketIds() {
+		return orderTicketRepository.findDueIdsByStatus(
+				OrderTicketStatus.PENDING,
+				LocalDateTime.now(),
+				Limit.of(orderIntakeProperties.batchSize())
+		);
+	}
+
+	/**
+	 * 티켓 하나를 주문으로 생성
+	 * - 실패하면 주문과 함께 롤백되고 티켓은 PENDING으로 남음 (기록 여부는 호출 측에서 결정)
+	 */
+	public void process(Long ticketId) {
+		var ticket = orderTicketRepository.findByIdOrThrow(ticketId);
+
+		if (ticket.getStatus() != OrderTicketStatus.PENDING) {
+			return;
+		}
+
+		var orderId = orderService.createAdmitted(ticket.getUserId(), deserialize(ticket.getPayload()));
+		ticket.complete(orderId);
+
+		log.info("비동기 주문 처리 완료 - ticketId: {}, orderId: {}", ticketId, orderId);
+	}
+
+	/**
+	 * 재고 부족 등 다시 처리해도 같은 결과인 실패만 기록
+	 */
+	public void fail(Long ticketId, ErrorCode errorCode) {
+		var ticket = orderTicketRepository.findByIdOrThrow(ticketId);
+
+		ticket.fail(errorCode.getMessage());
+
+		log.info("비동기 주문 처리 실패 - ticketId: {}, reason: {}", ticketId, errorCode);
+	}
+
+	/**
+	 * 락 경합, 일시적 장애 등 다시 처리하면 성공할 수 있는 실패
+	 * - retryBackoff부터 시도마다 두 배(maxRetryBackoff 상한)만큼 미뤄 다시 처리
+	 * - maxAttempts번 시도해도 실패하면 마지막 사유로 FAILED 기록
+	 */
+	public void retry(Long ticketId, ErrorCode errorCode) {
+		var ticket = orderTicketRepository.findByIdOrThrow(ticketId);
+
+		if (ticket.getStatus() != OrderTicketStatus.PENDING) {
+			return;
+		}
+
+		var attempt = ticket.getAttempts() + 1;
+
+		if (attempt >= orderIntakeProperties.maxAttempts()) {
+			ticket.fail(errorCode.getMessage());
+
+			log.warn("비동기 주문 재시도 초과 - ticketId: {}, attempts: {}, reason: {}", ticketId, attempt, errorCode);
+			return;
+		}
+
+		ticket.retryAt(LocalDateTime.now().plus(backoff(attempt)));
+
+		log.info("비동기 주문 재시도 예약 - ticketId: {}, attempts: {}, reason: {}", ticketId, attempt, errorCode);
+	}
+
+	private long position(OrderTicket ticket) {
+		return orderTicketRepository.countByStatusAndIdLessThan(OrderTicketStatus.PENDING, ticket.getId()) + 1;
+	}
+
+	private Duration backoff(int attempt) {
+		var backoff = orderIntakeProperties.retryBackoff().multipliedBy(1L << Math.min(attempt - 1, 20));
+
+		return backoff.compareTo(orderIntakeProperties.maxRetryBackoff()) > 0
+				? orderIntakeProperties.maxRetryBackoff()
+				: backoff;
+	}
+
+	private String serialize(OrderRequest.Create request) {
+		try {
+			return objectMapper.writeValueAsString(request);
+		} catch (JsonProcessingException e) {
+			throw new CustomException(ErrorCode.ERROR_SYSTEM);
+		}
+	}
+
+	private OrderRequest.Create deserialize(String payload) {
+		try {
+			return objectMapper.readValue(payload, OrderRequest.Create.class);
+		} catch (JsonProcessingException e) {
+			throw new CustomException(ErrorCode.ERROR_SYSTEM);
+		}
+	}
+}
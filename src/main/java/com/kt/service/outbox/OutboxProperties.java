@@ -0,0 +1,22 @@
+package com.kt.service.outbox;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 아웃박스 릴레이 설정
+ * @param batchSize 한 번에 전달할 이벤트 수
+ * @param maxAttempts 이 횟수만큼 실패하면 DEAD 처리
+ * @param retryBackoff 첫 재시도 대기 시간 (실패할 때마다 2배)
+ * @param retention 전달 완료 이벤트 보관 기간
+ */
+@ConfigurationProperties(prefix = "outbox")
+public record OutboxProperties(
+		@DefaultValue("100") int batchSize,
+		@DefaultValue("5") int maxAttempts,
+		@DefaultValue("10s") Duration retryBackoff,
+		@DefaultValue("7d") Duration retention
+) {
+}
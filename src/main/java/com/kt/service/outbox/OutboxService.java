@@ -0,0 +1,121 @@
+package com.kt.service.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.support.RetryOnConflict;
+import com.kt.domain.outbox.OutboxEvent;
+import com.kt.domain.outbox.OutboxEventStatus;
+import com.kt.repository.outbox.OutboxEventRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 트랜잭셔널 아웃박스
+ * - publish: 호출 측 트랜잭션 안에서 이벤트를 INSERT만 하고 리스너는 실행하지 않음
+ * - dispatch: 릴레이가 이벤트 하나를 기존 @EventListener로 전달
+ *   (리스너 처리와 PUBLISHED 표시가 한 트랜잭션이므로 커밋된 이벤트는 정확히 한 번 반영)
+ * - recordFailure: 전달 실패 시 재시도 예약 또는 DEAD 처리
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class OutboxService {
+	private final OutboxEventRepository outboxEventRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final ObjectMapper objectMapper;
+	private final OutboxProperties outboxProperties;
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * 이벤트 기록 (발행 트랜잭션이 롤백되면 이벤트도 함께 사라짐)
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void publish(Object event) {
+		try {
+			outboxEventRepository.save(OutboxEvent.create(
+					event.getClass().getName(),
+					objectMapper.writeValueAsString(event)
+			));
+		} catch (JsonProcessingException e) {
+			throw new CustomException(ErrorCode.ERROR_SYSTEM);
+		}
+	}
+
+	@Transactional(readOnly = true)
+	public List<Long> findDispatchableIds() {
+		return outboxEventRepository.findDispatchableIds(
+				OutboxEventStatus.PENDING,
+				LocalDateTime.now(),
+				Limit.of(outboxProperties.batchSize())
+		);
+	}
+
+	// 리스너의 포인트 변경 등이 버전 충돌로 실패하면 재시도 예약(retryBackoff) 전에 바로 다시 전달
+	@RetryOnConflict(operation = "outbox.dispatch")
+	public void dispatch(Long id) {
+		var outboxEvent = outboxEventRepository.findById(id).orElse(null);
+
+		if (outboxEvent == null || outboxEvent.getStatus() != OutboxEventStatus.PENDING) {
+			return;
+		}
+
+		applicationEventPublisher.publishEvent(deserialize(outboxEvent));
+		outboxEvent.markPublished();
+	}
+
+	public void recordFailure(Long id, Exception cause) {
+		var outboxEvent = outboxEventRepository.findById(id).orElse(null);
+
+		if (outboxEvent == null) {
+			return;
+		}
+
+		outboxEvent.recordFailure(cause.getMessage(), outboxProperties.maxAttempts(), outboxProperties.retryBackoff());
+
+		if (outboxEvent.isDead()) {
+			meterRegistry.counter("outbox.dead", "type", simpleName(outboxEvent.getEventType())).increment();
+			log.error("아웃박스 이벤트 DEAD 처리 - id: {}, type: {}, attempts: {}",
+					id, outboxEvent.getEventType(), outboxEvent.getAttempts(), cause);
+			return;
+		}
+
+		log.warn("아웃박스 이벤트 전달 실패, 재시도 예약 - id: {}, type: {}, attempts: {}, nextAttemptAt: {}",
+				id, outboxEvent.getEventType(), outboxEvent.getAttempts(), outboxEvent.getNextAttemptAt());
+	}
+
+	/**
+	 * 보관 기간이 지난 전달 완료 이벤트 삭제
+	 */
+	public int purgePublished() {
+		return outboxEventRepository.deleteByStatusAndCreatedAtBefore(
+				OutboxEventStatus.PUBLISHED,
+				LocalDateTime.now().minus(outboxProperties.retention())
+		);
+	}
+
+	private Object deserialize(OutboxEvent outboxEvent) {
+		try {
+			return objectMapper.readValue(outboxEvent.getPayload(), Class.forName(outboxEvent.getEventType()));
+		} catch (JsonProcessingException | ClassNotFoundException e) {
+			throw new IllegalStateException("아웃박스 이벤트 역직렬화 실패 - type: " + outboxEvent.getEventType(), e);
+		}
+	}
+
+	private String simpleName(String eventType) {
+		return eventType.substring(eventType.lastIndexOf('.') + 1);
+	}
+}
@@ -0,0 +1,137 @@
+package com.kt.service.point;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.support.Preconditions;
+import com.kt.common.support.Snowflake;
+import com.kt.domain.point.PointChange;
+import com.kt.domain.point.PointHistory;
+import com.kt.domain.point.PointHistoryType;
+import com.kt.domain.user.User;
+import com.kt.repository.point.PointHistoryJdbcRepository;
+import com.kt.repository.point.PointJdbcRepository;
+import com.kt.repository.point.PointLedgerJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원장 기반 잔액 전략
+ * - 포인트 이력이 원장이고 적립/회수는 이력 INSERT만 하므로 같은 사용자에 대한 동시 적립이 충돌하지 않음
+ * - Point 행은 스냅샷으로만 쓰이고 PointLedgerCompactionScheduler가 주기적으로 이력을 합쳐 갱신
+ * - 사용(USED)만 잔액 검증이 필요하므로 스냅샷 행과 이후 항목을 잠금 조회해 같은 사용자의 사용끼리 직렬화
+ *   (그 사이 커밋되는 적립은 잔액을 늘리기만 하므로 검증 결과를 깨지 않음)
+ * - remainingPoints는 기록 시점에 본 잔액 (동시에 기록된 이력 간 순서는 보장하지 않음)
+ */
+@Component
+@Transactional
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point", name = "strategy", havingValue = "ledger")
+public class LedgerPointBalanceStrategy implements PointBalanceStrategy {
+	private final PointHistoryJdbcRepository pointHistoryJdbcRepository;
+	private final PointLedgerJdbcRepository pointLedgerJdbcRepository;
+	private final PointJdbcRepository pointJdbcRepository;
+	private final PointLotTracker pointLotTracker;
+
+	@Override
+	public String name() {
+		return "ledger";
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public long balance(Long userId) {
+		return pointLedgerJdbcRepository.balance(userId);
+	}
+
+	@Override
+	public OptionalLong record(User user, PointHistoryType type, long changeAmount, String description,
+			Long relatedId, String relatedType) {
+		long balance;
+
+		if (type == PointHistoryType.USED) {
+			balance = pointLedgerJdbcRepository.lockBalance(user.getId())
+					.orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_POINT));
+
+			Preconditions.validate(-changeAmount >= 1000, ErrorCode.MINIMUM_POINT_NOT_MET);
+			Preconditions.validate(balance + changeAmount >= 0, ErrorCode.INSUFFICIENT_POINTS);
+		} else {
+			Preconditions.validate(changeAmount != 0, ErrorCode.INVALID_POINT_AMOUNT);
+
+			// 스냅샷 행이 없으면 이력이 잔액에 반영되지 않으므로 먼저 생성
+			pointLedgerJdbcRepository.createIfAbsent(user.getId());
+			balance = pointLedgerJdbcRepository.balance(user.getId());
+		}
+
+		var historyId = Snowflake.nextId();
+		var inserted = pointHistoryJdbcRepository.insert(historyId, PointHistory.createWithRelation(
+				user,
+				type,
+				changeAmount,
+				balance + changeAmount,
+				description,
+				relatedId,
+				relatedType
+		));
+
+		if (!inserted) {
+			return OptionalLong.empty();
+		}
+
+		pointLotTracker.recorded(user.getId(), historyId, changeAmount, balance + changeAmount);
+
+		return OptionalLong.of(balance + changeAmount);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Long, Long> balances(Collection<Long> userIds) {
+		return pointLedgerJdbcRepository.balances(userIds);
+	}
+
+	@Override
+	public void recordAll(PointHistoryType type, List<PointChange> changes) {
+		if (changes.isEmpty()) {
+			return;
+		}
+
+		var userIds = changes.stream().map(PointChange::userId).collect(Collectors.toCollection(TreeSet::new));
+
+		// 스냅샷 행이 없으면 이력이 잔액에 반영되지 않으므로 먼저 생성, 그 외에는 원장 항목만 추가
+		if (type.isIncrease()) {
+			pointJdbcRepository.createAllIfAbsent(userIds);
+		}
+
+		var running = new HashMap<>(pointLedgerJdbcRepository.balances(userIds));
+
+		var rows = changes.stream()
+				.map(change -> new PointHistoryJdbcRepository.Row(
+						Snowflake.nextId(),
+						change.userId(),
+						type,
+						change.changeAmount(),
+						running.merge(change.userId(), change.changeAmount(), Long::sum),
+						change.description(),
+						change.relatedId(),
+						change.relatedType()
+				))
+				.toList();
+
+		pointHistoryJdbcRepository.insertAll(rows);
+
+		if (type.isIncrease()) {
+			pointLotTracker.creditedAll(rows);
+		}
+	}
+}
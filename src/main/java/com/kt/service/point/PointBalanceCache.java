@@ -0,0 +1,161 @@
+package com.kt.service.point;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kt.domain.point.PointBalance;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 포인트 잔액 캐시 (row 전략)
+ * - 조회 시 없으면 DB에서 읽어 채우고, 잔액 변경은 커밋 후 새 값으로 덮어씀 (write-through)
+ * - 값마다 Point @Version을 함께 저장하고 더 높은 버전만 쓰므로, 늦게 도착한 조회 결과나 앞선 커밋이
+ *   최신 값을 덮어쓰지 않음
+ * - Redis 장애 시 DB 값을 그대로 사용하고, 덮어쓰기에 실패하면 키를 지워 다음 조회에서 다시 채움
+ * - 메트릭 point.balance_cache (Counter): outcome(hit/miss) 태그
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointBalanceCache {
+	private static final String KEY_PREFIX = "point:balance:";
+	private static final String VERSION = "v";
+	private static final String BALANCE = "b";
+
+	// KEYS[1]=잔액 키, ARGV[1]=버전, ARGV[2]=잔액, ARGV[3]=ttl(ms)
+	private static final String PUT_IF_NEWER_SCRIPT = """
+			local version = redis.call('HGET', KEYS[1], 'v')
+			if version and tonumber(version) >= tonumber(ARGV[1]) then return 0 end
+			redis.call('HSET', KEYS[1], 'v', ARGV[1], 'b', ARGV[2])
+			redis.call('PEXPIRE', KEYS[1], ARGV[3])
+			return 1
+			""";
+
+	private final RedissonClient redissonClient;
+	private final PointProperties pointProperties;
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * @param loader 캐시가 없을 때 DB에서 잔액과 버전을 읽는 함수
+	 */
+	public long get(Long userId, Supplier<PointBalance> loader) {
+		if (isDisabled()) {
+			return loader.get().availablePoints();
+		}
+
+		try {
+			var cached = redissonClient.<String, String>getMap(key(userId), StringCodec.INSTANCE)
+					.getAll(Set.of(VERSION, BALANCE));
+
+			if (cached.containsKey(BALANCE)) {
+				count("hit");
+				return Long.parseLong(cached.get(BALANCE));
+			}
+		} catch (RuntimeException e) {
+			log.warn("포인트 잔액 캐시 조회 실패 - userId: {}", userId, e);
+			return loader.get().availablePoints();
+		}
+
+		count("miss");
+		var balance = loader.get();
+		put(userId, balance);
+		return balance.availablePoints();
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋된 뒤 새 잔액 반영 (롤백되면 캐시를 건드리지 않음)
+	 * @param balance 커밋 후 읽을 잔액/버전 (flush로 버전이 올라간 뒤 읽도록 지연)
+	 */
+	public void putAfterCommit(Long userId, Supplier<PointBalance> balance) {
+		if (isDisabled()) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			put(userId, balance.get());
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				put(userId, balance.get());
+			}
+		});
+	}
+
+	/**
+	 * 일괄 변경된 여러 사용자의 잔액을 커밋 후 반영
+	 * @param balances 변경 후 읽은 사용자별 잔액/버전
+	 */
+	public void putAllAfterCommit(Map<Long, PointBalance> balances) {
+		if (isDisabled() || balances.isEmpty()) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			balances.forEach(this::put);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				balances.forEach(PointBalanceCache.this::put);
+			}
+		});
+	}
+
+	public void evict(Long userId) {
+		if (isDisabled()) {
+			return;
+		}
+
+		try {
+			redissonClient.getBucket(key(userId)).delete();
+		} catch (RuntimeException e) {
+			log.warn("포인트 잔액 캐시 삭제 실패 - userId: {}", userId, e);
+		}
+	}
+
+	private void put(Long userId, PointBalance balance) {
+		try {
+			redissonClient.getScript(StringCodec.INSTANCE).eval(
+					RScript.Mode.READ_WRITE,
+					PUT_IF_NEWER_SCRIPT,
+					RScript.ReturnType.INTEGER,
+					List.of(key(userId)),
+					String.valueOf(balance.version()),
+					String.valueOf(balance.availablePoints()),
+					String.valueOf(pointProperties.balanceCache().ttl().toMillis())
+			);
+		} catch (RuntimeException e) {
+			log.warn("포인트 잔액 캐시 갱신 실패 - userId: {}", userId, e);
+			evict(userId);
+		}
+	}
+
+	private boolean isDisabled() {
+		return pointProperties.balanceCache().ttl().isZero();
+	}
+
+	private void count(String outcome) {
+		meterRegistry.counter("point.balance_cache", "outcome", outcome).increment();
+	}
+
+	private String key(Long userId) {
+		return KEY_PREFIX + userId;
+	}
+}
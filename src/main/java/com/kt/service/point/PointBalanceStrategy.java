@@ -0,0 +1,53 @@
+package com.kt.service.point;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import com.kt.domain.point.PointChange;
+import com.kt.domain.point.PointHistoryType;
+import com.kt.domain.user.User;
+
+/**
+ * 포인트 잔액 반영 전략
+ * - point.strategy 설정값으로 배포 환경별로 선택
+ *   row: Point 행의 잔액을 직접 변경 (기본값)
+ *   ledger: 포인트 이력을 원장으로 보고 추가만 함, 잔액은 스냅샷 + 이후 이력 합계
+ */
+public interface PointBalanceStrategy {
+	/**
+	 * 설정값과 동일한 전략 이름
+	 */
+	String name();
+
+	/**
+	 * 현재 잔액 (포인트 정보가 없으면 0)
+	 */
+	long balance(Long userId);
+
+	/**
+	 * 잔액 변경을 반영하고 이력 저장
+	 * - USED: 잔액 부족이면 INSUFFICIENT_POINTS
+	 * - 그 외 감소 타입(회수/관리자 차감): 잔액이 부족해도 음수로 차감
+	 * - 같은 연관 엔티티/타입의 이력이 이미 있으면 잔액을 바꾸지 않음 (uk_point_histories_related)
+	 * @param changeAmount 변동 금액 (양수: 증가, 음수: 감소)
+	 * @return 반영 후 잔액, 이미 반영된 변경이면 empty
+	 */
+	OptionalLong record(User user, PointHistoryType type, long changeAmount, String description,
+			Long relatedId, String relatedType);
+
+	/**
+	 * 사용자별 현재 잔액 (포인트 정보가 없는 사용자는 제외)
+	 */
+	Map<Long, Long> balances(Collection<Long> userIds);
+
+	/**
+	 * 여러 사용자의 잔액 변경을 한 번에 반영하고 이력을 일괄 저장
+	 * - 캠페인 지급, 유효기간 만료처럼 잔액 검증과 중복 검사가 필요 없는 변경용 (중복은 호출 측에서 걸러야 함)
+	 * - 증가 타입: 포인트 정보가 없으면 생성하고 이력마다 lot 생성
+	 * - 감소 타입: 포인트 정보가 있는 사용자만, 포인트 lot은 호출 측에서 반영
+	 * - 이력의 remainingPoints는 같은 사용자의 변경을 changes 순서대로 적용한 잔액
+	 */
+	void recordAll(PointHistoryType type, List<PointChange> changes);
+}
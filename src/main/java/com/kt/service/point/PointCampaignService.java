@@ -0,0 +1,290 @@
+package com.kt.service.point;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.request.CursorPaging;
+import com.kt.common.response.CursorPage;
+import com.kt.common.support.Cursor;
+import com.kt.common.support.Preconditions;
+import com.kt.domain.point.PointCampaign;
+import com.kt.domain.point.PointCampaignSegment;
+import com.kt.domain.point.PointCampaignTargetStatus;
+import com.kt.domain.point.PointChange;
+import com.kt.domain.point.PointHistoryType;
+import com.kt.dto.point.PointRequest;
+import com.kt.dto.point.PointResponse;
+import com.kt.repository.point.PointCampaignJdbcRepository;
+import com.kt.repository.point.PointCampaignRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 포인트 캠페인 일괄 지급
+ * - 생성: 사용자 조건이면 캠페인만 저장(PREPARING), ID 목록 업로드면 대상을 JDBC batch로 적재하고 바로 RUNNING
+ * - 처리: PointCampaignScheduler가 대상 적재(prepareBatch)와 청크 지급(grantChunk)을 호출
+ *   (청크마다 잔액 UPSERT/이력 INSERT를 PointBalanceStrategy.recordAll로 일괄 반영하고 대상 상태와 집계를 같은 트랜잭션에서 갱신)
+ * - 조회: 진행률/처리량과 실패 대상 목록, 실패 대상은 재시도 가능
+ * - 중복 지급 방지: 대상은 캠페인당 사용자 한 번(uk_point_campaign_targets_campaign_id_user_id)이고,
+ *   이력은 (campaignId, POINT_CAMPAIGN, CREDITED_CAMPAIGN, userId)로 uk_point_histories_related에 걸림
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointCampaignService {
+	private static final String RELATED_TYPE = "POINT_CAMPAIGN";
+
+	private final PointCampaignRepository pointCampaignRepository;
+	private final PointCampaignJdbcRepository pointCampaignJdbcRepository;
+	private final PointBalanceStrategy pointBalanceStrategy;
+	private final PointProperties pointProperties;
+	private final ObjectMapper objectMapper;
+
+	@Transactional
+	public PointResponse.Campaign createForSegment(PointRequest.SegmentCampaign request) {
+		var campaign = pointCampaignRepository.save(PointCampaign.forSegment(
+				request.name(),
+				request.amount(),
+				request.description(),
+				serialize(request.segment())
+		));
+
+		log.info("포인트 캠페인 생성 (조건) - campaignId: {}, amount: {}P", campaign.getId(), campaign.getAmount());
+
+		return PointResponse.Campaign.of(campaign);
+	}
+
+	/**
+	 * @param file 한 줄에 사용자 ID 하나 (CSV면 첫 번째 열, 첫 줄 헤더 허용)
+	 */
+	@Transactional
+	public PointResponse.Campaign createForTargets(PointRequest.Campaign request, MultipartFile file) {
+		var userIds = parseUserIds(file);
+
+		Preconditions.validate(userIds.length > 0 && userIds.length <= pointProperties.campaign().maxTargets(),
+				ErrorCode.INVALID_POINT_CAMPAIGN_TARGETS);
+
+		var campaign = pointCampaignRepository.save(PointCampaign.forTargets(
+				request.name(),
+				request.amount(),
+				request.description(),
+				userIds.length
+		));
+
+		var chunkSize = pointProperties.campaign().chunkSize();
+		for (int from = 0; from < userIds.length; from += chunkSize) {
+			var chunk = Arrays.stream(userIds, from, Math.min(from + chunkSize, userIds.length)).boxed().toList();
+			pointCampaignJdbcRepository.insertTargets(campaign.getId(), chunk);
+		}
+
+		log.info("포인트 캠페인 생성 (목록) - campaignId: {}, targets: {}, amount: {}P",
+				campaign.getId(), userIds.length, campaign.getAmount());
+
+		return PointResponse.Campaign.of(campaign);
+	}
+
+	@Transactional(readOnly = true)
+	public PointResponse.Campaign getCampaign(Long campaignId) {
+		return PointResponse.Campaign.of(pointCampaignRepository.findByIdOrThrow(campaignId));
+	}
+
+	/**
+	 * 지급 실패 대상 커서 조회 (사용자 ID 순)
+	 */
+	@Transactional(readOnly = true)
+	public CursorPage<PointResponse.CampaignFailure> getFailures(Long campaignId, CursorPaging paging) {
+		pointCampaignRepository.findByIdOrThrow(campaignId);
+
+		var afterId = paging.isFirst() ? 0L : paging.toCursor().id();
+		var rows = pointCampaignJdbcRepository.findFailures(campaignId, afterId, paging.fetchSize());
+
+		return CursorPage.of(rows, paging.size(), it -> Cursor.ofId(it.userId()))
+				.map(it -> new PointResponse.CampaignFailure(it.userId(), it.failureReason()));
+	}
+
+	/**
+	 * 완료된 캠페인의 실패 대상을 다시 지급 대기로
+	 */
+	@Transactional
+	public PointResponse.Campaign retry(Long campaignId) {
+		// JDBC로 먼저 바꾼 뒤 조회해야 영속성 컨텍스트에 이전 상태가 남지 않음
+		if (pointCampaignJdbcRepository.retry(campaignId) == 0) {
+			pointCampaignRepository.findByIdOrThrow(campaignId);
+			throw new CustomException(ErrorCode.INVALID_POINT_CAMPAIGN_STATUS);
+		}
+
+		log.info("포인트 캠페인 재시도 - campaignId: {}", campaignId);
+
+		return PointResponse.Campaign.of(pointCampaignRepository.findByIdOrThrow(campaignId));
+	}
+
+	@Transactional(readOnly = true)
+	public Optional<PointCampaign> findActive() {
+		return pointCampaignJdbcRepository.findActiveId().map(pointCampaignRepository::findByIdOrThrow);
+	}
+
+	/**
+	 * 조건을 만족하는 사용자를 한 배치 적재 (마지막 배치면 지급 단계로)
+	 * @return 적재가 끝났으면 true
+	 */
+	@Transactional
+	public boolean prepareBatch(Long campaignId) {
+		var campaign = pointCampaignRepository.findByIdOrThrow(campaignId);
+		var batchSize = pointProperties.campaign().prepareBatchSize();
+		var userIds = pointCampaignJdbcRepository.findSegmentUserIds(
+				deserialize(campaign.getSegment()),
+				campaign.getPreparedUserId(),
+				batchSize
+		);
+
+		if (!userIds.isEmpty()) {
+			pointCampaignJdbcRepository.insertTargets(campaignId, userIds);
+			pointCampaignJdbcRepository.addPrepared(campaignId, userIds.getLast(), userIds.size());
+		}
+
+		if (userIds.size() < batchSize) {
+			pointCampaignJdbcRepository.start(campaignId);
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * afterId 다음부터 사용자 ID 순으로 지급 대기 대상 조회
+	 */
+	@Transactional(readOnly = true)
+	public List<Long> findPendingUserIds(Long campaignId, long afterId, int limit) {
+		return pointCampaignJdbcRepository.findTargetUserIds(campaignId, PointCampaignTargetStatus.PENDING, afterId, limit);
+	}
+
+	/**
+	 * 한 청크 지급
+	 * - 대상 행을 잠근 뒤 상태를 확인하므로 다른 실행이 먼저 처리한 대상은 건너뜀
+	 * - 탈퇴/없는 사용자와 이미 이 캠페인 이력이 있는 사용자는 SKIPPED
+	 * @return 지급/제외한 대상 수
+	 */
+	@Transactional
+	public Granted grantChunk(PointCampaign campaign, List<Long> userIds) {
+		var campaignId = campaign.getId();
+		var pending = pointCampaignJdbcRepository.lockPending(campaignId, userIds);
+
+		if (pending.isEmpty()) {
+			return new Granted(0, 0);
+		}
+
+		var grantable = new HashSet<>(pointCampaignJdbcRepository.findExistingUserIds(pending));
+		pointCampaignJdbcRepository.findGrantedUserIds(campaignId, RELATED_TYPE,
+				PointHistoryType.CREDITED_CAMPAIGN.name(), pending).forEach(grantable::remove);
+
+		var granted = new ArrayList<Long>();
+		var skipped = new ArrayList<Long>();
+		pending.forEach(userId -> (grantable.contains(userId) ? granted : skipped).add(userId));
+
+		if (!granted.isEmpty()) {
+			pointBalanceStrategy.recordAll(PointHistoryType.CREDITED_CAMPAIGN, granted.stream()
+					.map(userId -> new PointChange(userId, campaign.getAmount(), campaign.getDescription(), campaignId,
+							RELATED_TYPE))
+					.toList());
+			pointCampaignJdbcRepository.markTargets(campaignId, granted, PointCampaignTargetStatus.PENDING,
+					PointCampaignTargetStatus.GRANTED, null);
+		}
+
+		if (!skipped.isEmpty()) {
+			pointCampaignJdbcRepository.markTargets(campaignId, skipped, PointCampaignTargetStatus.PENDING,
+					PointCampaignTargetStatus.SKIPPED, "탈퇴/없는 사용자 또는 이미 지급");
+		}
+
+		pointCampaignJdbcRepository.addCounts(campaignId, granted.size(), skipped.size(), 0);
+
+		return new Granted(granted.size(), skipped.size());
+	}
+
+	/**
+	 * 롤백된 청크의 대상을 실패로 기록 (재시도 API로 다시 지급 대기로 되돌릴 수 있음)
+	 * @return 실패로 기록한 대상 수
+	 */
+	@Transactional
+	public int failChunk(Long campaignId, List<Long> userIds, String reason) {
+		var failed = pointCampaignJdbcRepository.markTargets(campaignId, userIds, PointCampaignTargetStatus.PENDING,
+				PointCampaignTargetStatus.FAILED, reason);
+
+		pointCampaignJdbcRepository.addCounts(campaignId, 0, 0, failed);
+
+		return failed;
+	}
+
+	/**
+	 * 지급 대기 대상이 남지 않았으면 캠페인 완료
+	 */
+	@Transactional
+	public void complete(Long campaignId) {
+		pointCampaignJdbcRepository.complete(campaignId);
+	}
+
+	private long[] parseUserIds(MultipartFile file) {
+		Preconditions.validate(file != null && !file.isEmpty(), ErrorCode.INVALID_POINT_CAMPAIGN_TARGETS);
+
+		try (var reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+			var lines = reader.lines()
+					.map(line -> line.split(",", 2)[0].strip())
+					.filter(line -> !line.isEmpty())
+					.toList();
+
+			// 첫 줄이 숫자가 아니면 헤더로 보고 건너뜀
+			var body = !lines.isEmpty() && !isNumber(lines.getFirst()) ? lines.subList(1, lines.size()) : lines;
+
+			Preconditions.validate(body.stream().allMatch(this::isNumber), ErrorCode.INVALID_POINT_CAMPAIGN_TARGETS);
+
+			return body.stream().mapToLong(Long::parseLong).sorted().distinct().toArray();
+		} catch (IOException e) {
+			throw new CustomException(ErrorCode.INVALID_FILE_ERROR);
+		}
+	}
+
+	private boolean isNumber(String value) {
+		return value.length() <= 18 && value.chars().allMatch(Character::isDigit);
+	}
+
+	private String serialize(PointCampaignSegment segment) {
+		try {
+			return objectMapper.writeValueAsString(segment);
+		} catch (JsonProcessingException e) {
+			throw new CustomException(ErrorCode.ERROR_SYSTEM);
+		}
+	}
+
+	private PointCampaignSegment deserialize(String segment) {
+		try {
+			return objectMapper.readValue(segment, PointCampaignSegment.class);
+		} catch (JsonProcessingException e) {
+			throw new CustomException(ErrorCode.ERROR_SYSTEM);
+		}
+	}
+
+	/**
+	 * @param granted 지급한 대상 수
+	 * @param skipped 제외한 대상 수
+	 */
+	public record Granted(
+			int granted,
+			int skipped
+	) {
+	}
+}
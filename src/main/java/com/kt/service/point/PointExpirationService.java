@@ -0,0 +1,117 @@
+package com.kt.service.point;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.domain.point.PointChange;
+import com.kt.domain.point.PointHistoryType;
+import com.kt.repository.point.PointLotJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포인트 유효기간 만료
+ * - 만료 시각이 지난 활성 lot을 청크 단위로 소멸시키고, lot마다 EXPIRED 이력을 일괄 저장하며 잔액을 차감
+ * - lot 도입 전 잔액은 이관 배치로 lot을 만들어 두어야 만료 대상이 됨
+ */
+@Service
+@RequiredArgsConstructor
+public class PointExpirationService {
+	private static final String RELATED_TYPE = "POINT_LOT";
+
+	private final PointLotJdbcRepository pointLotJdbcRepository;
+	private final PointBalanceStrategy pointBalanceStrategy;
+	private final PointLotTracker pointLotTracker;
+
+	/**
+	 * (afterExpiresAt, afterId) 다음부터 만료 시각 순으로 만료 대상 lot 조회
+	 */
+	public List<PointLotJdbcRepository.Lot> findExpired(LocalDateTime now, LocalDateTime afterExpiresAt, long afterId,
+			int limit) {
+		return pointLotJdbcRepository.findExpired(now, afterExpiresAt, afterId, limit);
+	}
+
+	/**
+	 * 한 청크 소멸
+	 * - 대상 lot을 잠근 뒤 상태와 남은 포인트를 다시 읽으므로, 조회 후 사용된 만큼은 소멸시키지 않음
+	 * @return 소멸 결과
+	 */
+	@Transactional
+	public Expired expireChunk(List<Long> lotIds, LocalDateTime now) {
+		var lots = pointLotJdbcRepository.lockExpired(lotIds, now);
+
+		if (lots.isEmpty()) {
+			return new Expired(0, 0L);
+		}
+
+		pointLotJdbcRepository.expire(lots.stream().map(PointLotJdbcRepository.Lot::id).toList());
+
+		var changes = lots.stream()
+				.filter(lot -> lot.remaining() > 0)
+				.map(lot -> new PointChange(
+						lot.userId(),
+						-lot.remaining(),
+						lot.expiresAt().toLocalDate() + " 유효기간 만료 포인트 소멸",
+						lot.id(),
+						RELATED_TYPE
+				))
+				.toList();
+
+		pointBalanceStrategy.recordAll(PointHistoryType.EXPIRED, changes);
+
+		return new Expired(lots.size(), changes.stream().mapToLong(change -> -change.changeAmount()).sum());
+	}
+
+	/**
+	 * lot이 없는 포인트의 잔액을 lot으로 이관 (한 배치)
+	 * @param afterId points.id 키셋
+	 * @return 이관 결과
+	 */
+	@Transactional
+	public Migrated migrateBatch(long afterId, int limit) {
+		var untracked = pointLotJdbcRepository.findUntracked(afterId, limit);
+
+		if (untracked.isEmpty()) {
+			return new Migrated(afterId, 0, true);
+		}
+
+		var balances = pointBalanceStrategy.balances(untracked.stream().map(PointLotJdbcRepository.Untracked::userId).toList());
+		var migrated = 0;
+
+		for (var point : untracked) {
+			var balance = balances.getOrDefault(point.userId(), 0L);
+
+			if (balance > 0) {
+				pointLotTracker.migrate(point.userId(), balance);
+				migrated++;
+			}
+		}
+
+		return new Migrated(untracked.getLast().pointId(), migrated, untracked.size() < limit);
+	}
+
+	/**
+	 * @param lots 소멸시킨 lot 수
+	 * @param amount 소멸된 포인트 합계
+	 */
+	public record Expired(
+			int lots,
+			long amount
+	) {
+	}
+
+	/**
+	 * @param lastPointId 처리한 마지막 points.id
+	 * @param migrated 이관한 포인트 수
+	 * @param done 남은 대상이 없음
+	 */
+	public record Migrated(
+			long lastPointId,
+			int migrated,
+			boolean done
+	) {
+	}
+}
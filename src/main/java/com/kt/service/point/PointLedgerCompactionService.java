@@ -0,0 +1,63 @@
+package com.kt.service.point;
+
+import java.util.LinkedHashSet;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.common.support.Snowflake;
+import com.kt.repository.point.PointLedgerJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포인트 원장 스냅샷 압축
+ * - 원장 항목(포인트 이력)을 ID 순으로 읽어 해당 사용자의 스냅샷(points)에 boundaryId까지의 합계를 더함
+ * - 스냅샷 이후 항목이 짧게 유지되어 잔액 계산 비용이 이력 수와 무관하게 일정
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point", name = "strategy", havingValue = "ledger")
+public class PointLedgerCompactionService {
+	private final PointLedgerJdbcRepository pointLedgerJdbcRepository;
+	private final PointProperties pointProperties;
+
+	/**
+	 * 이번 실행에서 합칠 수 있는 마지막 이력 ID
+	 * - Snowflake ID는 발급 시각순이므로 settleDelay 이전에 발급된 ID까지만 포함 (그 이후 ID는 아직 커밋 전일 수 있음)
+	 */
+	public long boundaryId() {
+		return Snowflake.minIdAt(System.currentTimeMillis() - pointProperties.ledger().settleDelay().toMillis()) - 1;
+	}
+
+	/**
+	 * afterId 다음 원장 항목 한 배치를 스냅샷에 합침
+	 * @return 압축이 끝난 이력 ID (boundaryId면 범위를 모두 처리)
+	 */
+	@Transactional
+	public long compactBatch(long afterId, long boundaryId) {
+		var batchSize = pointProperties.ledger().compactBatchSize();
+		var entries = pointLedgerJdbcRepository.findEntries(afterId, boundaryId, batchSize);
+
+		if (entries.isEmpty()) {
+			return boundaryId;
+		}
+
+		var userIds = new LinkedHashSet<Long>();
+		entries.forEach(entry -> userIds.add(entry.userId()));
+
+		// 사용자별로 boundaryId까지 한 번에 합치므로 다음 배치에 같은 사용자가 나와도 다시 더하지 않음
+		pointLedgerJdbcRepository.compact(userIds, boundaryId);
+
+		return entries.size() < batchSize ? boundaryId : entries.getLast().id();
+	}
+
+	/**
+	 * 원장 모드 전환 전 포인트의 스냅샷 기준 ID 채우기
+	 */
+	@Transactional
+	public int fillLastHistoryId() {
+		return pointLedgerJdbcRepository.fillLastHistoryId();
+	}
+}
@@ -0,0 +1,115 @@
+package com.kt.service.point;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.kt.common.support.Snowflake;
+import com.kt.repository.point.PointHistoryJdbcRepository;
+import com.kt.repository.point.PointLotJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 잔액 변경을 포인트 lot에 반영 (두 잔액 전략 공통, 호출 측 트랜잭션에서 실행)
+ * - 적립: 유효기간이 있는 lot 생성 (잔액이 음수였다면 갚고 남은 만큼만)
+ * - 사용/회수: 활성 lot을 잠그고 만료가 가까운 순으로 차감 (lot이 부족한 만큼은 잔액이 음수가 됨)
+ * - 위 규칙으로 활성 lot의 remaining 합계 = max(잔액, 0)을 유지하므로, 만료 배치가 lot을 소멸시켜도 잔액이 음수가 되지 않음
+ * - lot이 없던 사용자는 처음 변경될 때 기존 잔액을 먼저 lot으로 옮김 (나머지는 PointExpirationService 이관 배치)
+ */
+@Component
+@RequiredArgsConstructor
+public class PointLotTracker {
+	private static final long LEGACY_SOURCE_ID = 0L;
+
+	private final PointLotJdbcRepository pointLotJdbcRepository;
+	private final PointProperties pointProperties;
+
+	/**
+	 * @param historyId 저장된 포인트 이력 ID
+	 * @param changeAmount 변동 금액 (양수: 증가, 음수: 감소)
+	 * @param balanceAfter 변경 후 잔액
+	 */
+	public void recorded(Long userId, long historyId, long changeAmount, long balanceAfter) {
+		if (!pointLotJdbcRepository.exists(userId)) {
+			migrate(userId, balanceAfter - changeAmount);
+		}
+
+		if (changeAmount > 0) {
+			var amount = Math.min(changeAmount, balanceAfter);
+
+			if (amount > 0) {
+				pointLotJdbcRepository.insert(Snowflake.nextId(), userId, amount, expiresAt(), historyId);
+			}
+		} else if (changeAmount < 0) {
+			consume(userId, -changeAmount);
+		}
+	}
+
+	/**
+	 * 일괄 적립(PointBalanceStrategy.recordAll)된 이력마다 lot 생성 (JDBC batch)
+	 * @param rows 저장된 적립 이력 (같은 사용자의 이력은 적용 순서대로)
+	 */
+	public void creditedAll(List<PointHistoryJdbcRepository.Row> rows) {
+		var userIds = rows.stream().map(PointHistoryJdbcRepository.Row::userId).collect(Collectors.toSet());
+		var tracked = new HashSet<>(pointLotJdbcRepository.findTrackedUserIds(userIds));
+		var expiresAt = expiresAt();
+		var lots = new ArrayList<PointLotJdbcRepository.NewLot>();
+
+		for (var row : rows) {
+			// lot이 없던 사용자는 첫 이력 직전 잔액을 먼저 lot으로 옮김
+			if (tracked.add(row.userId())) {
+				var before = row.remainingPoints() - row.changeAmount();
+
+				if (before > 0) {
+					lots.add(new PointLotJdbcRepository.NewLot(Snowflake.nextId(), row.userId(), before, expiresAt,
+							LEGACY_SOURCE_ID));
+				}
+			}
+
+			var amount = Math.min(row.changeAmount(), row.remainingPoints());
+
+			if (amount > 0) {
+				lots.add(new PointLotJdbcRepository.NewLot(Snowflake.nextId(), row.userId(), amount, expiresAt, row.id()));
+			}
+		}
+
+		pointLotJdbcRepository.insertAll(lots);
+	}
+
+	/**
+	 * lot 도입 전 잔액을 하나의 lot으로 옮김 (동시에 옮기면 uk_point_lots_source로 한쪽은 무시)
+	 */
+	public void migrate(Long userId, long balance) {
+		if (balance > 0) {
+			pointLotJdbcRepository.insert(Snowflake.nextId(), userId, balance, expiresAt(), LEGACY_SOURCE_ID);
+		}
+	}
+
+	private void consume(Long userId, long amount) {
+		var consumed = new ArrayList<PointLotJdbcRepository.Lot>();
+		var left = amount;
+
+		for (var lot : pointLotJdbcRepository.lockActive(userId)) {
+			if (left == 0) {
+				break;
+			}
+
+			var used = Math.min(left, lot.remaining());
+			consumed.add(lot.withRemaining(lot.remaining() - used));
+			left -= used;
+		}
+
+		if (!consumed.isEmpty()) {
+			pointLotJdbcRepository.consume(consumed);
+		}
+	}
+
+	private LocalDateTime expiresAt() {
+		return LocalDateTime.now().plus(pointProperties.expiration().validity());
+	}
+}
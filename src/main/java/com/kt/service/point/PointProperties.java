@@ -0,0 +1,70 @@
+package com.kt.service.point;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "point")
+public record PointProperties(
+		@DefaultValue Ledger ledger,
+		@DefaultValue BalanceCache balanceCache,
+		@DefaultValue Expiration expiration,
+		@DefaultValue Campaign campaign
+) {
+	/**
+	 * ledger 전략 설정
+	 * @param settleDelay 이 시간보다 최근 이력은 스냅샷에 합치지 않음 (아직 커밋 전인 이력을 건너뛰지 않도록 트랜잭션 최대 시간보다 길게)
+	 * @param compactBatchSize 한 트랜잭션에서 합칠 이력 수
+	 * @param compactMaxBatches 한 번 실행에서 처리할 최대 배치 수
+	 */
+	public record Ledger(
+			@DefaultValue("1m") Duration settleDelay,
+			@DefaultValue("1000") int compactBatchSize,
+			@DefaultValue("100") int compactMaxBatches
+	) {
+	}
+
+	/**
+	 * 잔액 캐시 설정 (row 전략)
+	 * @param ttl 마지막 갱신 후 보관 시간 (0이면 캐시하지 않고 매번 DB 조회)
+	 */
+	public record BalanceCache(
+			@DefaultValue("10m") Duration ttl
+	) {
+	}
+
+	/**
+	 * 포인트 유효기간/만료 배치 설정
+	 * @param validity 적립 후 소멸까지의 기간 (lot 도입 전 잔액은 이관 시점부터)
+	 * @param chunkSize 한 트랜잭션에서 소멸시킬 lot 수
+	 * @param parallelism 동시에 처리할 청크 수 (DB 커넥션 풀보다 작게 유지)
+	 * @param window 한 번 실행의 최대 시간 (남은 lot은 다음 실행에서 처리)
+	 * @param backfillBatchSize lot 도입 전 잔액을 lot으로 옮길 때 한 트랜잭션에서 처리할 포인트 수
+	 */
+	public record Expiration(
+			@DefaultValue("365d") Duration validity,
+			@DefaultValue("1000") int chunkSize,
+			@DefaultValue("4") int parallelism,
+			@DefaultValue("2h") Duration window,
+			@DefaultValue("1000") int backfillBatchSize
+	) {
+	}
+
+	/**
+	 * 포인트 캠페인 일괄 지급 설정
+	 * @param chunkSize 한 트랜잭션에서 지급할 사용자 수
+	 * @param parallelism 동시에 처리할 청크 수 (DB 커넥션 풀보다 작게 유지)
+	 * @param prepareBatchSize 조건으로 대상을 적재할 때 한 트랜잭션에서 읽을 사용자 수
+	 * @param maxTargets 업로드 목록의 최대 사용자 수
+	 * @param window 한 번 실행의 최대 시간 (남은 대상은 다음 실행에서 이어서 처리)
+	 */
+	public record Campaign(
+			@DefaultValue("1000") int chunkSize,
+			@DefaultValue("4") int parallelism,
+			@DefaultValue("5000") int prepareBatchSize,
+			@DefaultValue("1000000") int maxTargets,
+			@DefaultValue("1m") Duration window
+	) {
+	}
+}
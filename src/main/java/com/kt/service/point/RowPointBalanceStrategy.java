@@ -0,0 +1,158 @@
+package com.kt.service.point;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.common.support.Snowflake;
+import com.kt.domain.point.Point;
+import com.kt.domain.point.PointBalance;
+import com.kt.domain.point.PointChange;
+import com.kt.domain.point.PointHistory;
+import com.kt.domain.point.PointHistoryType;
+import com.kt.domain.user.User;
+import com.kt.repository.point.PointHistoryJdbcRepository;
+import com.kt.repository.point.PointJdbcRepository;
+import com.kt.repository.point.PointRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Point 행 기반 잔액 전략 (기본값)
+ * - 변경마다 Point.availablePoints를 수정하고 @Version 낙관적 락으로 동시 수정을 막음
+ * - 잔액 조회는 PointBalanceCache를 거치고, 변경은 커밋 후 캐시에 반영
+ * - 일괄 변경(recordAll)은 JDBC batch로 상대값 UPDATE + version 증가
+ */
+@Component
+@Transactional
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point", name = "strategy", havingValue = "row", matchIfMissing = true)
+public class RowPointBalanceStrategy implements PointBalanceStrategy {
+	private final PointRepository pointRepository;
+	private final PointHistoryJdbcRepository pointHistoryJdbcRepository;
+	private final PointBalanceCache pointBalanceCache;
+	private final PointJdbcRepository pointJdbcRepository;
+	private final PointLotTracker pointLotTracker;
+
+	@Override
+	public String name() {
+		return "row";
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public long balance(Long userId) {
+		return pointBalanceCache.get(userId, () -> pointRepository.findBalanceByUserId(userId)
+				.orElseGet(PointBalance::empty));  // 포인트 엔티티가 없으면 0P
+	}
+
+	@Override
+	public OptionalLong record(User user, PointHistoryType type, long changeAmount, String description,
+			Long relatedId, String relatedType) {
+		// 사용은 포인트 정보가 있어야 가능, 그 외에는 없으면 생성
+		Point point = type == PointHistoryType.USED
+				? pointRepository.findByUserIdOrThrow(user.getId())
+				: pointRepository.findByUserId(user.getId())
+						.orElseGet(() -> pointRepository.save(new Point(user)));
+
+		if (type == PointHistoryType.USED) {
+			point.use(-changeAmount);
+		} else if (changeAmount > 0) {
+			point.credit(changeAmount);
+		} else {
+			point.retrieve(-changeAmount);
+		}
+
+		var historyId = Snowflake.nextId();
+		var inserted = pointHistoryJdbcRepository.insert(historyId, PointHistory.createWithRelation(
+				user,
+				type,
+				changeAmount,
+				point.getAvailablePoints(),
+				description,
+				relatedId,
+				relatedType
+		));
+
+		if (!inserted) {
+			// 변경 전 값으로 되돌려 UPDATE가 나가지 않도록 함
+			point.adjust(-changeAmount);
+			return OptionalLong.empty();
+		}
+
+		point.recorded(historyId);
+		pointLotTracker.recorded(user.getId(), historyId, changeAmount, point.getAvailablePoints());
+
+		// 커밋 시 flush로 올라간 버전과 함께 캐시 갱신
+		pointBalanceCache.putAfterCommit(user.getId(),
+				() -> new PointBalance(point.getVersion(), point.getAvailablePoints()));
+
+		return OptionalLong.of(point.getAvailablePoints());
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Long, Long> balances(Collection<Long> userIds) {
+		var balances = new HashMap<Long, Long>();
+		pointJdbcRepository.findBalances(userIds).forEach((userId, balance) -> balances.put(userId, balance.availablePoints()));
+		return balances;
+	}
+
+	@Override
+	public void recordAll(PointHistoryType type, List<PointChange> changes) {
+		if (changes.isEmpty()) {
+			return;
+		}
+
+		var historyIds = changes.stream().map(change -> Snowflake.nextId()).toList();
+
+		// 사용자 ID 오름차순으로 갱신해 동시에 실행되는 청크끼리 교착되지 않도록 함
+		var deltas = new TreeMap<Long, PointJdbcRepository.Delta>();
+		for (int i = 0; i < changes.size(); i++) {
+			var change = changes.get(i);
+			var historyId = historyIds.get(i);
+			deltas.merge(
+					change.userId(),
+					new PointJdbcRepository.Delta(change.userId(), change.changeAmount(), historyId),
+					(prev, next) -> new PointJdbcRepository.Delta(prev.userId(), prev.amount() + next.amount(),
+							Math.max(prev.lastHistoryId(), next.lastHistoryId()))
+			);
+		}
+
+		// 적립은 포인트 정보가 없는 사용자(신규 가입자 등)도 있으므로 UPSERT
+		if (type.isIncrease()) {
+			pointJdbcRepository.upsertAll(List.copyOf(deltas.values()));
+		} else {
+			pointJdbcRepository.addAll(List.copyOf(deltas.values()));
+		}
+
+		// 갱신한 행은 커밋까지 잠겨 있으므로 여기서 읽은 값이 이번 변경 직후 잔액
+		var after = pointJdbcRepository.findBalances(deltas.keySet());
+		var running = new HashMap<Long, Long>();
+		deltas.forEach((userId, delta) -> running.put(userId, after.get(userId).availablePoints() - delta.amount()));
+
+		var rows = new ArrayList<PointHistoryJdbcRepository.Row>(changes.size());
+		for (int i = 0; i < changes.size(); i++) {
+			var change = changes.get(i);
+			var remaining = running.merge(change.userId(), change.changeAmount(), Long::sum);
+			rows.add(new PointHistoryJdbcRepository.Row(historyIds.get(i), change.userId(), type, change.changeAmount(),
+					remaining, change.description(), change.relatedId(), change.relatedType()));
+		}
+
+		pointHistoryJdbcRepository.insertAll(rows);
+
+		if (type.isIncrease()) {
+			pointLotTracker.creditedAll(rows);
+		}
+
+		pointBalanceCache.putAllAfterCommit(after);
+	}
+}
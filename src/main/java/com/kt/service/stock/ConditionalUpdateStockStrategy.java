@@ -0,0 +1,64 @@
+package com.kt.service.stock;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.support.Preconditions;
+import com.kt.repository.product.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조건부 UPDATE 재고 전략
+ * - UPDATE ... SET stock = stock - ? WHERE id = ? AND stock >= ? 한 번으로 검증과 차감을 동시에 처리
+ * - 분산락 획득/조회/변경감지 왕복이 없어 중간 정도 경합 상품에 유리
+ * - 다른 전략과 마찬가지로 별도 트랜잭션에서 커밋 (호출 측 롤백 시 StockService가 복원)
+ */
+@Component
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "stock", name = "strategy", havingValue = "conditional")
+public class ConditionalUpdateStockStrategy implements StockStrategy {
+	private final ProductRepository productRepository;
+
+	@Override
+	public String name() {
+		return "conditional";
+	}
+
+	@Override
+	public void decrease(Long productId, Long quantity) {
+		if (productRepository.decreaseStockIfEnough(productId, quantity) == 1) {
+			return;
+		}
+
+		// 갱신된 행이 없으면 상품이 없는 경우와 재고 부족을 구분
+		Preconditions.validate(productRepository.existsById(productId), ErrorCode.NOT_FOUND_PRODUCT);
+		throw new CustomException(ErrorCode.NOT_ENOUGH_STOCK);
+	}
+
+	@Override
+	public void increase(Long productId, Long quantity) {
+		Preconditions.validate(productRepository.increaseStock(productId, quantity) == 1, ErrorCode.NOT_FOUND_PRODUCT);
+	}
+
+	/**
+	 * 상품ID 순으로 차감해 행 락 순서를 고정하고, 하나라도 실패하면 트랜잭션 전체 롤백
+	 */
+	@Override
+	public void decreaseAll(Map<Long, Long> quantities) {
+		new TreeMap<>(quantities).forEach(this::decrease);
+	}
+
+	@Override
+	public void increaseAll(Map<Long, Long> quantities) {
+		new TreeMap<>(quantities).forEach(this::increase);
+	}
+}
@@ -0,0 +1,72 @@
+package com.kt.service.stock;
+
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.support.Lock;
+import com.kt.common.support.Preconditions;
+import com.kt.repository.product.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 분산락 기반 재고 전략 (기본값)
+ * - 상품 단위로 Redisson 락 획득 후 JPA 변경감지로 차감
+ */
+@Component
+@Transactional
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "stock", name = "strategy", havingValue = "lock", matchIfMissing = true)
+public class LockStockStrategy implements StockStrategy {
+	private final ProductRepository productRepository;
+
+	@Override
+	public String name() {
+		return "lock";
+	}
+
+	@Override
+	@Lock(key = Lock.Key.STOCK, index = 0)
+	public void decrease(Long productId, Long quantity) {
+		var product = productRepository.findWithStockShardsByIdOrThrow(productId);
+
+		Preconditions.validate(product.canProvide(quantity), ErrorCode.NOT_ENOUGH_STOCK);
+
+		product.decreaseStock(quantity);
+	}
+
+	@Override
+	@Lock(key = Lock.Key.STOCK, index = 0)
+	public void increase(Long productId, Long quantity) {
+		var product = productRepository.findByIdOrThrow(productId);
+		product.increaseStock(quantity);
+	}
+
+	/**
+	 * 주문 상품 전체에 대한 락을 정렬된 순서로 한 번에 획득한 뒤
+	 * 하나의 트랜잭션에서 차감 (하나라도 부족하면 전체 롤백)
+	 */
+	@Override
+	@Lock(key = Lock.Key.STOCK, index = 0)
+	public void decreaseAll(Map<Long, Long> quantities) {
+		var products = productRepository.findAllWithStockShardsByIdIn(quantities.keySet());
+
+		Preconditions.validate(products.size() == quantities.size(), ErrorCode.NOT_FOUND_PRODUCT);
+
+		products.forEach(product ->
+				Preconditions.validate(product.canProvide(quantities.get(product.getId())), ErrorCode.NOT_ENOUGH_STOCK));
+
+		products.forEach(product -> product.decreaseStock(quantities.get(product.getId())));
+	}
+
+	@Override
+	@Lock(key = Lock.Key.STOCK, index = 0)
+	public void increaseAll(Map<Long, Long> quantities) {
+		productRepository.findAllById(quantities.keySet())
+				.forEach(product -> product.increaseStock(quantities.get(product.getId())));
+	}
+}
@@ -0,0 +1,77 @@
+package com.kt.service.stock;
+
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.support.Preconditions;
+import com.kt.domain.product.Product;
+import com.kt.repository.product.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비관적 락 재고 전략
+ * - SELECT ... FOR UPDATE로 상품 행을 잠근 뒤 JPA 변경감지로 차감
+ * - Redis 없이 DB 행 락만 사용하며, 락은 별도 트랜잭션 커밋 시 해제
+ */
+@Component
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "stock", name = "strategy", havingValue = "pessimistic")
+public class PessimisticStockStrategy implements StockStrategy {
+	private final ProductRepository productRepository;
+
+	@Override
+	public String name() {
+		return "pessimistic";
+	}
+
+	@Override
+	public void decrease(Long productId, Long quantity) {
+		var product = findForUpdate(productId);
+
+		Preconditions.validate(product.canProvide(quantity), ErrorCode.NOT_ENOUGH_STOCK);
+
+		product.decreaseStock(quantity);
+	}
+
+	@Override
+	public void increase(Long productId, Long quantity) {
+		findForUpdate(productId).increaseStock(quantity);
+	}
+
+	/**
+	 * 상품ID 순으로 행 락을 잡아 교착을 피하고, 전부 검증한 뒤 차감
+	 */
+	@Override
+	public void decreaseAll(Map<Long, Long> quantities) {
+		var products = quantities.keySet().stream()
+				.sorted()
+				.map(this::findForUpdate)
+				.toList();
+
+		products.forEach(product ->
+				Preconditions.validate(product.canProvide(quantities.get(product.getId())), ErrorCode.NOT_ENOUGH_STOCK));
+
+		products.forEach(product -> product.decreaseStock(quantities.get(product.getId())));
+	}
+
+	@Override
+	public void increaseAll(Map<Long, Long> quantities) {
+		quantities.keySet().stream()
+				.sorted()
+				.map(this::findForUpdate)
+				.forEach(product -> product.increaseStock(quantities.get(product.getId())));
+	}
+
+	private Product findForUpdate(Long productId) {
+		return productRepository.findByIdPessimistic(productId)
+				.orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_PRODUCT));
+	}
+}
@@ -0,0 +1,214 @@
+package com.kt.service.stock;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.support.Preconditions;
+import com.kt.repository.product.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 상주 재고 전략
+ * - 판매 가능 수량을 Redis에 두고 Lua 스크립트로 원자적으로 차감 (락 왕복 없음)
+ * - 차감된 수량은 pending 카운터에 누적되고 StockSyncScheduler가 DB에 일괄 반영
+ * - 두 키는 같은 해시태그({상품ID})를 써서 클러스터에서도 같은 슬롯에 위치
+ * - pending을 꺼내 DB에 반영하는 작업과 강제 재설정은 SYNC_LOCK_KEY로 직렬화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "stock", name = "strategy", havingValue = "redis")
+public class RedisStockStrategy implements StockStrategy {
+	public static final String SYNC_LOCK_KEY = "stock:sync";
+	private static final long SYNC_LOCK_WAIT_SECONDS = 5L;
+
+	private static final String KEY_PREFIX = "stock:{";
+	private static final String AVAILABLE_SUFFIX = "}:available";
+	private static final String PENDING_SUFFIX = "}:pending";
+	private static final String PENDING_PATTERN = KEY_PREFIX + "*" + PENDING_SUFFIX;
+
+	private static final long SUCCESS = 1L;
+	private static final long NOT_LOADED = -2L;
+
+	// KEYS[1]=available, KEYS[2]=pending, ARGV[1]=quantity
+	private static final String DECREASE_SCRIPT = """
+			local available = redis.call('GET', KEYS[1])
+			if not available then return -2 end
+			local quantity = tonumber(ARGV[1])
+			if tonumber(available) < quantity then return -1 end
+			redis.call('INCRBY', KEYS[2], quantity)
+			redis.call('DECRBY', KEYS[1], quantity)
+			return 1
+			""";
+
+	// KEYS[1]=available, KEYS[2]=pending, ARGV[1]=quantity
+	private static final String INCREASE_SCRIPT = """
+			if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end
+			redis.call('DECRBY', KEYS[2], ARGV[1])
+			redis.call('INCRBY', KEYS[1], ARGV[1])
+			return 1
+			""";
+
+	// KEYS[1]=available, KEYS[2]=pending, ARGV[1]=DB 재고, ARGV[2]=강제 덮어쓰기 여부(1/0)
+	// 아직 DB에 반영되지 않은 판매량(pending)을 빼서 판매 가능 수량을 맞춤
+	private static final String RECONCILE_SCRIPT = """
+			if ARGV[2] == '0' and redis.call('EXISTS', KEYS[1]) == 1 then
+				return tonumber(redis.call('GET', KEYS[1]))
+			end
+			local pending = tonumber(redis.call('GET', KEYS[2]) or '0')
+			local available = tonumber(ARGV[1]) - pending
+			redis.call('SET', KEYS[1], available)
+			return available
+			""";
+
+	private final RedissonClient redissonClient;
+	private final ProductRepository productRepository;
+
+	@Override
+	public String name() {
+		return "redis";
+	}
+
+	@Override
+	public void decrease(Long productId, Long quantity) {
+		var result = eval(DECREASE_SCRIPT, productId, quantity);
+
+		if (result == NOT_LOADED) {
+			// 신규 상품 등 아직 Redis에 적재되지 않은 경우 DB 값으로 적재 후 재시도
+			load(productId);
+			result = eval(DECREASE_SCRIPT, productId, quantity);
+		}
+
+		Preconditions.validate(result == SUCCESS, ErrorCode.NOT_ENOUGH_STOCK);
+	}
+
+	@Override
+	public void increase(Long productId, Long quantity) {
+		var result = eval(INCREASE_SCRIPT, productId, quantity);
+
+		if (result == NOT_LOADED) {
+			load(productId);
+			eval(INCREASE_SCRIPT, productId, quantity);
+		}
+	}
+
+	@Override
+	public boolean supportsSharding() {
+		// Redis가 이미 핫 상품 차감을 흡수하므로 DB 버킷을 쓰지 않음
+		return false;
+	}
+
+	/**
+	 * 관리자 재고 수정 반영
+	 * - StockSyncScheduler가 꺼낸 pending을 아직 DB에 반영하지 못한 사이에 덮어쓰면 그만큼 Redis가 DB보다 많아지므로
+	 *   동기화 락을 잡고, 락 안에서 다시 읽은 DB 재고로 재설정
+	 */
+	@Override
+	public void refresh(Long productId, Long stock) {
+		var lock = redissonClient.getLock(SYNC_LOCK_KEY);
+
+		try {
+			if (!lock.tryLock(SYNC_LOCK_WAIT_SECONDS, TimeUnit.SECONDS)) {
+				log.warn("Redis 재고 재설정 락 획득 실패 - productId: {}", productId);
+				throw new CustomException(ErrorCode.FAIL_ACQUIRED_LOCK);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CustomException(ErrorCode.FAIL_ACQUIRED_LOCK);
+		}
+
+		try {
+			reconcile(productId, productRepository.findByIdOrThrow(productId).getStock(), true);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * DB 재고 기준으로 판매 가능 수량 재설정
+	 * @param force false면 이미 적재된 키는 건드리지 않음
+	 */
+	public void reconcile(Long productId, Long stock, boolean force) {
+		redissonClient.getScript(StringCodec.INSTANCE).eval(
+				RScript.Mode.READ_WRITE,
+				RECONCILE_SCRIPT,
+				RScript.ReturnType.INTEGER,
+				keys(productId),
+				String.valueOf(stock),
+				force ? "1" : "0"
+		);
+	}
+
+	/**
+	 * DB에 반영할 판매량을 꺼내고 카운터를 비움
+	 * @return 상품ID -> 차감할 수량 (복원이 더 많으면 음수)
+	 */
+	public Map<Long, Long> drainPending() {
+		Map<Long, Long> pending = new HashMap<>();
+
+		for (String key : redissonClient.getKeys().getKeysByPattern(PENDING_PATTERN)) {
+			var quantity = redissonClient.getAtomicLong(key).getAndDelete();
+
+			if (quantity != 0) {
+				pending.merge(parseProductId(key), quantity, Long::sum);
+			}
+		}
+
+		return pending;
+	}
+
+	/**
+	 * DB 반영 실패 시 꺼낸 판매량을 되돌림
+	 */
+	public void restorePending(Map<Long, Long> pending) {
+		pending.forEach((productId, quantity) ->
+				redissonClient.getAtomicLong(pendingKey(productId)).addAndGet(quantity));
+	}
+
+	private void load(Long productId) {
+		var product = productRepository.findByIdOrThrow(productId);
+
+		reconcile(productId, product.getStock(), false);
+		log.info("Redis 재고 적재 - productId: {}, stock: {}", productId, product.getStock());
+	}
+
+	private long eval(String script, Long productId, Long quantity) {
+		Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+				RScript.Mode.READ_WRITE,
+				script,
+				RScript.ReturnType.INTEGER,
+				keys(productId),
+				String.valueOf(quantity)
+		);
+
+		return result;
+	}
+
+	private List<Object> keys(Long productId) {
+		return List.of(availableKey(productId), pendingKey(productId));
+	}
+
+	private String availableKey(Long productId) {
+		return KEY_PREFIX + productId + AVAILABLE_SUFFIX;
+	}
+
+	private String pendingKey(Long productId) {
+		return KEY_PREFIX + productId + PENDING_SUFFIX;
+	}
+
+	private Long parseProductId(String pendingKey) {
+		return Long.parseLong(pendingKey.substring(KEY_PREFIX.length(), pendingKey.length() - PENDING_SUFFIX.length()));
+	}
+}
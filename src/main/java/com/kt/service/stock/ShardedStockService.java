@@ -0,0 +1,177 @@
+package com.kt.service.stock;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.support.Lock;
+import com.kt.common.support.Preconditions;
+import com.kt.domain.product.ProductStockShard;
+import com.kt.repository.product.ProductRepository;
+import com.kt.repository.product.ProductStockShardRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분할 재고(sharded inventory) 처리
+ * - 상품 재고를 N개 버킷에 나눠 두고, 임의의 버킷부터 조건부 UPDATE로 차감
+ * - 버킷이 비면 다음 버킷으로 넘어가고(spill over), 어느 버킷도 감당 못 하면 전체 버킷을 잠그고 나눠서 차감
+ * - 버킷 간 쏠림은 StockShardRebalanceScheduler가 주기적으로 재분배
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShardedStockService {
+	private final ProductRepository productRepository;
+	private final ProductStockShardRepository productStockShardRepository;
+
+	@Transactional(readOnly = true)
+	public Set<Long> findShardedProductIds(Collection<Long> productIds) {
+		return new HashSet<>(productStockShardRepository.findShardedProductIds(productIds));
+	}
+
+	@Transactional(readOnly = true)
+	public List<Long> findAllShardedProductIds() {
+		return productStockShardRepository.findAllShardedProductIds();
+	}
+
+	/**
+	 * 분할 재고 상품 일괄 차감 (하나라도 부족하면 전체 롤백)
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void decreaseAll(Map<Long, Long> quantities) {
+		quantities.forEach(this::decrease);
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void increaseAll(Map<Long, Long> quantities) {
+		quantities.forEach((productId, quantity) -> {
+			var shards = findShards(productId);
+			var shard = shards.get(ThreadLocalRandom.current().nextInt(shards.size()));
+
+			productStockShardRepository.increase(shard.getId(), quantity);
+		});
+	}
+
+	/**
+	 * 분할 재고 모드 전환
+	 * - 현재 stock을 shardCount개 버킷으로 균등 분배
+	 * - conditional/pessimistic 전략은 STOCK 락 없이 상품 행을 갱신하므로, 행 락을 잡고 읽어 진행 중인 차감이 유실되지 않게 함
+	 */
+	@Lock(key = Lock.Key.STOCK, index = 0)
+	public void enable(Long productId, int shardCount) {
+		var product = productRepository.findByIdPessimisticOrThrow(productId);
+
+		Preconditions.validate(!product.isStockSharded(), ErrorCode.ALREADY_SHARDED_STOCK);
+
+		productStockShardRepository.saveAll(ProductStockShard.split(product, product.getStock(), shardCount));
+
+		log.info("분할 재고 전환 - productId: {}, shardCount: {}, stock: {}", productId, shardCount, product.getStock());
+	}
+
+	/**
+	 * 분할 재고 모드 해제
+	 * - 버킷 합계를 stock으로 되돌리고 버킷 삭제
+	 */
+	@Lock(key = Lock.Key.STOCK, index = 0)
+	public void disable(Long productId) {
+		var product = productRepository.findByIdPessimisticOrThrow(productId);
+		var shards = productStockShardRepository.findAllByProductIdForUpdate(productId);
+
+		Preconditions.validate(!shards.isEmpty(), ErrorCode.NOT_SHARDED_STOCK);
+
+		var total = sum(shards);
+		product.syncStock(total);
+		productStockShardRepository.deleteAllByProductId(productId);
+
+		log.info("분할 재고 해제 - productId: {}, stock: {}", productId, total);
+	}
+
+	/**
+	 * 버킷 재분배
+	 * - 평균의 절반보다 적게 남은 버킷이 있을 때만 잠그고 재분배
+	 * - 버킷 합계는 매번 stock에 반영
+	 */
+	@Transactional
+	public void rebalance(Long productId) {
+		var product = productRepository.findByIdOrThrow(productId);
+		var stocks = productStockShardRepository.findStocksByProductId(productId);
+
+		if (stocks.isEmpty()) {
+			return;
+		}
+
+		var total = stocks.stream().mapToLong(Long::longValue).sum();
+		var threshold = total / stocks.size() / 2;
+		var skewed = stocks.stream().anyMatch(stock -> stock < threshold);
+
+		if (skewed) {
+			var locked = productStockShardRepository.findAllByProductIdForUpdate(productId);
+			total = sum(locked);
+			ProductStockShard.rebalance(locked, total);
+		}
+
+		product.syncStock(total);
+	}
+
+	/**
+	 * 관리자가 재고를 수정한 경우 새 재고를 버킷에 다시 분배
+	 * - 상품 수정 커밋 후(afterCommit) 호출되므로 별도 트랜잭션에서 실행
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void refresh(Long productId, Long stock) {
+		var shards = productStockShardRepository.findAllByProductIdForUpdate(productId);
+
+		ProductStockShard.rebalance(shards, stock);
+	}
+
+	private void decrease(Long productId, Long quantity) {
+		var shards = findShards(productId);
+		var start = ThreadLocalRandom.current().nextInt(shards.size());
+
+		for (int i = 0; i < shards.size(); i++) {
+			var shard = shards.get((start + i) % shards.size());
+
+			if (productStockShardRepository.decreaseIfEnough(shard.getId(), quantity) == 1) {
+				return;
+			}
+		}
+
+		// 한 버킷으로 감당할 수 없는 수량이면 전체 버킷을 잠그고 나눠서 차감
+		var locked = productStockShardRepository.findAllByProductIdForUpdate(productId);
+
+		Preconditions.validate(sum(locked) >= quantity, ErrorCode.NOT_ENOUGH_STOCK);
+
+		var remaining = quantity;
+		for (var shard : locked) {
+			var taken = Math.min(shard.getStock(), remaining);
+			if (taken > 0) {
+				shard.decreaseStock(taken);
+				remaining -= taken;
+			}
+		}
+	}
+
+	private List<ProductStockShard> findShards(Long productId) {
+		var shards = productStockShardRepository.findAllByProductIdOrderByShardNo(productId);
+
+		Preconditions.validate(!shards.isEmpty(), ErrorCode.NOT_SHARDED_STOCK);
+
+		return shards;
+	}
+
+	private long sum(List<ProductStockShard> shards) {
+		return shards.stream()
+				.mapToLong(ProductStockShard::getStock)
+				.sum();
+	}
+}
@@ -0,0 +1,60 @@
+package com.kt.service.stock;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재고 전략별 지연시간/충돌 메트릭
+ * - stock.operation (Timer): strategy, operation, outcome 태그
+ *   outcome: success, insufficient(재고 부족), conflict(락 획득 실패/락 충돌), error
+ * - stock.conflict (Counter): strategy, operation 태그
+ */
+@Component
+@RequiredArgsConstructor
+public class StockMetrics {
+	private static final String OPERATION_TIMER = "stock.operation";
+	private static final String CONFLICT_COUNTER = "stock.conflict";
+
+	private final MeterRegistry meterRegistry;
+
+	public void record(String strategy, String operation, Runnable task) {
+		var sample = Timer.start(meterRegistry);
+		var outcome = "success";
+
+		try {
+			task.run();
+		} catch (RuntimeException e) {
+			outcome = outcome(e);
+			throw e;
+		} finally {
+			sample.stop(Timer.builder(OPERATION_TIMER)
+					.tag("strategy", strategy)
+					.tag("operation", operation)
+					.tag("outcome", outcome)
+					.publishPercentileHistogram()
+					.register(meterRegistry));
+
+			if ("conflict".equals(outcome)) {
+				meterRegistry.counter(CONFLICT_COUNTER, "strategy", strategy, "operation", operation).increment();
+			}
+		}
+	}
+
+	private String outcome(RuntimeException e) {
+		return switch (e) {
+			case CustomException ce when ce.getErrorCode() == ErrorCode.NOT_ENOUGH_STOCK -> "insufficient";
+			case CustomException ce when ce.getErrorCode() == ErrorCode.FAIL_ACQUIRED_LOCK -> "conflict";
+			case PessimisticLockingFailureException ignored -> "conflict";
+			case OptimisticLockingFailureException ignored -> "conflict";
+			default -> "error";
+		};
+	}
+}
@@ -0,0 +1,32 @@
+package com.kt.service.stock;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "stock")
+public record StockProperties(
+		@DefaultValue Redis redis,
+		@DefaultValue Hold hold
+) {
+	/**
+	 * redis 전략 설정
+	 * @param syncBatchSize DB 반영/정합성 맞추기 시 한 번에 처리할 상품 수
+	 */
+	public record Redis(
+			@DefaultValue("500") int syncBatchSize
+	) {
+	}
+
+	/**
+	 * 결제 대기 재고 홀드 설정
+	 * @param ttl 주문 생성 후 결제하지 않으면 재고를 반환하기까지의 시간
+	 * @param sweepBatchSize 만료 홀드 정리 시 한 번에 처리할 주문 수
+	 */
+	public record Hold(
+			@DefaultValue("15m") Duration ttl,
+			@DefaultValue("100") int sweepBatchSize
+	) {
+	}
+}
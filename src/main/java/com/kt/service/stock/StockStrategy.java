@@ -0,0 +1,61 @@
+package com.kt.service.stock;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 재고 차감/복원 전략
+ * - stock.strategy 설정값으로 배포 환경별로 선택
+ */
+public interface StockStrategy {
+	/**
+	 * 메트릭 태그로 쓰는 전략 이름 (stock.strategy 설정값과 동일)
+	 */
+	String name();
+
+	void decrease(Long productId, Long quantity);
+
+	void increase(Long productId, Long quantity);
+
+	/**
+	 * 여러 상품 재고 일괄 차감
+	 * 기본 구현은 상품별로 차감하고, 중간에 실패하면 이미 차감한 상품을 복원
+	 * @param quantities 상품ID -> 차감 수량
+	 */
+	default void decreaseAll(Map<Long, Long> quantities) {
+		Map<Long, Long> decreased = new LinkedHashMap<>();
+
+		try {
+			quantities.forEach((productId, quantity) -> {
+				decrease(productId, quantity);
+				decreased.put(productId, quantity);
+			});
+		} catch (RuntimeException e) {
+			increaseAll(decreased);
+			throw e;
+		}
+	}
+
+	/**
+	 * 여러 상품 재고 일괄 복원
+	 * @param quantities 상품ID -> 복원 수량
+	 */
+	default void increaseAll(Map<Long, Long> quantities) {
+		quantities.forEach(this::increase);
+	}
+
+	/**
+	 * 분할 재고(ProductStockShard) 상품을 DB 버킷으로 처리할 수 있는지 여부
+	 * 재고를 DB 외부에 보관하는 전략은 false
+	 */
+	default boolean supportsSharding() {
+		return true;
+	}
+
+	/**
+	 * 관리자가 DB 재고를 직접 수정한 경우 호출
+	 * DB 외부에 재고를 보관하는 전략만 재정의
+	 */
+	default void refresh(Long productId, Long stock) {
+	}
+}
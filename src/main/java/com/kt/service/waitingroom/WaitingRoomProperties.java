@@ -0,0 +1,18 @@
+package com.kt.service.waitingroom;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 주문 대기열 설정
+ * @param admitPerSecond 상품별 초당 입장 인원
+ * @param admissionTtl 입장 후 주문을 완료해야 하는 시간 (지나면 다시 대기열 등록 필요)
+ */
+@ConfigurationProperties(prefix = "waiting-room")
+public record WaitingRoomProperties(
+		@DefaultValue("50") int admitPerSecond,
+		@DefaultValue("5m") Duration admissionTtl
+) {
+}
@@ -0,0 +1,195 @@
+package com.kt.service.waitingroom;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.support.Preconditions;
+import com.kt.dto.order.WaitingRoomResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한정 판매 상품 주문 대기열
+ * - 대기열이 열린 상품은 입장한 사용자만 주문 가능
+ * - queue: 대기 중인 사용자 (score = 등록 시각)
+ * - admitted: 입장한 사용자 (score = 입장 만료 시각)
+ * - 두 키는 같은 해시태그({상품ID})를 써서 클러스터에서도 한 스크립트로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+	private static final String OPEN_PRODUCTS_KEY = "waiting-room:products";
+	private static final String KEY_PREFIX = "waiting-room:{";
+	private static final String QUEUE_SUFFIX = "}:queue";
+	private static final String ADMITTED_SUFFIX = "}:admitted";
+
+	// KEYS[1]=queue, KEYS[2]=admitted, ARGV[1]=입장 인원, ARGV[2]=입장 만료 시각, ARGV[3]=현재 시각
+	// 만료된 입장을 정리한 뒤 대기 순서대로 꺼내 입장 처리
+	private static final String ADMIT_SCRIPT = """
+			redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[3])
+			local members = redis.call('ZRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+			if #members == 0 then return 0 end
+			redis.call('ZREM', KEYS[1], unpack(members))
+			for _, member in ipairs(members) do
+				redis.call('ZADD', KEYS[2], ARGV[2], member)
+			end
+			return #members
+			""";
+
+	private final RedissonClient redissonClient;
+	private final WaitingRoomProperties waitingRoomProperties;
+
+	/**
+	 * 대기열 열기 (관리자)
+	 */
+	public void open(Long productId) {
+		openProducts().add(productId);
+		log.info("주문 대기열 오픈 - productId: {}", productId);
+	}
+
+	/**
+	 * 대기열 닫기 (관리자) - 대기/입장 정보 모두 삭제
+	 */
+	public void close(Long productId) {
+		openProducts().remove(productId);
+		redissonClient.getKeys().delete(queueKey(productId), admittedKey(productId));
+		log.info("주문 대기열 종료 - productId: {}", productId);
+	}
+
+	public Set<Long> findOpenProductIds() {
+		return openProducts().readAll();
+	}
+
+	/**
+	 * 대기열 등록
+	 * - 이미 등록되어 있으면 기존 순번 유지
+	 */
+	public WaitingRoomResponse.Status enter(Long productId, Long userId) {
+		if (!openProducts().contains(productId) || isAdmitted(productId, userId)) {
+			return status(productId, userId);
+		}
+
+		queue(productId).addIfAbsent(System.currentTimeMillis(), userId);
+
+		return status(productId, userId);
+	}
+
+	/**
+	 * 대기 순번/입장 여부 조회 (클라이언트 polling)
+	 */
+	public WaitingRoomResponse.Status status(Long productId, Long userId) {
+		if (!openProducts().contains(productId) || isAdmitted(productId, userId)) {
+			return WaitingRoomResponse.Status.admitted();
+		}
+
+		Integer rank = queue(productId).rank(userId);
+		if (rank == null) {
+			return WaitingRoomResponse.Status.notQueued();
+		}
+
+		long position = rank + 1L;
+		return WaitingRoomResponse.Status.waiting(position, position / waitingRoomProperties.admitPerSecond());
+	}
+
+	/**
+	 * 대기 순서대로 입장 처리 (AdmissionScheduler가 1초마다 호출)
+	 * @return 입장한 인원
+	 */
+	public long admit(Long productId) {
+		var now = System.currentTimeMillis();
+		Long admitted = redissonClient.getScript(StringCodec.INSTANCE).eval(
+				RScript.Mode.READ_WRITE,
+				ADMIT_SCRIPT,
+				RScript.ReturnType.INTEGER,
+				List.of(queueKey(productId), admittedKey(productId)),
+				String.valueOf(waitingRoomProperties.admitPerSecond()),
+				String.valueOf(now + waitingRoomProperties.admissionTtl().toMillis()),
+				String.valueOf(now)
+		);
+
+		return admitted;
+	}
+
+	/**
+	 * 주문 상품 중 대기열이 열린 상품은 입장한 사용자만 주문 가능
+	 * - 주문이 커밋되면 입장권 소진 (롤백되면 유지되어 재시도 가능)
+	 */
+	public void validateAdmitted(Long userId, Collection<Long> productIds) {
+		checkAdmitted(userId, productIds);
+		consumeAdmission(userId, productIds);
+	}
+
+	/**
+	 * 입장 여부만 확인하고 입장권은 소진하지 않음 (비동기 주문 접수용)
+	 */
+	public void checkAdmitted(Long userId, Collection<Long> productIds) {
+		gatedProductIds(productIds).forEach(productId ->
+				Preconditions.validate(isAdmitted(productId, userId), ErrorCode.NOT_ADMITTED_WAITING_ROOM));
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋되면 입장권 소진 (입장 확인은 호출 측에서 이미 끝난 경우)
+	 */
+	public void consumeAdmission(Long userId, Collection<Long> productIds) {
+		var gatedProductIds = gatedProductIds(productIds);
+
+		if (gatedProductIds.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				gatedProductIds.forEach(productId -> admittedUsers(productId).remove(userId));
+			}
+		});
+	}
+
+	private List<Long> gatedProductIds(Collection<Long> productIds) {
+		var openProducts = openProducts();
+
+		return productIds.stream()
+				.filter(openProducts::contains)
+				.toList();
+	}
+
+	private boolean isAdmitted(Long productId, Long userId) {
+		Double expiresAt = admittedUsers(productId).getScore(userId);
+
+		return expiresAt != null && expiresAt > System.currentTimeMillis();
+	}
+
+	private RSet<Long> openProducts() {
+		return redissonClient.getSet(OPEN_PRODUCTS_KEY, LongCodec.INSTANCE);
+	}
+
+	private RScoredSortedSet<Long> queue(Long productId) {
+		return redissonClient.getScoredSortedSet(queueKey(productId), LongCodec.INSTANCE);
+	}
+
+	private RScoredSortedSet<Long> admittedUsers(Long productId) {
+		return redissonClient.getScoredSortedSet(admittedKey(productId), LongCodec.INSTANCE);
+	}
+
+	private String queueKey(Long productId) {
+		return KEY_PREFIX + productId + QUEUE_SUFFIX;
+	}
+
+	private String admittedKey(Long productId) {
+		return KEY_PREFIX + productId + ADMITTED_SUFFIX;
+	}
+}
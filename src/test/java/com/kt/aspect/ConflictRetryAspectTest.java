@@ -0,0 +1,130 @@
+package com.kt.aspect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kt.common.support.RetryOnConflict;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("ConflictRetryAspect 테스트")
+class ConflictRetryAspectTest {
+
+	@Autowired
+	private ConflictingOperation conflictingOperation;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		conflictingOperation.reset();
+	}
+
+	@Test
+	@DisplayName("버전 충돌이 나면 다시 실행해 성공한다")
+	void retryUntilSuccess() {
+		// given
+		conflictingOperation.failTimes(2);
+		var retriesBefore = meterRegistry.counter("optimistic_lock.retry", "operation", "test.conflict").count();
+
+		// when
+		conflictingOperation.call();
+
+		// then
+		assertThat(conflictingOperation.attempts()).isEqualTo(3);
+		assertThat(meterRegistry.counter("optimistic_lock.retry", "operation", "test.conflict").count())
+			.isEqualTo(retriesBefore + 2);
+	}
+
+	@Test
+	@DisplayName("최대 실행 횟수를 넘기면 충돌 예외를 그대로 던진다")
+	void rethrowWhenExhausted() {
+		// given
+		conflictingOperation.failTimes(10);
+
+		// when & then
+		assertThatThrownBy(() -> conflictingOperation.call())
+			.isInstanceOf(OptimisticLockingFailureException.class);
+		assertThat(conflictingOperation.attempts()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("인터럽트된 스레드는 재시도하지 않고 인터럽트 상태를 유지한다")
+	void stopRetryWhenInterrupted() {
+		// given
+		conflictingOperation.failTimes(10);
+		Thread.currentThread().interrupt();
+
+		// when & then
+		try {
+			assertThatThrownBy(() -> conflictingOperation.call())
+				.isInstanceOf(OptimisticLockingFailureException.class);
+			assertThat(conflictingOperation.attempts()).isEqualTo(1);
+			assertThat(Thread.currentThread().isInterrupted()).isTrue();
+		} finally {
+			Thread.interrupted();
+		}
+	}
+
+	@Test
+	@DisplayName("호출 측 트랜잭션 안에서는 재시도하지 않는다")
+	void noRetryInsideTransaction() {
+		// given
+		conflictingOperation.failTimes(1);
+
+		// when & then
+		assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> conflictingOperation.call()))
+			.isInstanceOf(OptimisticLockingFailureException.class);
+		assertThat(conflictingOperation.attempts()).isEqualTo(1);
+	}
+
+	@TestConfiguration
+	static class Config {
+		@Bean
+		ConflictingOperation conflictingOperation() {
+			return new ConflictingOperation();
+		}
+	}
+
+	static class ConflictingOperation {
+		private final AtomicInteger attempts = new AtomicInteger();
+		private volatile int failures;
+
+		@RetryOnConflict(operation = "test.conflict", maxAttempts = 3, backoffMillis = 1L, maxBackoffMillis = 5L)
+		public void call() {
+			if (attempts.incrementAndGet() <= failures) {
+				throw new ObjectOptimisticLockingFailureException(Object.class, 1L);
+			}
+		}
+
+		void failTimes(int failures) {
+			this.failures = failures;
+		}
+
+		int attempts() {
+			return attempts.get();
+		}
+
+		void reset() {
+			attempts.set(0);
+			failures = 0;
+		}
+	}
+}
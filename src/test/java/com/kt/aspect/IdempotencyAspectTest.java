@@ -0,0 +1,177 @@
+package com.kt.aspect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.response.ApiResult;
+import com.kt.common.support.Idempotent;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("IdempotencyAspect 테스트")
+class IdempotencyAspectTest {
+
+	@Autowired
+	private CountingEndpoint countingEndpoint;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@BeforeEach
+	void setUp() {
+		countingEndpoint.reset();
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	@DisplayName("같은 Idempotency-Key로 다시 요청하면 실행하지 않고 첫 응답을 반환한다")
+	void replayStoredResponse() throws Exception {
+		// given
+		var key = UUID.randomUUID().toString();
+
+		// when
+		bindRequest(key);
+		var first = countingEndpoint.call();
+		var second = countingEndpoint.call();
+
+		// then
+		assertThat(countingEndpoint.count()).isEqualTo(1);
+		assertThat(objectMapper.writeValueAsString(second)).isEqualTo(objectMapper.writeValueAsString(first));
+	}
+
+	@Test
+	@DisplayName("같은 Idempotency-Key로 다른 본문을 보내면 첫 응답을 재사용하지 않고 거부한다")
+	void rejectReusedKeyWithDifferentBody() {
+		// given
+		var key = UUID.randomUUID().toString();
+		bindRequest(key);
+		countingEndpoint.callWithBody(Map.of("quantity", 1));
+
+		// when & then
+		assertThatCode(() -> countingEndpoint.callWithBody(Map.of("quantity", 1))).doesNotThrowAnyException();
+		assertThatThrownBy(() -> countingEndpoint.callWithBody(Map.of("quantity", 2)))
+			.isInstanceOf(CustomException.class)
+			.hasMessage(ErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+		assertThat(countingEndpoint.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Idempotency-Key가 없으면 매번 실행한다")
+	void executeWithoutKey() {
+		// when
+		bindRequest(null);
+		countingEndpoint.call();
+		countingEndpoint.call();
+
+		// then
+		assertThat(countingEndpoint.count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("같은 키의 동시 요청은 한 번만 실행되고 결과를 공유한다")
+	void coalesceConcurrentDuplicates() throws Exception {
+		// given
+		var key = UUID.randomUUID().toString();
+		int threadCount = 10;
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<ApiResult<Integer>>> results = new ArrayList<>();
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			results.add(executor.submit(() -> {
+				bindRequest(key);
+				start.await();
+				try {
+					return countingEndpoint.slowCall();
+				} finally {
+					RequestContextHolder.resetRequestAttributes();
+				}
+			}));
+		}
+		start.countDown();
+
+		List<String> bodies = new ArrayList<>();
+		for (var result : results) {
+			bodies.add(objectMapper.writeValueAsString(result.get(10, TimeUnit.SECONDS)));
+		}
+		executor.shutdown();
+
+		// then
+		assertThat(countingEndpoint.count()).isEqualTo(1);
+		assertThat(bodies).containsOnly(bodies.getFirst());
+	}
+
+	private void bindRequest(String idempotencyKey) {
+		var request = new MockHttpServletRequest("POST", "/orders");
+		if (idempotencyKey != null) {
+			request.addHeader(Idempotent.HEADER, idempotencyKey);
+		}
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+	}
+
+	@TestConfiguration
+	static class Config {
+		@Bean
+		CountingEndpoint countingEndpoint() {
+			return new CountingEndpoint();
+		}
+	}
+
+	static class CountingEndpoint {
+		private final AtomicInteger counter = new AtomicInteger();
+
+		@Idempotent
+		public ApiResult<Integer> call() {
+			return ApiResult.ok(counter.incrementAndGet());
+		}
+
+		@Idempotent
+		public ApiResult<Integer> callWithBody(@RequestBody Map<String, Object> body) {
+			return ApiResult.ok(counter.incrementAndGet());
+		}
+
+		@Idempotent
+		public ApiResult<Integer> slowCall() throws InterruptedException {
+			TimeUnit.MILLISECONDS.sleep(200);
+			return ApiResult.ok(counter.incrementAndGet());
+		}
+
+		int count() {
+			return counter.get();
+		}
+
+		void reset() {
+			counter.set(0);
+		}
+	}
+}
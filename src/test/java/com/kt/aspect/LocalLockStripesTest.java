@@ -0,0 +1,37 @@
+package com.kt.aspect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class LocalLockStripesTest {
+	@Test
+	void 같은_키는_같은_로컬_락() {
+		// given
+		LocalLockStripes stripes = new LocalLockStripes(16);
+
+		// when & then
+		assertThat(stripes.get(List.of("stock:1"))).isEqualTo(stripes.get(List.of("stock:1")));
+	}
+
+	@Test
+	void 같은_스트라이프에_속한_키는_한_번만_잠금() {
+		// given
+		LocalLockStripes stripes = new LocalLockStripes(1);
+
+		// when & then
+		assertThat(stripes.get(List.of("stock:1", "stock:2", "stock:3"))).hasSize(1);
+	}
+
+	@Test
+	void 키_순서와_무관하게_같은_순서로_반환() {
+		// given
+		LocalLockStripes stripes = new LocalLockStripes(1024);
+
+		// when & then
+		assertThat(stripes.get(List.of("stock:1", "stock:2")))
+				.containsExactlyElementsOf(stripes.get(List.of("stock:2", "stock:1")));
+	}
+}
@@ -0,0 +1,68 @@
+package com.kt.common.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.request.CursorPaging;
+import com.kt.common.response.CursorPage;
+
+class CursorTest {
+	@Test
+	void 인코딩한_커서는_같은_정렬키와_ID로_복원() {
+		// given
+		var createdAt = LocalDateTime.of(2025, 1, 1, 10, 0, 0, 123_456_000);
+		var cursor = Cursor.of(createdAt, 42L);
+
+		// when
+		var decoded = Cursor.decode(cursor.encode());
+
+		// then
+		assertThat(decoded.keyAsDateTime()).isEqualTo(createdAt);
+		assertThat(decoded.id()).isEqualTo(42L);
+	}
+
+	@Test
+	void ID만_있는_커서도_복원() {
+		// when
+		var decoded = Cursor.decode(Cursor.ofId(7L).encode());
+
+		// then
+		assertThat(decoded.key()).isNull();
+		assertThat(decoded.id()).isEqualTo(7L);
+	}
+
+	@Test
+	void 잘못된_커서는_예외() {
+		assertThatThrownBy(() -> Cursor.decode("not-a-cursor"))
+			.isInstanceOf(CustomException.class);
+	}
+
+	@Test
+	void size보다_많이_조회되면_다음_커서를_만든다() {
+		// given
+		var paging = new CursorPaging(null, 2);
+
+		// when
+		var page = CursorPage.of(List.of(30L, 20L, 10L), paging.size(), Cursor::ofId);
+
+		// then
+		assertThat(page.content()).containsExactly(30L, 20L);
+		assertThat(page.hasNext()).isTrue();
+		assertThat(new CursorPaging(page.nextCursor(), 2).cursorIdOrMax()).isEqualTo(20L);
+	}
+
+	@Test
+	void 마지막_페이지는_다음_커서가_없다() {
+		// when
+		var page = CursorPage.of(List.of(30L, 20L), 2, Cursor::ofId);
+
+		// then
+		assertThat(page.hasNext()).isFalse();
+		assertThat(page.nextCursor()).isNull();
+	}
+}
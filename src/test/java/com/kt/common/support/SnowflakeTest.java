@@ -0,0 +1,69 @@
+package com.kt.common.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.kt.common.exception.CustomException;
+
+class SnowflakeTest {
+	@Test
+	void 같은_노드에서_발급한_ID는_단조_증가() {
+		// given
+		Snowflake snowflake = new Snowflake(1L);
+		List<Long> ids = new ArrayList<>();
+
+		// when
+		for (int i = 0; i < 10_000; i++) {
+			ids.add(snowflake.next());
+		}
+
+		// then
+		assertThat(ids).isSorted().doesNotHaveDuplicates();
+	}
+
+	@Test
+	void 동시에_발급해도_ID가_중복되지_않음() throws InterruptedException {
+		// given
+		Snowflake snowflake = new Snowflake(1L);
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		// when
+		for (int i = 0; i < 8; i++) {
+			executor.submit(() -> {
+				for (int j = 0; j < 5_000; j++) {
+					ids.add(snowflake.next());
+				}
+			});
+		}
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+
+		// then
+		assertThat(ids).hasSize(40_000);
+	}
+
+	@Test
+	void 워커ID가_다르면_같은_시각에도_다른_ID() {
+		// given
+		Snowflake first = new Snowflake(1L);
+		Snowflake second = new Snowflake(2L);
+
+		// when & then
+		assertThat(first.next()).isNotEqualTo(second.next());
+	}
+
+	@Test
+	void 워커ID_범위_초과() {
+		assertThatThrownBy(() -> new Snowflake(1024L)).isInstanceOf(CustomException.class);
+	}
+}
@@ -36,6 +36,8 @@ import com.kt.security.JwtService;
 import com.kt.security.WithMockCustomUser;
 import com.kt.service.ProductService;
 import com.kt.service.RedisService;
+import com.kt.service.StockService;
+import com.kt.service.waitingroom.WaitingRoomService;
 
 @WebMvcTest(controllers = AdminProductController.class)
 @WithMockCustomUser(id = 1L, role = Role.ADMIN)
@@ -49,6 +51,10 @@ class AdminProductControllerTest {
 	@MockitoBean
 	private RedisService redisService;
 	@MockitoBean
+	private StockService stockService;
+	@MockitoBean
+	private WaitingRoomService waitingRoomService;
+	@MockitoBean
 	private JwtService jwtService;
 	@MockitoBean
 	private UserRepository userRepository;
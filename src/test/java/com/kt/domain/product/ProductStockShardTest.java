@@ -0,0 +1,55 @@
+package com.kt.domain.product;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+
+class ProductStockShardTest {
+	private static final Product DEFAULT_PRODUCT = new Product("테스트 상품명", 10000L, 10L, "설명", null, null, null);
+
+	@Test
+	void 재고_분할__나머지는_앞_버킷부터_분배() {
+		// when
+		List<ProductStockShard> shards = ProductStockShard.split(DEFAULT_PRODUCT, 10L, 4);
+
+		// then
+		assertThat(shards).extracting(ProductStockShard::getStock).containsExactly(3L, 3L, 2L, 2L);
+		assertThat(shards).extracting(ProductStockShard::getShardNo).containsExactly(0, 1, 2, 3);
+	}
+
+	@Test
+	void 재고_분할_실패__버킷_수가_2_미만() {
+		assertThatThrownBy(() -> ProductStockShard.split(DEFAULT_PRODUCT, 10L, 1))
+				.isInstanceOf(CustomException.class)
+				.hasMessageContaining(ErrorCode.INVALID_STOCK_SHARD.getMessage());
+	}
+
+	@Test
+	void 재분배__버킷_재고를_균등하게_맞춤() {
+		// given
+		List<ProductStockShard> shards = ProductStockShard.split(DEFAULT_PRODUCT, 9L, 3);
+		shards.getFirst().decreaseStock(3L);
+
+		// when
+		ProductStockShard.rebalance(shards, 6L);
+
+		// then
+		assertThat(shards).extracting(ProductStockShard::getStock).containsExactly(2L, 2L, 2L);
+	}
+
+	@Test
+	void 버킷_차감_실패__재고_부족() {
+		// given
+		List<ProductStockShard> shards = ProductStockShard.split(DEFAULT_PRODUCT, 4L, 2);
+
+		// when & then
+		assertThatThrownBy(() -> shards.getFirst().decreaseStock(3L))
+				.isInstanceOf(CustomException.class)
+				.hasMessageContaining(ErrorCode.NOT_ENOUGH_STOCK.getMessage());
+	}
+}
@@ -0,0 +1,60 @@
+package com.kt.domain.product;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+
+class StockHoldTest {
+	private static final Long DEFAULT_QUANTITY = 2L;
+
+	@Test
+	void 홀드_생성__결제_대기_상태() {
+		// when
+		StockHold hold = StockHold.create(null, null, DEFAULT_QUANTITY, LocalDateTime.now().plusMinutes(15));
+
+		// then
+		assertThat(hold.getStatus()).isEqualTo(StockHoldStatus.HELD);
+		assertThat(hold.getQuantity()).isEqualTo(DEFAULT_QUANTITY);
+	}
+
+	@Test
+	void 홀드_확정() {
+		// given
+		StockHold hold = StockHold.create(null, null, DEFAULT_QUANTITY, LocalDateTime.now().plusMinutes(15));
+
+		// when
+		hold.confirm();
+
+		// then
+		assertThat(hold.getStatus()).isEqualTo(StockHoldStatus.CONFIRMED);
+	}
+
+	@Test
+	void 홀드_확정_실패__이미_해제됨() {
+		// given
+		StockHold hold = StockHold.create(null, null, DEFAULT_QUANTITY, LocalDateTime.now().minusMinutes(1));
+		hold.release();
+
+		// when & then
+		assertThatThrownBy(hold::confirm)
+				.isInstanceOf(CustomException.class)
+				.hasMessageContaining(ErrorCode.INVALID_STOCK_HOLD_STATUS.getMessage());
+	}
+
+	@Test
+	void 홀드_해제_실패__이미_확정됨() {
+		// given
+		StockHold hold = StockHold.create(null, null, DEFAULT_QUANTITY, LocalDateTime.now().plusMinutes(15));
+		hold.confirm();
+
+		// when & then
+		assertThatThrownBy(hold::release)
+				.isInstanceOf(CustomException.class)
+				.hasMessageContaining(ErrorCode.INVALID_STOCK_HOLD_STATUS.getMessage());
+	}
+}
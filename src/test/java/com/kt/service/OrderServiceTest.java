@@ -4,26 +4,36 @@ import static com.kt.support.fixture.ProductFixture.*;
 import static com.kt.support.fixture.UserFixture.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.common.request.CursorPaging;
 import com.kt.domain.address.Address;
 import com.kt.domain.order.Order;
+import com.kt.domain.order.OrderStatus;
 import com.kt.domain.product.Product;
 import com.kt.domain.product.ProductStatus;
 import com.kt.domain.user.User;
 import com.kt.dto.order.OrderRequest;
+import com.kt.dto.order.OrderResponse;
 import com.kt.repository.address.AddressRepository;
 import com.kt.repository.cart.CartItemRepository;
 import com.kt.repository.order.OrderRepository;
+import com.kt.repository.order.OrderSummaryRepository;
 import com.kt.repository.orderproduct.OrderProductRepository;
 import com.kt.repository.payment.PaymentRepository;
 import com.kt.repository.product.ProductRepository;
+import com.kt.repository.product.StockHoldRepository;
 import com.kt.repository.user.UserRepository;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -54,12 +64,22 @@ class OrderServiceTest {
 	@Autowired
 	private PaymentRepository paymentRepository;
 
+	@Autowired
+	private StockHoldRepository stockHoldRepository;
+
 	@Autowired
 	private com.kt.repository.payment.PaymentTypeRepository paymentTypeRepository;
 
+	@Autowired
+	private OrderSummaryRepository orderSummaryRepository;
+
+	@Autowired
+	private UserOrderService userOrderService;
+
 	@BeforeEach
 	void setUp() {
 
+		stockHoldRepository.deleteAll();
 		orderProductRepository.deleteAll();
 		orderRepository.deleteAll();
 		cartItemRepository.deleteAll();
@@ -137,6 +157,148 @@ class OrderServiceTest {
 		assertThat(orderProductCount).isEqualTo(2);
 	}
 
+	@Test
+	@DisplayName("여러 상품 중 하나라도 재고가 부족하면 어떤 상품의 재고도 차감되지 않는다")
+	void createOrderRollsBackAllStocksWhenOneIsInsufficient() {
+		// given
+		User user = userRepository.save(defaultCustomer());
+		Product product1 = productRepository.save(product("상품1", 10_000L, 100L, "상품1 설명"));
+		Product product2 = productRepository.save(product("상품2", 20_000L, 1L, "상품2 설명"));
+		activateProduct(product1);
+		activateProduct(product2);
+		Address address = addressRepository.save(createDefaultAddress(user));
+
+		OrderRequest.Create request = new OrderRequest.Create(
+			List.of(
+				new OrderRequest.OrderItem(product1.getId(), 3L),
+				new OrderRequest.OrderItem(product2.getId(), 2L)
+			),
+			address.getId(),
+			null,
+			OrderRequest.OrderType.DIRECT,
+			0L
+		);
+
+		// when & then
+		assertThatThrownBy(() -> orderService.create(user.getId(), request))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(ErrorCode.NOT_ENOUGH_STOCK.getMessage());
+
+		assertThat(productRepository.findByIdOrThrow(product1.getId()).getStock()).isEqualTo(100L);
+		assertThat(productRepository.findByIdOrThrow(product2.getId()).getStock()).isEqualTo(1L);
+		assertThat(orderRepository.findAll()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("주문 후 상품 가격이 바뀌어도 주문 총액은 주문 시점 가격으로 유지된다")
+	void createOrderKeepsPriceSnapshot() {
+		// given
+		User user = userRepository.save(defaultCustomer());
+		Product product1 = productRepository.save(product("상품1", 10_000L, 100L, "상품1 설명"));
+		Product product2 = productRepository.save(product("상품2", 20_000L, 50L, "상품2 설명"));
+		activateProduct(product1);
+		activateProduct(product2);
+		Address address = addressRepository.save(createDefaultAddress(user));
+
+		OrderRequest.Create request = new OrderRequest.Create(
+			List.of(
+				new OrderRequest.OrderItem(product1.getId(), 3L),
+				new OrderRequest.OrderItem(product2.getId(), 2L)
+			),
+			address.getId(),
+			null,
+			OrderRequest.OrderType.DIRECT,
+			0L
+		);
+
+		orderService.create(user.getId(), request);
+
+		// when
+		Product changed = productRepository.findByIdOrThrow(product1.getId());
+		changed.update(changed.getName(), 99_000L, changed.getStock(), changed.getDescription(),
+			changed.getThumbnailImgUrl(), changed.getDetailImgUrl());
+		productRepository.save(changed);
+
+		// then
+		Order order = orderRepository.findAll().getFirst();
+
+		assertThat(order.getTotalPrice()).isEqualTo(10_000L * 3 + 20_000L * 2);
+		assertThat(order.getFirstProductName()).isEqualTo("상품1");
+		assertThat(order.getProductCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("주문 생성과 상태 변경이 주문 요약에 반영된다")
+	void orderSummaryFollowsOrder() {
+		// given
+		User user = userRepository.save(defaultCustomer());
+		Product product = productRepository.save(product("상품1", 10_000L, 100L, "상품1 설명"));
+		activateProduct(product);
+		Address address = addressRepository.save(createDefaultAddress(user));
+
+		OrderRequest.Create request = new OrderRequest.Create(
+			List.of(new OrderRequest.OrderItem(product.getId(), 3L)),
+			address.getId(),
+			null,
+			OrderRequest.OrderType.DIRECT,
+			0L
+		);
+
+		Long orderId = orderService.create(user.getId(), request);
+
+		// when
+		Order order = orderRepository.findByOrderIdOrThrow(orderId);
+		order.changeStatus(OrderStatus.ORDER_ACCEPTED);
+		orderRepository.save(order);
+
+		// then
+		var summaries = orderSummaryRepository.findAllByUserId(user.getId(), PageRequest.of(0, 10)).getContent();
+
+		assertThat(summaries).hasSize(1);
+		assertThat(summaries.getFirst().getOrderId()).isEqualTo(orderId);
+		assertThat(summaries.getFirst().getUsername()).isEqualTo(user.getName());
+		assertThat(summaries.getFirst().getTotalPrice()).isEqualTo(30_000L);
+		assertThat(summaries.getFirst().getFirstProductName()).isEqualTo("상품1");
+		assertThat(summaries.getFirst().getStatus()).isEqualTo(OrderStatus.ORDER_ACCEPTED);
+	}
+
+	@Test
+	@DisplayName("주문 목록을 커서로 이어서 조회하면 누락/중복 없이 최신순으로 조회된다")
+	void scrollMyOrders() {
+		// given
+		User user = userRepository.save(defaultCustomer());
+		Product product = productRepository.save(product("상품1", 10_000L, 100L, "상품1 설명"));
+		activateProduct(product);
+		Address address = addressRepository.save(createDefaultAddress(user));
+
+		List<Long> orderIds = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			orderIds.add(orderService.create(user.getId(), new OrderRequest.Create(
+				List.of(new OrderRequest.OrderItem(product.getId(), 1L)),
+				address.getId(),
+				null,
+				OrderRequest.OrderType.DIRECT,
+				0L
+			)));
+		}
+
+		// when
+		var first = userOrderService.scrollMyOrders(user.getId(), new CursorPaging(null, 2));
+		var second = userOrderService.scrollMyOrders(user.getId(), new CursorPaging(first.nextCursor(), 2));
+		var last = userOrderService.scrollMyOrders(user.getId(), new CursorPaging(second.nextCursor(), 2));
+
+		// then
+		var scrolled = Stream.of(first, second, last)
+			.flatMap(it -> it.content().stream())
+			.map(OrderResponse.Summary::orderId)
+			.toList();
+
+		assertThat(scrolled).containsExactlyElementsOf(orderIds.reversed());
+		assertThat(first.hasNext()).isTrue();
+		assertThat(last.hasNext()).isFalse();
+		assertThat(last.nextCursor()).isNull();
+	}
+
 	// 헬퍼 메서드
 	private void activateProduct(Product product) {
 		if (product.getStatus() != ProductStatus.ACTIVATED) {
@@ -269,6 +269,24 @@ class PointServiceTest {
 		assertThat(histories.getContent().get(0).getDescription()).contains("주문 구매 확정");
 	}
 
+	@Test
+	@DisplayName("구매 확정 포인트가 이미 적립된 주문은 다시 적립하지 않고 처리 완료로 간주한다")
+	void 구매확정_포인트_중복_적립_무시() {
+		// given
+		Long orderId = 1L;
+		Long actualPaymentAmount = 30000L;
+		pointService.creditPointsForOrder(user.getId(), orderId, actualPaymentAmount);
+
+		// when
+		assertThatCode(() -> pointService.creditPointsForOrder(user.getId(), orderId, actualPaymentAmount))
+				.doesNotThrowAnyException();
+
+		// then
+		Point point = pointRepository.findByUserId(user.getId()).orElseThrow();
+		assertThat(point.getAvailablePoints()).isEqualTo(1500L);
+		assertThat(pointHistoryRepository.findByUserId(user.getId(), PageRequest.of(0, 10)).getContent()).hasSize(1);
+	}
+
 	@Test
 	@DisplayName("리뷰 작성 포인트 적립 - 100P 지급")
 	void 리뷰작성_포인트_적립() {
@@ -363,4 +381,24 @@ class PointServiceTest {
 		assertThat(refundHistory.getChangeAmount()).isEqualTo(2000L); // 복구
 		assertThat(refundHistory.getDescription()).contains("복구");
 	}
+
+	@Test
+	@DisplayName("결제 실패 포인트 복구가 두 번 호출되어도 한 번만 복구")
+	void 결제실패_포인트_중복_복구_방지() {
+		// given
+		Long orderId = 1L;
+		Point point = new Point(user);
+		point.credit(5000L);
+		pointRepository.save(point);
+		pointService.usePoints(user.getId(), orderId, 2000L);
+
+		// when
+		pointService.refundPointsForPaymentFailure(user.getId(), orderId);
+		pointService.refundPointsForPaymentFailure(user.getId(), orderId);
+
+		// then
+		Point afterRefund = pointRepository.findByUserId(user.getId()).orElseThrow();
+		assertThat(afterRefund.getAvailablePoints()).isEqualTo(5000L);
+		assertThat(pointHistoryRepository.findByUserId(user.getId(), PageRequest.of(0, 10)).getContent()).hasSize(2);
+	}
 }
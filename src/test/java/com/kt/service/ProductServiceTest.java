@@ -29,6 +29,9 @@ public class ProductServiceTest {
 	@Mock
 	private ProductRepository productRepository;
 
+	@Mock
+	private StockService stockService;
+
 	@InjectMocks
 	private ProductService productService;
 
@@ -125,6 +128,7 @@ public class ProductServiceTest {
 		assertThat(product.getPrice()).isEqualTo(newPrice);
 		assertThat(product.getStock()).isEqualTo(newStock);
 		assertThat(product.getDescription()).isEqualTo(newDescription);
+		verify(stockService, times(1)).refreshStock(product.getId(), newStock);
 	}
 
 	@Test
@@ -0,0 +1,142 @@
+package com.kt.service;
+
+import static com.kt.support.fixture.ProductFixture.*;
+import static com.kt.support.fixture.UserFixture.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kt.domain.address.Address;
+import com.kt.domain.order.OrderStatus;
+import com.kt.domain.product.Product;
+import com.kt.domain.product.StockHold;
+import com.kt.domain.product.StockHoldStatus;
+import com.kt.domain.user.User;
+import com.kt.dto.order.OrderRequest;
+import com.kt.repository.address.AddressRepository;
+import com.kt.repository.order.OrderRepository;
+import com.kt.repository.orderproduct.OrderProductRepository;
+import com.kt.repository.product.ProductRepository;
+import com.kt.repository.product.StockHoldRepository;
+import com.kt.repository.user.UserRepository;
+
+// 만료 홀드 정리 스케줄러가 테스트 중인 홀드를 가져가지 않도록 별도 DB + 긴 정리 주기 사용
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"spring.datasource.url=jdbc:h2:mem:stock-hold-test;MODE=MySQL",
+		"stock.hold.sweep-interval-ms=3600000"
+	}
+)
+@DisplayName("StockHoldService 테스트")
+class StockHoldServiceTest {
+
+	@Autowired
+	private StockHoldService stockHoldService;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private StockHoldRepository stockHoldRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderProductRepository orderProductRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private AddressRepository addressRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private Product product;
+	private Long orderId;
+
+	@BeforeEach
+	void setUp() {
+		stockHoldRepository.deleteAll();
+		orderProductRepository.deleteAll();
+		orderRepository.deleteAll();
+		addressRepository.deleteAll();
+		productRepository.deleteAll();
+		userRepository.deleteAll();
+
+		User user = userRepository.save(defaultCustomer());
+		product = productRepository.save(defaultProduct());
+		product.activate();
+		productRepository.save(product);
+		Address address = addressRepository.save(
+			Address.create(user, "집", "수신자 이름", "010-1111-2222", "서울시 강남구", "123번지", "12345", true));
+
+		orderId = orderService.create(user.getId(), new OrderRequest.Create(
+			List.of(new OrderRequest.OrderItem(product.getId(), 2L)),
+			address.getId(),
+			null,
+			OrderRequest.OrderType.DIRECT,
+			0L
+		));
+	}
+
+	@Test
+	@DisplayName("홀드 해제가 롤백되면 재고도 반환되지 않는다")
+	void releaseRolledBack() {
+		// when
+		transactionTemplate.executeWithoutResult(status -> {
+			stockHoldService.release(orderId);
+			status.setRollbackOnly();
+		});
+
+		// then
+		assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isEqualTo(8L);
+		assertThat(stockHoldRepository.findAll()).extracting(StockHold::getStatus)
+			.containsOnly(StockHoldStatus.HELD);
+	}
+
+	@Test
+	@DisplayName("만료 처리가 커밋되면 재고가 한 번만 반환되고 주문이 취소된다")
+	void expire() {
+		// when
+		stockHoldService.expire(orderId);
+		stockHoldService.expire(orderId);
+
+		// then
+		assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isEqualTo(10L);
+		assertThat(orderRepository.findByOrderIdOrThrow(orderId).getStatus()).isEqualTo(OrderStatus.ORDER_CANCELLED);
+		assertThat(stockHoldRepository.findAll()).extracting(StockHold::getStatus)
+			.containsOnly(StockHoldStatus.RELEASED);
+	}
+
+	@Test
+	@DisplayName("결제 대기 상태가 아닌 주문은 재고를 반환하지 않고 홀드만 확정한다")
+	void expireAcceptedOrder() {
+		// given
+		var order = orderRepository.findByOrderIdOrThrow(orderId);
+		order.changeStatus(OrderStatus.ORDER_ACCEPTED);
+		orderRepository.save(order);
+
+		// when
+		stockHoldService.expire(orderId);
+
+		// then
+		assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isEqualTo(8L);
+		assertThat(orderRepository.findByOrderIdOrThrow(orderId).getStatus()).isEqualTo(OrderStatus.ORDER_ACCEPTED);
+		assertThat(stockHoldRepository.findAll()).extracting(StockHold::getStatus)
+			.containsOnly(StockHoldStatus.CONFIRMED);
+	}
+}
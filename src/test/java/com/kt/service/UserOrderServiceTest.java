@@ -20,6 +20,7 @@ import org.springframework.data.domain.PageRequest;
 import com.kt.domain.address.Address;
 import com.kt.domain.order.Order;
 import com.kt.domain.order.OrderStatus;
+import com.kt.domain.order.OrderSummary;
 import com.kt.domain.order.Receiver;
 import com.kt.domain.orderproduct.OrderProduct;
 import com.kt.domain.product.Product;
@@ -29,6 +30,7 @@ import com.kt.dto.order.OrderRequest;
 import com.kt.dto.order.OrderResponse;
 import com.kt.repository.address.AddressRepository;
 import com.kt.repository.order.OrderRepository;
+import com.kt.repository.order.OrderSummaryRepository;
 
 @ExtendWith(MockitoExtension.class)
 class UserOrderServiceTest {
@@ -39,6 +41,9 @@ class UserOrderServiceTest {
 	@Mock
 	private AddressRepository addressRepository;
 
+	@Mock
+	private OrderSummaryRepository orderSummaryRepository;
+
 	@InjectMocks
 	private UserOrderService userOrderService;
 
@@ -59,7 +64,7 @@ class UserOrderServiceTest {
 		createOrderProduct(order, product2, 1L);
 		long expectedTotalPrice = 1_000L * 2 + 2_000L * 1;
 
-		given(orderRepository.findByIdAndUserIdOrThrow(orderId, userId))
+		given(orderRepository.findByIdAndUserIdIncludingArchivedOrThrow(orderId, userId))
 				.willReturn(order);
 
 		// when
@@ -78,7 +83,7 @@ class UserOrderServiceTest {
 		assertThat(detail.createdAt()).isEqualTo(order.getCreatedAt());
 
 		then(orderRepository).should()
-				.findByIdAndUserIdOrThrow(orderId, userId);
+				.findByIdAndUserIdIncludingArchivedOrThrow(orderId, userId);
 	}
 
 	@Test
@@ -88,26 +93,13 @@ class UserOrderServiceTest {
 		Long userId = 1L;
 		var pageable = PageRequest.of(0, 10);
 
-		User user = createUser();
-		Receiver receiver1 = createReceiver("홍길동", "010-0000-0000", "11111", "서울시 1", "상세 1");
-		Receiver receiver2 = createReceiver("박동길", "010-1111-2222", "22222", "서울시 2", "상세 2");
-
-		Order order1 = createOrder(receiver1, user, OrderStatus.ORDER_CREATED);
-		Order order2 = createOrder(receiver2, user, OrderStatus.ORDER_ACCEPTED);
-
-		// order1: 상품 2개
-		Product o1Product1 = createProduct("주문1-상품1", 1_000L, 10L, "상품 상세설명");
-		Product o1Product2 = createProduct("주문1-상품2", 2_000L, 5L, "상품 상세설명");
-		createOrderProduct(order1, o1Product1, 2L);
-		createOrderProduct(order1, o1Product2, 1L);
+		var createdAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+		OrderSummary summary1 = createSummary(1L, 4_000L, "주문1-상품1", 2, OrderStatus.ORDER_CREATED, createdAt);
+		OrderSummary summary2 = createSummary(2L, 3_000L, "주문2-상품1", 1, OrderStatus.ORDER_ACCEPTED, createdAt);
 
-		// order2: 상품 1개
-		Product o2Product1 = createProduct("주문2-상품1", 3_000L, 3L, "상품 상세설명");
-		createOrderProduct(order2, o2Product1, 1L);
+		Page<OrderSummary> page = new PageImpl<>(List.of(summary1, summary2), pageable, 2);
 
-		Page<Order> page = new PageImpl<>(List.of(order1, order2), pageable, 2);
-
-		given(orderRepository.findAllByUserId(userId, pageable))
+		given(orderSummaryRepository.findAllByUserId(userId, pageable))
 				.willReturn(page);
 
 		// when
@@ -119,17 +111,15 @@ class UserOrderServiceTest {
 
 		OrderResponse.Summary firstSummary = result.getContent().get(0);
 
-		long expectedTotalPrice = 1_000L * 2 + 2_000L * 1;
-		String expectedFirstProductName = "주문1-상품1";
-		int expectedProductCount = 2;
-
-		assertThat(firstSummary.totalPrice()).isEqualTo(expectedTotalPrice);
-		assertThat(firstSummary.firstProductName()).isEqualTo(expectedFirstProductName);
-		assertThat(firstSummary.productCount()).isEqualTo(expectedProductCount);
-		assertThat(firstSummary.status()).isEqualTo(order1.getStatus());
-		assertThat(firstSummary.createdAt()).isEqualTo(order1.getCreatedAt());
+		assertThat(firstSummary.orderId()).isEqualTo(1L);
+		assertThat(firstSummary.totalPrice()).isEqualTo(4_000L);
+		assertThat(firstSummary.firstProductName()).isEqualTo("주문1-상품1");
+		assertThat(firstSummary.productCount()).isEqualTo(2);
+		assertThat(firstSummary.status()).isEqualTo(OrderStatus.ORDER_CREATED);
+		assertThat(firstSummary.createdAt()).isEqualTo(createdAt);
 
-		then(orderRepository).should().findAllByUserId(userId, pageable);
+		then(orderSummaryRepository).should().findAllByUserId(userId, pageable);
+		then(orderRepository).shouldHaveNoInteractions();
 	}
 
 	@Test
@@ -209,4 +199,16 @@ class UserOrderServiceTest {
 		order.mapToOrderProduct(op);
 		return op;
 	}
-}
\ No newline at end of file
+
+	private OrderSummary createSummary(Long orderId, long totalPrice, String firstProductName, int productCount,
+			OrderStatus status, LocalDateTime createdAt) {
+		OrderSummary summary = mock(OrderSummary.class);
+		given(summary.getOrderId()).willReturn(orderId);
+		given(summary.getTotalPrice()).willReturn(totalPrice);
+		given(summary.getFirstProductName()).willReturn(firstProductName);
+		given(summary.getProductCount()).willReturn(productCount);
+		given(summary.getStatus()).willReturn(status);
+		given(summary.getCreatedAt()).willReturn(createdAt);
+		return summary;
+	}
+}
@@ -0,0 +1,126 @@
+package com.kt.service.archive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.domain.order.Order;
+import com.kt.domain.order.OrderStatus;
+import com.kt.domain.orderproduct.OrderProduct;
+import com.kt.domain.product.Product;
+import com.kt.domain.user.User;
+import com.kt.dto.order.OrderStatusUpdateRequest;
+import com.kt.repository.order.OrderRepository;
+import com.kt.repository.orderproduct.OrderProductRepository;
+import com.kt.repository.product.ProductRepository;
+import com.kt.repository.user.UserRepository;
+import com.kt.service.OrderService;
+import com.kt.support.fixture.OrderFixture;
+import com.kt.support.fixture.OrderProductFixture;
+import com.kt.support.fixture.ProductFixture;
+import com.kt.support.fixture.ReceiverFixture;
+import com.kt.support.fixture.UserFixture;
+
+// 다른 테스트의 주문이 옮겨지지 않도록 별도 DB + 긴 실행 주기, 기간 제한 없이 바로 이동
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"spring.datasource.url=jdbc:h2:mem:order-archive-test;MODE=MySQL",
+		"order.archive.interval-ms=3600000",
+		"order.archive.min-age=0s"
+	}
+)
+@DisplayName("OrderArchiveService 테스트")
+class OrderArchiveServiceTest {
+
+	@Autowired
+	private OrderArchiveService orderArchiveService;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderProductRepository orderProductRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	@DisplayName("종료된 주문은 아카이브로 옮겨지고 조회 전용 단건 조회로 계속 조회된다")
+	void archiveTerminalOrders() {
+		// given
+		User user = userRepository.save(UserFixture.customer("archive_user", "archive_user@test.com"));
+		Product product = productRepository.save(ProductFixture.product("상품", 10_000L, 10L, "상품 설명"));
+		Order confirmed = createOrder(user, product, OrderStatus.ORDER_CONFIRMED);
+		Order delivered = createOrder(user, product, OrderStatus.ORDER_DELIVERED);
+
+		// when
+		var archived = orderArchiveService.archiveBatch();
+
+		// then
+		assertThat(archived).isEqualTo(1);
+		assertThat(orderRepository.findById(confirmed.getId())).isEmpty();
+		assertThat(orderRepository.findById(delivered.getId())).isPresent();
+
+		Order restored = orderRepository.findByIdAndUserIdIncludingArchivedOrThrow(confirmed.getId(), user.getId());
+
+		assertThat(restored.getStatus()).isEqualTo(OrderStatus.ORDER_CONFIRMED);
+		assertThat(restored.getOrderProducts()).hasSize(1);
+		assertThat(restored.getOrderProducts().getFirst().getProduct().getName()).isEqualTo("상품");
+		assertThat(restored.getTotalPrice()).isEqualTo(20_000L);
+		assertThat(orderRepository.findByOrderIdIncludingArchivedOrThrow(confirmed.getId()).getId()).isEqualTo(confirmed.getId());
+	}
+
+	@Test
+	@DisplayName("다른 사용자의 보관된 주문은 조회되지 않는다")
+	void archivedOrderOwnership() {
+		// given
+		User owner = userRepository.save(UserFixture.customer("archive_owner", "archive_owner@test.com"));
+		User other = userRepository.save(UserFixture.customer("archive_other", "archive_other@test.com"));
+		Product product = productRepository.save(ProductFixture.product("상품", 10_000L, 10L, "상품 설명"));
+		Order cancelled = createOrder(owner, product, OrderStatus.ORDER_CANCELLED);
+		orderArchiveService.archiveBatch();
+
+		// when & then
+		assertThatThrownBy(() -> orderRepository.findByIdAndUserIdIncludingArchivedOrThrow(cancelled.getId(), other.getId()))
+			.isInstanceOf(CustomException.class)
+			.hasMessage(ErrorCode.NOT_FOUND_ORDER.getMessage());
+	}
+
+	@Test
+	@DisplayName("보관된 주문의 상태 변경은 거부된다")
+	void changeStatusOfArchivedOrder() {
+		// given
+		User user = userRepository.save(UserFixture.customer("archive_admin", "archive_admin@test.com"));
+		Product product = productRepository.save(ProductFixture.product("상품", 10_000L, 10L, "상품 설명"));
+		Order confirmed = createOrder(user, product, OrderStatus.ORDER_CONFIRMED);
+		orderArchiveService.archiveBatch();
+
+		// when & then
+		assertThatThrownBy(() -> orderService.changeOrderStatus(
+				confirmed.getId(), new OrderStatusUpdateRequest(OrderStatus.ORDER_CANCELLED)))
+			.isInstanceOf(CustomException.class)
+			.hasMessage(ErrorCode.INVALID_ORDER_STATUS.getMessage());
+		assertThat(orderRepository.findByOrderIdIncludingArchivedOrThrow(confirmed.getId()).getStatus())
+			.isEqualTo(OrderStatus.ORDER_CONFIRMED);
+	}
+
+	private Order createOrder(User user, Product product, OrderStatus status) {
+		Order order = orderRepository.save(OrderFixture.order(ReceiverFixture.defaultReceiver(), user));
+		OrderProduct orderProduct = orderProductRepository.save(OrderProductFixture.orderProduct(order, product, 2L));
+		order.mapToOrderProduct(orderProduct);
+		order.changeStatus(status);
+		return orderRepository.save(order);
+	}
+}
@@ -0,0 +1,148 @@
+package com.kt.service.autoconfirm;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.kt.domain.order.Order;
+import com.kt.domain.order.OrderStatus;
+import com.kt.domain.orderproduct.OrderProduct;
+import com.kt.domain.payment.Payment;
+import com.kt.domain.payment.PaymentType;
+import com.kt.domain.product.Product;
+import com.kt.domain.user.User;
+import com.kt.integration.scheduler.OrderAutoConfirmScheduler;
+import com.kt.repository.order.OrderRepository;
+import com.kt.repository.orderproduct.OrderProductRepository;
+import com.kt.repository.outbox.OutboxEventRepository;
+import com.kt.repository.payment.PaymentRepository;
+import com.kt.repository.payment.PaymentTypeRepository;
+import com.kt.repository.product.ProductRepository;
+import com.kt.repository.user.UserRepository;
+import com.kt.support.fixture.OrderFixture;
+import com.kt.support.fixture.OrderProductFixture;
+import com.kt.support.fixture.PaymentTypeFixture;
+import com.kt.support.fixture.ProductFixture;
+import com.kt.support.fixture.ReceiverFixture;
+import com.kt.support.fixture.UserFixture;
+
+// 다른 테스트의 주문이 확정되지 않도록 별도 DB + 긴 실행 주기, 배송 완료 직후 바로 확정 대상
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"spring.datasource.url=jdbc:h2:mem:order-auto-confirm-test;MODE=MySQL",
+		"order.auto-confirm.interval-ms=3600000",
+		"order.auto-confirm.after-delivered=0s",
+		"order.auto-confirm.chunk-size=2",
+		"order.auto-confirm.parallelism=2"
+	}
+)
+@DisplayName("OrderAutoConfirmScheduler 테스트")
+class OrderAutoConfirmSchedulerTest {
+
+	@Autowired
+	private OrderAutoConfirmScheduler orderAutoConfirmScheduler;
+
+	@Autowired
+	private OrderAutoConfirmService orderAutoConfirmService;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderProductRepository orderProductRepository;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Autowired
+	private PaymentTypeRepository paymentTypeRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private RedissonClient redissonClient;
+
+	private PaymentType paymentType;
+
+	@BeforeEach
+	void setUp() {
+		redissonClient.getBucket("order:auto-confirm:cursor").delete();
+		paymentType = paymentTypeRepository.save(
+			PaymentTypeFixture.paymentType("AUTO_CONFIRM_" + System.nanoTime(), "자동 확정 테스트", "테스트 결제 수단")
+		);
+	}
+
+	@Test
+	@DisplayName("배송 완료 후 기간이 지난 주문은 여러 청크로 나뉘어 모두 구매 확정되고 확정 이벤트가 발행된다")
+	void confirmDeliveredOrders() {
+		// given
+		User user = userRepository.save(UserFixture.customer("auto_confirm_user", "auto_confirm_user@test.com"));
+		Product product = productRepository.save(ProductFixture.product("상품", 10_000L, 100L, "상품 설명"));
+		var delivered = IntStream.range(0, 5)
+			.mapToObj(i -> createDeliveredOrder(user, product))
+			.toList();
+		Order shipping = createOrder(user, product, OrderStatus.ORDER_SHIPPING);
+
+		// when
+		orderAutoConfirmScheduler.confirm();
+
+		// then
+		delivered.forEach(order -> assertThat(orderRepository.findByOrderIdOrThrow(order.getId()).getStatus())
+			.isEqualTo(OrderStatus.ORDER_CONFIRMED));
+		assertThat(orderRepository.findByOrderIdOrThrow(shipping.getId()).getStatus())
+			.isEqualTo(OrderStatus.ORDER_SHIPPING);
+		assertThat(outboxEventRepository.findAll())
+			.filteredOn(event -> event.getEventType().endsWith("Confirmed"))
+			.filteredOn(event -> delivered.stream().anyMatch(order -> event.getPayload().contains("\"orderId\":" + order.getId() + ",")))
+			.hasSize(5);
+		assertThat(redissonClient.getBucket("order:auto-confirm:cursor").isExists()).isFalse();
+	}
+
+	@Test
+	@DisplayName("이미 구매 확정된 주문은 다시 확정하지 않는다")
+	void skipAlreadyConfirmed() {
+		// given
+		User user = userRepository.save(UserFixture.customer("auto_confirm_skip", "auto_confirm_skip@test.com"));
+		Product product = productRepository.save(ProductFixture.product("상품", 10_000L, 100L, "상품 설명"));
+		Order order = createDeliveredOrder(user, product);
+		orderAutoConfirmService.confirmChunk(List.of(order.getId()));
+
+		// when
+		var confirmed = orderAutoConfirmService.confirmChunk(List.of(order.getId()));
+
+		// then
+		assertThat(confirmed).isZero();
+	}
+
+	private Order createDeliveredOrder(User user, Product product) {
+		Order order = createOrder(user, product, OrderStatus.ORDER_SHIPPING);
+		order.markDelivered();
+		order = orderRepository.save(order);
+		paymentRepository.save(new Payment(order, paymentType, 20_000L, 0L, 0L, 20_000L));
+		return order;
+	}
+
+	private Order createOrder(User user, Product product, OrderStatus status) {
+		Order order = orderRepository.save(OrderFixture.order(ReceiverFixture.defaultReceiver(), user));
+		OrderProduct orderProduct = orderProductRepository.save(OrderProductFixture.orderProduct(order, product, 2L));
+		order.mapToOrderProduct(orderProduct);
+		order.changeStatus(status);
+		return orderRepository.save(order);
+	}
+}
@@ -0,0 +1,86 @@
+package com.kt.service.count;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisConnectionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("CountCache 테스트")
+class CountCacheTest {
+
+	@Autowired
+	private CountCache countCache;
+
+	@Test
+	@DisplayName("같은 조건의 전체 건수는 ttl 동안 COUNT를 다시 실행하지 않는다")
+	void reuseCachedCount() {
+		// given
+		var name = "test-" + UUID.randomUUID();
+		var counter = new AtomicInteger();
+
+		// when
+		var first = countCache.page(List.of(1, 2), PageRequest.of(0, 2), name, () -> {
+			counter.incrementAndGet();
+			return 10L;
+		}, "keyword");
+		var second = countCache.page(List.of(3, 4), PageRequest.of(1, 2), name, () -> {
+			counter.incrementAndGet();
+			return 99L;
+		}, "keyword");
+
+		// then
+		assertThat(counter.get()).isEqualTo(1);
+		assertThat(first.getTotalElements()).isEqualTo(10L);
+		assertThat(second.getTotalElements()).isEqualTo(10L);
+	}
+
+	@Test
+	@DisplayName("첫 페이지가 size보다 적으면 COUNT 없이 건수를 계산한다")
+	void skipCountOnPartialFirstPage() {
+		// given
+		var counter = new AtomicInteger();
+
+		// when
+		var page = countCache.page(List.of(1), PageRequest.of(0, 10), "test-" + UUID.randomUUID(), () -> {
+			counter.incrementAndGet();
+			return 0L;
+		});
+
+		// then
+		assertThat(counter.get()).isZero();
+		assertThat(page.getTotalElements()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("Redis 장애 시 캐시 없이 COUNT를 실행한다")
+	@SuppressWarnings("unchecked")
+	void fallbackToCounterOnRedisFailure() {
+		// given
+		RedissonClient redissonClient = mock(RedissonClient.class);
+		RBucket<Object> bucket = mock(RBucket.class);
+		given(redissonClient.getBucket(anyString())).willReturn(bucket);
+		given(bucket.get()).willThrow(new RedisConnectionException("down"));
+		var fallbackCache = new CountCache(redissonClient, new CountCacheProperties(Duration.ofSeconds(30)));
+
+		// when
+		var count = fallbackCache.count("test-" + UUID.randomUUID(), () -> 7L, "keyword");
+
+		// then
+		assertThat(count).isEqualTo(7L);
+		verify(bucket, never()).set(any(), any(Duration.class));
+	}
+}
@@ -0,0 +1,266 @@
+package com.kt.service.intake;
+
+import static com.kt.support.fixture.ProductFixture.*;
+import static com.kt.support.fixture.UserFixture.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.domain.address.Address;
+import com.kt.domain.order.OrderTicketStatus;
+import com.kt.domain.product.Product;
+import com.kt.domain.user.User;
+import com.kt.dto.order.OrderRequest;
+import com.kt.dto.order.WaitingRoomResponse;
+import com.kt.repository.address.AddressRepository;
+import com.kt.repository.order.OrderRepository;
+import com.kt.repository.order.OrderTicketRepository;
+import com.kt.repository.orderproduct.OrderProductRepository;
+import com.kt.repository.product.ProductRepository;
+import com.kt.repository.product.StockHoldRepository;
+import com.kt.repository.user.UserRepository;
+import com.kt.service.waitingroom.WaitingRoomService;
+
+// 다른 테스트 컨텍스트의 스케줄러가 티켓을 가져가지 않도록 별도 DB + 긴 조회 주기 사용
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"spring.datasource.url=jdbc:h2:mem:order-intake-test;MODE=MySQL",
+		"order.intake.poll-interval-ms=3600000",
+		"order.intake.max-attempts=3"
+	}
+)
+@DisplayName("OrderIntakeService 테스트")
+class OrderIntakeServiceTest {
+
+	@Autowired
+	private OrderIntakeService orderIntakeService;
+
+	@Autowired
+	private OrderTicketRepository orderTicketRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderProductRepository orderProductRepository;
+
+	@Autowired
+	private AddressRepository addressRepository;
+
+	@Autowired
+	private StockHoldRepository stockHoldRepository;
+
+	@Autowired
+	private WaitingRoomService waitingRoomService;
+
+	private Long gatedProductId;
+
+	@BeforeEach
+	void setUp() {
+		orderTicketRepository.deleteAll();
+		stockHoldRepository.deleteAll();
+		orderProductRepository.deleteAll();
+		orderRepository.deleteAll();
+		addressRepository.deleteAll();
+		productRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (gatedProductId != null) {
+			waitingRoomService.close(gatedProductId);
+		}
+	}
+
+	@Test
+	@DisplayName("접수 시 주문은 만들지 않고 대기 티켓과 순번을 반환한다")
+	void enqueue() {
+		// given
+		User user = userRepository.save(defaultCustomer());
+		Product product = activeProduct(10L);
+		Address address = addressRepository.save(createDefaultAddress(user));
+
+		// when
+		var first = orderIntakeService.enqueue(user.getId(), request(product, address, 2L));
+		var second = orderIntakeService.enqueue(user.getId(), request(product, address, 1L));
+
+		// then
+		assertThat(first.status()).isEqualTo(OrderTicketStatus.PENDING);
+		assertThat(first.position()).isEqualTo(1L);
+		assertThat(second.position()).isEqualTo(2L);
+		assertThat(orderRepository.count()).isZero();
+		assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isEqualTo(10L);
+	}
+
+	@Test
+	@DisplayName("티켓을 처리하면 주문이 생성되고 티켓에 주문 ID가 기록된다")
+	void process() {
+		// given
+		User user = userRepository.save(defaultCustomer());
+		Product product = activeProduct(10L);
+		Address address = addressRepository.save(createDefaultAddress(user));
+		var ticket = orderIntakeService.enqueue(user.getId(), request(product, address, 2L));
+
+		// when
+		orderIntakeService.process(ticket.ticketId());
+
+		// then
+		var processed = orderIntakeService.getTicket(user.getId(), ticket.ticketId());
+
+		assertThat(processed.status()).isEqualTo(OrderTicketStatus.COMPLETED);
+		assertThat(processed.orderId()).isNotNull();
+		assertThat(processed.position()).isNull();
+		assertThat(orderRepository.findById(processed.orderId())).isPresent();
+		assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isEqualTo(8L);
+	}
+
+	@Test
+	@DisplayName("대기열이 열린 상품은 접수 시 입장을 확인만 하고, 주문이 커밋될 때 입장권이 소진된다")
+	void processWithWaitingRoom() {
+		// given
+		User user = userRepository.save(defaultCustomer());
+		Product product = activeProduct(10L);
+		Address address = addressRepository.save(createDefaultAddress(user));
+
+		gatedProductId = product.getId();
+		waitingRoomService.open(gatedProductId);
+		waitingRoomService.enter(gatedProductId, user.getId());
+		waitingRoomService.admit(gatedProductId);
+
+		var ticket = orderIntakeService.enqueue(user.getId(), request(product, address, 2L));
+
+		assertThat(waitingRoomService.status(gatedProductId, user.getId()).status())
+			.isEqualTo(WaitingRoomResponse.AdmissionStatus.ADMITTED);
+
+		// when
+		orderIntakeService.process(ticket.ticketId());
+
+		// then
+		var processed = orderIntakeService.getTicket(user.getId(), ticket.ticketId());
+
+		assertThat(processed.status()).isEqualTo(OrderTicketStatus.COMPLETED);
+		assertThat(orderRepository.findById(processed.orderId())).isPresent();
+		assertThat(waitingRoomService.status(gatedProductId, user.getId()).status())
+			.isNotEqualTo(WaitingRoomResponse.AdmissionStatus.ADMITTED);
+	}
+
+	@Test
+	@DisplayName("대기열이 열린 상품은 입장하지 않은 사용자의 접수를 거부한다")
+	void enqueueRejectsNotAdmitted() {
+		// given
+		User user = userRepository.save(defaultCustomer());
+		Product product = activeProduct(10L);
+		Address address = addressRepository.save(createDefaultAddress(user));
+
+		gatedProductId = product.getId();
+		waitingRoomService.open(gatedProductId);
+
+		// when & then
+		assertThatThrownBy(() -> orderIntakeService.enqueue(user.getId(), request(product, address, 1L)))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(ErrorCode.NOT_ADMITTED_WAITING_ROOM.getMessage());
+		assertThat(orderTicketRepository.count()).isZero();
+	}
+
+	@Test
+	@DisplayName("재고가 부족하면 주문 없이 실패 사유가 기록된다")
+	void processFails() {
+		// given
+		User user = userRepository.save(defaultCustomer());
+		Product product = activeProduct(1L);
+		Address address = addressRepository.save(createDefaultAddress(user));
+		var ticket = orderIntakeService.enqueue(user.getId(), request(product, address, 2L));
+
+		// when
+		assertThatThrownBy(() -> orderIntakeService.process(ticket.ticketId()))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(ErrorCode.NOT_ENOUGH_STOCK.getMessage());
+		orderIntakeService.fail(ticket.ticketId(), ErrorCode.NOT_ENOUGH_STOCK);
+
+		// then
+		var failed = orderIntakeService.getTicket(user.getId(), ticket.ticketId());
+
+		assertThat(failed.status()).isEqualTo(OrderTicketStatus.FAILED);
+		assertThat(failed.failureReason()).isEqualTo(ErrorCode.NOT_ENOUGH_STOCK.getMessage());
+		assertThat(orderRepository.count()).isZero();
+	}
+
+	@Test
+	@DisplayName("일시적 실패는 백오프 동안 조회되지 않고, 최대 시도 횟수를 넘으면 실패로 기록된다")
+	void retryBacksOffThenFails() {
+		// given
+		User user = userRepository.save(defaultCustomer());
+		Product product = activeProduct(10L);
+		Address address = addressRepository.save(createDefaultAddress(user));
+		var stuck = orderIntakeService.enqueue(user.getId(), request(product, address, 1L));
+		var next = orderIntakeService.enqueue(user.getId(), request(product, address, 1L));
+
+		// when
+		orderIntakeService.retry(stuck.ticketId(), ErrorCode.FAIL_ACQUIRED_LOCK);
+
+		// then
+		var retried = orderTicketRepository.findByIdOrThrow(stuck.ticketId());
+
+		assertThat(retried.getStatus()).isEqualTo(OrderTicketStatus.PENDING);
+		assertThat(retried.getAttempts()).isEqualTo(1);
+		assertThat(retried.getNextAttemptAt()).isAfter(LocalDateTime.now());
+		assertThat(orderIntakeService.findPendingTicketIds()).containsExactly(next.ticketId());
+
+		// when
+		orderIntakeService.retry(stuck.ticketId(), ErrorCode.FAIL_ACQUIRED_LOCK);
+		orderIntakeService.retry(stuck.ticketId(), ErrorCode.FAIL_ACQUIRED_LOCK);
+
+		// then
+		var failed = orderIntakeService.getTicket(user.getId(), stuck.ticketId());
+
+		assertThat(failed.status()).isEqualTo(OrderTicketStatus.FAILED);
+		assertThat(failed.failureReason()).isEqualTo(ErrorCode.FAIL_ACQUIRED_LOCK.getMessage());
+	}
+
+	private Product activeProduct(Long stock) {
+		Product product = productRepository.save(product("상품", 10_000L, stock, "상품 설명"));
+		product.activate();
+		return productRepository.save(product);
+	}
+
+	private OrderRequest.Create request(Product product, Address address, Long quantity) {
+		return new OrderRequest.Create(
+			List.of(new OrderRequest.OrderItem(product.getId(), quantity)),
+			address.getId(),
+			null,
+			OrderRequest.OrderType.DIRECT,
+			0L
+		);
+	}
+
+	private Address createDefaultAddress(User user) {
+		return Address.create(
+			user,
+			"집",
+			"수신자 이름",
+			"010-1111-2222",
+			"서울시 강남구",
+			"123번지",
+			"12345",
+			true
+		);
+	}
+}
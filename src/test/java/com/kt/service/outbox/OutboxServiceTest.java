@@ -0,0 +1,139 @@
+package com.kt.service.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kt.domain.outbox.OutboxEventStatus;
+import com.kt.repository.outbox.OutboxEventRepository;
+
+// 다른 테스트 컨텍스트의 릴레이가 이벤트를 가져가지 않도록 별도 DB + 긴 릴레이 주기 사용, 재시도는 바로 가능하게 설정
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"spring.datasource.url=jdbc:h2:mem:outbox-test;MODE=MySQL",
+		"outbox.relay-interval-ms=3600000",
+		"outbox.max-attempts=2",
+		"outbox.retry-backoff=0s"
+	}
+)
+@DisplayName("OutboxService 테스트")
+class OutboxServiceTest {
+
+	@Autowired
+	private OutboxService outboxService;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private RecordingListener recordingListener;
+
+	@BeforeEach
+	void setUp() {
+		outboxEventRepository.deleteAll();
+		recordingListener.received.clear();
+	}
+
+	@Test
+	@DisplayName("발행 시에는 기록만 하고, 전달하면 리스너가 실행되고 PUBLISHED가 된다")
+	void publishAndDispatch() {
+		// given
+		transactionTemplate.executeWithoutResult(status -> outboxService.publish(new TestEvent(1L, false)));
+
+		assertThat(recordingListener.received).isEmpty();
+
+		// when
+		var ids = outboxService.findDispatchableIds();
+		ids.forEach(outboxService::dispatch);
+
+		// then
+		assertThat(ids).hasSize(1);
+		assertThat(recordingListener.received).containsExactly(new TestEvent(1L, false));
+		assertThat(outboxEventRepository.findById(ids.getFirst()).orElseThrow().getStatus())
+			.isEqualTo(OutboxEventStatus.PUBLISHED);
+	}
+
+	@Test
+	@DisplayName("발행 트랜잭션이 롤백되면 이벤트도 기록되지 않는다")
+	void publishRollsBackWithTransaction() {
+		// when
+		transactionTemplate.executeWithoutResult(status -> {
+			outboxService.publish(new TestEvent(1L, false));
+			status.setRollbackOnly();
+		});
+
+		// then
+		assertThat(outboxEventRepository.count()).isZero();
+	}
+
+	@Test
+	@DisplayName("트랜잭션 밖에서는 발행할 수 없다")
+	void publishRequiresTransaction() {
+		assertThatThrownBy(() -> outboxService.publish(new TestEvent(1L, false)))
+			.isInstanceOf(IllegalTransactionStateException.class);
+	}
+
+	@Test
+	@DisplayName("리스너가 계속 실패하면 재시도 한도 후 DEAD가 된다")
+	void deadLetterAfterMaxAttempts() {
+		// given
+		transactionTemplate.executeWithoutResult(status -> outboxService.publish(new TestEvent(1L, true)));
+		var id = outboxService.findDispatchableIds().getFirst();
+
+		// when
+		for (int attempt = 0; attempt < 2; attempt++) {
+			assertThat(outboxService.findDispatchableIds()).containsExactly(id);
+			try {
+				outboxService.dispatch(id);
+			} catch (RuntimeException e) {
+				outboxService.recordFailure(id, e);
+			}
+		}
+
+		// then
+		var outboxEvent = outboxEventRepository.findById(id).orElseThrow();
+
+		assertThat(outboxEvent.getStatus()).isEqualTo(OutboxEventStatus.DEAD);
+		assertThat(outboxEvent.getAttempts()).isEqualTo(2);
+		assertThat(outboxService.findDispatchableIds()).isEmpty();
+	}
+
+	record TestEvent(Long id, boolean fail) {
+	}
+
+	static class RecordingListener {
+		private final List<TestEvent> received = new ArrayList<>();
+
+		@EventListener
+		public void on(TestEvent event) {
+			if (event.fail()) {
+				throw new IllegalStateException("리스너 실패");
+			}
+			received.add(event);
+		}
+	}
+
+	@TestConfiguration
+	static class Config {
+		@Bean
+		RecordingListener recordingListener() {
+			return new RecordingListener();
+		}
+	}
+}
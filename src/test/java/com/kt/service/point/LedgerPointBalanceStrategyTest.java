@@ -0,0 +1,102 @@
+package com.kt.service.point;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.domain.user.User;
+import com.kt.repository.point.PointRepository;
+import com.kt.repository.user.UserRepository;
+import com.kt.service.PointService;
+import com.kt.support.fixture.UserFixture;
+
+// 원장 모드 + 별도 DB, 압축은 직접 호출 (방금 기록한 이력도 합치도록 settle-delay 0)
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"spring.datasource.url=jdbc:h2:mem:point-ledger-test;MODE=MySQL",
+		"point.strategy=ledger",
+		"point.ledger.settle-delay=0s",
+		"point.ledger.compact-interval-ms=3600000"
+	}
+)
+@DisplayName("LedgerPointBalanceStrategy 테스트")
+class LedgerPointBalanceStrategyTest {
+
+	@Autowired
+	private PointService pointService;
+
+	@Autowired
+	private PointLedgerCompactionService pointLedgerCompactionService;
+
+	@Autowired
+	private PointRepository pointRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	@DisplayName("같은 사용자에게 동시에 적립해도 충돌 없이 모두 잔액에 반영된다")
+	void concurrentCredits() {
+		// given
+		User user = userRepository.save(UserFixture.customer("ledger_credit", "ledger_credit@test.com"));
+
+		// when
+		try (var executor = Executors.newFixedThreadPool(8)) {
+			IntStream.range(0, 20).forEach(i ->
+				executor.submit(() -> pointService.adjustPoints(user.getId(), 100L, "동시 적립 " + i)));
+		}
+
+		// then
+		assertThat(pointService.getAvailablePoints(user.getId())).isEqualTo(2_000L);
+		assertThat(pointRepository.findByUserIdOrThrow(user.getId()).getAvailablePoints()).isZero();
+	}
+
+	@Test
+	@DisplayName("잔액보다 많이 사용하면 실패하고 잔액 이내 사용은 원장에 반영된다")
+	void useWithinBalance() {
+		// given
+		User user = userRepository.save(UserFixture.customer("ledger_use", "ledger_use@test.com"));
+		pointService.adjustPoints(user.getId(), 3_000L, "초기 지급");
+
+		// when
+		pointService.usePoints(user.getId(), 1L, 2_000L);
+
+		// then
+		assertThat(pointService.getAvailablePoints(user.getId())).isEqualTo(1_000L);
+		assertThatThrownBy(() -> pointService.usePoints(user.getId(), 2L, 2_000L))
+			.isInstanceOf(CustomException.class)
+			.hasMessage(ErrorCode.INSUFFICIENT_POINTS.getMessage());
+	}
+
+	@Test
+	@DisplayName("압축하면 스냅샷에 이력이 합쳐지고 잔액은 그대로다")
+	void compactKeepsBalance() throws InterruptedException {
+		// given
+		User user = userRepository.save(UserFixture.customer("ledger_compact", "ledger_compact@test.com"));
+		pointService.adjustPoints(user.getId(), 5_000L, "초기 지급");
+		pointService.adjustPoints(user.getId(), -1_500L, "회수");
+		Thread.sleep(5);
+
+		// when
+		var boundaryId = pointLedgerCompactionService.boundaryId();
+		var compactedId = 0L;
+		while (compactedId < boundaryId) {
+			compactedId = pointLedgerCompactionService.compactBatch(compactedId, boundaryId);
+		}
+
+		// then
+		var snapshot = pointRepository.findByUserIdOrThrow(user.getId());
+		assertThat(snapshot.getAvailablePoints()).isEqualTo(3_500L);
+		assertThat(snapshot.getLastHistoryId()).isEqualTo(boundaryId);
+		assertThat(pointService.getAvailablePoints(user.getId())).isEqualTo(3_500L);
+	}
+}
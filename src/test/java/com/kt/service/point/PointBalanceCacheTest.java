@@ -0,0 +1,96 @@
+package com.kt.service.point;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.kt.domain.point.PointBalance;
+import com.kt.domain.user.User;
+import com.kt.repository.point.PointRepository;
+import com.kt.repository.user.UserRepository;
+import com.kt.service.PointService;
+import com.kt.support.fixture.UserFixture;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("PointBalanceCache 테스트")
+class PointBalanceCacheTest {
+
+	@Autowired
+	private PointBalanceCache pointBalanceCache;
+
+	@Autowired
+	private PointService pointService;
+
+	@Autowired
+	private PointRepository pointRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	@DisplayName("한 번 읽은 잔액은 DB를 다시 조회하지 않는다")
+	void reuseCachedBalance() {
+		// given
+		var userId = randomUserId();
+		var loads = new AtomicInteger();
+
+		// when
+		var first = pointBalanceCache.get(userId, () -> {
+			loads.incrementAndGet();
+			return new PointBalance(1L, 500L);
+		});
+		var second = pointBalanceCache.get(userId, () -> {
+			loads.incrementAndGet();
+			return new PointBalance(2L, 900L);
+		});
+
+		// then
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(first).isEqualTo(500L);
+		assertThat(second).isEqualTo(500L);
+	}
+
+	@Test
+	@DisplayName("캐시된 버전보다 낮은 버전의 잔액은 덮어쓰지 않는다")
+	void ignoreOlderVersion() {
+		// given
+		var userId = randomUserId();
+		pointBalanceCache.get(userId, () -> new PointBalance(5L, 1_000L));
+
+		// when
+		pointBalanceCache.putAfterCommit(userId, () -> new PointBalance(4L, 300L));
+		var afterOlder = pointBalanceCache.get(userId, PointBalance::empty);
+		pointBalanceCache.putAfterCommit(userId, () -> new PointBalance(6L, 700L));
+		var afterNewer = pointBalanceCache.get(userId, PointBalance::empty);
+
+		// then
+		assertThat(afterOlder).isEqualTo(1_000L);
+		assertThat(afterNewer).isEqualTo(700L);
+	}
+
+	@Test
+	@DisplayName("포인트 변경이 커밋되면 캐시된 잔액도 새 값으로 바뀐다")
+	void writeThroughOnCommit() {
+		// given
+		User user = userRepository.save(UserFixture.customer("balance_cache", "balance_cache@test.com"));
+		pointService.adjustPoints(user.getId(), 1_000L, "초기 지급");
+		assertThat(pointService.getAvailablePoints(user.getId())).isEqualTo(1_000L);
+
+		// when
+		pointService.adjustPoints(user.getId(), 500L, "추가 지급");
+
+		// then
+		assertThat(pointService.getAvailablePoints(user.getId())).isEqualTo(1_500L);
+		assertThat(pointRepository.findBalanceByUserId(user.getId()).orElseThrow().availablePoints()).isEqualTo(1_500L);
+	}
+
+	private Long randomUserId() {
+		return ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+	}
+}
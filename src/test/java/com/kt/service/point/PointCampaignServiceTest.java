@@ -0,0 +1,137 @@
+package com.kt.service.point;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.domain.point.PointCampaignStatus;
+import com.kt.domain.point.PointCampaignTargetStatus;
+import com.kt.domain.user.User;
+import com.kt.dto.point.PointRequest;
+import com.kt.repository.point.PointCampaignRepository;
+import com.kt.repository.user.UserRepository;
+import com.kt.service.PointService;
+import com.kt.support.fixture.UserFixture;
+
+// 별도 DB, 지급은 직접 호출
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"spring.datasource.url=jdbc:h2:mem:point-campaign-test;MODE=MySQL",
+		"point.campaign.interval-ms=3600000"
+	}
+)
+@DisplayName("PointCampaignService 테스트")
+class PointCampaignServiceTest {
+
+	@Autowired
+	private PointCampaignService pointCampaignService;
+
+	@Autowired
+	private PointCampaignRepository pointCampaignRepository;
+
+	@Autowired
+	private PointService pointService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("업로드한 ID 목록에 한 번씩 지급하고 없는 사용자는 제외로 집계한다")
+	void grantUploadedTargets() {
+		// given
+		User first = userRepository.save(UserFixture.customer("campaign_first", "campaign_first@test.com"));
+		User second = userRepository.save(UserFixture.customer("campaign_second", "campaign_second@test.com"));
+		pointService.adjustPoints(second.getId(), 1_000L, "기존 적립");
+
+		var file = new MockMultipartFile("file", "targets.csv", "text/csv",
+			("user_id\n" + first.getId() + "\n" + second.getId() + "\n999999999\n" + first.getId() + "\n")
+				.getBytes(StandardCharsets.UTF_8));
+		var created = pointCampaignService.createForTargets(
+			new PointRequest.Campaign("가입 축하", 500L, "가입 축하 포인트"), file);
+		var campaign = pointCampaignRepository.findByIdOrThrow(created.id());
+		var pending = pointCampaignService.findPendingUserIds(campaign.getId(), 0L, 100);
+
+		// when
+		var result = pointCampaignService.grantChunk(campaign, pending);
+		var again = pointCampaignService.grantChunk(campaign, pending);
+		pointCampaignService.complete(campaign.getId());
+
+		// then
+		assertThat(created.targetCount()).isEqualTo(3L);
+		assertThat(result.granted()).isEqualTo(2);
+		assertThat(result.skipped()).isEqualTo(1);
+		assertThat(again.granted()).isZero();
+		assertThat(pointService.getAvailablePoints(first.getId())).isEqualTo(500L);
+		assertThat(pointService.getAvailablePoints(second.getId())).isEqualTo(1_500L);
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT remaining_points FROM point_histories WHERE user_id = :userId AND related_id = :campaignId",
+			Map.of("userId", second.getId(), "campaignId", campaign.getId()), Long.class))
+			.isEqualTo(1_500L);
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT SUM(remaining) FROM point_lots WHERE user_id = :userId AND status = 'ACTIVE'",
+			Map.of("userId", second.getId()), Long.class))
+			.isEqualTo(1_500L);
+
+		var report = pointCampaignService.getCampaign(campaign.getId());
+		assertThat(report.status()).isEqualTo(PointCampaignStatus.COMPLETED);
+		assertThat(report.grantedCount()).isEqualTo(2L);
+		assertThat(report.skippedCount()).isEqualTo(1L);
+		assertThat(report.progressRate()).isEqualTo(100.0);
+	}
+
+	@Test
+	@DisplayName("실패한 청크는 실패 대상으로 남고 재시도하면 다시 지급 대기가 된다")
+	void retryFailedTargets() {
+		// given
+		User user = userRepository.save(UserFixture.customer("campaign_retry", "campaign_retry@test.com"));
+		var file = new MockMultipartFile("file", "targets.txt", "text/plain",
+			String.valueOf(user.getId()).getBytes(StandardCharsets.UTF_8));
+		var created = pointCampaignService.createForTargets(
+			new PointRequest.Campaign("재시도", 300L, "재시도 포인트"), file);
+
+		pointCampaignService.failChunk(created.id(), List.of(user.getId()), "TimeoutException");
+		pointCampaignService.complete(created.id());
+
+		// when
+		var retried = pointCampaignService.retry(created.id());
+
+		// then
+		assertThat(retried.status()).isEqualTo(PointCampaignStatus.RUNNING);
+		assertThat(retried.failedCount()).isZero();
+		assertThat(pointCampaignService.findPendingUserIds(created.id(), 0L, 10)).containsExactly(user.getId());
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT status FROM point_campaign_targets WHERE campaign_id = :campaignId",
+			Map.of("campaignId", created.id()), String.class))
+			.isEqualTo(PointCampaignTargetStatus.PENDING.name());
+		assertThatThrownBy(() -> pointCampaignService.retry(created.id()))
+			.isInstanceOf(CustomException.class)
+			.hasMessage(ErrorCode.INVALID_POINT_CAMPAIGN_STATUS.getMessage());
+	}
+
+	@Test
+	@DisplayName("숫자가 아닌 줄이 있는 목록은 거부한다")
+	void rejectInvalidTargets() {
+		var file = new MockMultipartFile("file", "targets.csv", "text/csv",
+			"user_id\n1\nabc\n".getBytes(StandardCharsets.UTF_8));
+
+		assertThatThrownBy(() -> pointCampaignService.createForTargets(
+			new PointRequest.Campaign("잘못된 목록", 100L, "설명"), file))
+			.isInstanceOf(CustomException.class)
+			.hasMessage(ErrorCode.INVALID_POINT_CAMPAIGN_TARGETS.getMessage());
+	}
+}
@@ -0,0 +1,127 @@
+package com.kt.service.point;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.kt.domain.point.Point;
+import com.kt.domain.point.PointHistoryType;
+import com.kt.domain.user.User;
+import com.kt.repository.point.PointLotJdbcRepository;
+import com.kt.repository.point.PointRepository;
+import com.kt.repository.user.UserRepository;
+import com.kt.service.PointService;
+import com.kt.support.fixture.UserFixture;
+
+// 별도 DB, 만료 배치는 직접 호출
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"spring.datasource.url=jdbc:h2:mem:point-expiration-test;MODE=MySQL",
+		"point.expiration.cron=-"
+	}
+)
+@DisplayName("PointExpirationService 테스트")
+class PointExpirationServiceTest {
+
+	@Autowired
+	private PointExpirationService pointExpirationService;
+
+	@Autowired
+	private PointService pointService;
+
+	@Autowired
+	private PointRepository pointRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("포인트 사용은 먼저 적립된 lot부터 차감한다")
+	void consumeOldestLotFirst() {
+		// given
+		User user = userRepository.save(UserFixture.customer("lot_fifo", "lot_fifo@test.com"));
+		pointService.adjustPoints(user.getId(), 1_000L, "첫 번째 적립");
+		pointService.adjustPoints(user.getId(), 2_000L, "두 번째 적립");
+
+		// when
+		pointService.usePoints(user.getId(), 1L, 1_500L);
+
+		// then
+		assertThat(lots(user.getId()))
+			.extracting(lot -> lot.get("REMAINING"), lot -> lot.get("STATUS"))
+			.containsExactly(tuple(0L, "EXHAUSTED"), tuple(1_500L, "ACTIVE"));
+	}
+
+	@Test
+	@DisplayName("만료 시각이 지난 lot의 남은 포인트만 소멸되고 이력이 남는다")
+	void expireRemainingOfExpiredLots() {
+		// given
+		User user = userRepository.save(UserFixture.customer("lot_expire", "lot_expire@test.com"));
+		pointService.adjustPoints(user.getId(), 3_000L, "만료될 적립");
+		pointService.usePoints(user.getId(), 2L, 1_000L);
+		jdbcTemplate.update("UPDATE point_lots SET expires_at = :expiresAt WHERE user_id = :userId",
+			Map.of("expiresAt", LocalDateTime.now().minusDays(1), "userId", user.getId()));
+		pointService.adjustPoints(user.getId(), 500L, "유효한 적립");
+
+		var now = LocalDateTime.now();
+		var lotIds = pointExpirationService.findExpired(now, LocalDateTime.of(1970, 1, 1, 0, 0), 0L, 100).stream()
+			.filter(lot -> lot.userId().equals(user.getId()))
+			.map(PointLotJdbcRepository.Lot::id)
+			.toList();
+
+		// when
+		var expired = pointExpirationService.expireChunk(lotIds, now);
+
+		// then
+		assertThat(expired.lots()).isEqualTo(1);
+		assertThat(expired.amount()).isEqualTo(2_000L);
+		assertThat(pointService.getAvailablePoints(user.getId())).isEqualTo(500L);
+		assertThat(jdbcTemplate.queryForMap(
+			"SELECT change_amount, remaining_points FROM point_histories WHERE user_id = :userId AND type = :type",
+			Map.of("userId", user.getId(), "type", PointHistoryType.EXPIRED.name())))
+			.containsEntry("CHANGE_AMOUNT", -2_000L)
+			.containsEntry("REMAINING_POINTS", 500L);
+		assertThat(pointExpirationService.expireChunk(lotIds, now).lots()).isZero();
+	}
+
+	@Test
+	@DisplayName("lot이 없던 포인트 잔액은 하나의 lot으로 이관된다")
+	void migrateUntrackedBalance() {
+		// given
+		User user = userRepository.save(UserFixture.customer("lot_migrate", "lot_migrate@test.com"));
+		Point point = new Point(user);
+		point.credit(5_000L);
+		pointRepository.save(point);
+
+		// when
+		var afterId = 0L;
+		PointExpirationService.Migrated result;
+		do {
+			result = pointExpirationService.migrateBatch(afterId, 100);
+			afterId = result.lastPointId();
+		} while (!result.done());
+
+		// then
+		assertThat(lots(user.getId()))
+			.extracting(lot -> lot.get("REMAINING"), lot -> lot.get("SOURCE_HISTORY_ID"))
+			.containsExactly(tuple(5_000L, 0L));
+	}
+
+	private List<Map<String, Object>> lots(Long userId) {
+		return jdbcTemplate.queryForList(
+			"SELECT remaining, status, source_history_id FROM point_lots WHERE user_id = :userId ORDER BY expires_at, id",
+			Map.of("userId", userId));
+	}
+}
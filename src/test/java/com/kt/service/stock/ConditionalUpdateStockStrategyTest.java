@@ -0,0 +1,77 @@
+package com.kt.service.stock;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.repository.product.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalUpdateStockStrategyTest {
+	@Mock
+	private ProductRepository productRepository;
+
+	@InjectMocks
+	private ConditionalUpdateStockStrategy stockStrategy;
+
+	@Test
+	void 재고_차감_성공() {
+		// given
+		given(productRepository.decreaseStockIfEnough(1L, 3L)).willReturn(1);
+
+		// when
+		stockStrategy.decrease(1L, 3L);
+
+		// then
+		verify(productRepository, never()).existsById(any());
+	}
+
+	@Test
+	void 재고_차감_실패__재고_부족() {
+		// given
+		given(productRepository.decreaseStockIfEnough(1L, 3L)).willReturn(0);
+		given(productRepository.existsById(1L)).willReturn(true);
+
+		// when & then
+		assertThatThrownBy(() -> stockStrategy.decrease(1L, 3L))
+				.isInstanceOf(CustomException.class)
+				.hasMessageContaining(ErrorCode.NOT_ENOUGH_STOCK.getMessage());
+	}
+
+	@Test
+	void 재고_차감_실패__상품_없음() {
+		// given
+		given(productRepository.decreaseStockIfEnough(1L, 3L)).willReturn(0);
+		given(productRepository.existsById(1L)).willReturn(false);
+
+		// when & then
+		assertThatThrownBy(() -> stockStrategy.decrease(1L, 3L))
+				.isInstanceOf(CustomException.class)
+				.hasMessageContaining(ErrorCode.NOT_FOUND_PRODUCT.getMessage());
+	}
+
+	@Test
+	void 일괄_차감__상품ID_순서로_갱신() {
+		// given
+		given(productRepository.decreaseStockIfEnough(anyLong(), anyLong())).willReturn(1);
+
+		// when
+		stockStrategy.decreaseAll(Map.of(3L, 1L, 1L, 2L, 2L, 5L));
+
+		// then
+		InOrder inOrder = inOrder(productRepository);
+		inOrder.verify(productRepository).decreaseStockIfEnough(1L, 2L);
+		inOrder.verify(productRepository).decreaseStockIfEnough(2L, 5L);
+		inOrder.verify(productRepository).decreaseStockIfEnough(3L, 1L);
+	}
+}
@@ -0,0 +1,168 @@
+package com.kt.service.stock;
+
+import static com.kt.support.fixture.ProductFixture.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.domain.product.Product;
+import com.kt.repository.product.ProductRepository;
+
+// 동기화 스케줄러가 테스트 중인 pending을 가져가지 않도록 별도 DB + 긴 동기화 주기 사용
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"spring.datasource.url=jdbc:h2:mem:redis-stock-test;MODE=MySQL",
+		"stock.strategy=redis",
+		"stock.redis.sync-interval-ms=3600000"
+	}
+)
+@DisplayName("RedisStockStrategy 테스트")
+class RedisStockStrategyTest {
+
+	@Autowired
+	private RedisStockStrategy redisStockStrategy;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private RedissonClient redissonClient;
+
+	private Long productId;
+
+	@BeforeEach
+	void setUp() {
+		productRepository.deleteAll();
+
+		productId = productRepository.save(product("상품", 10_000L, 10L, "상품 설명")).getId();
+		deleteKeys();
+	}
+
+	@AfterEach
+	void tearDown() {
+		deleteKeys();
+	}
+
+	@Test
+	@DisplayName("적재되지 않은 상품은 DB 재고로 적재한 뒤 차감하고 판매량을 pending에 쌓는다")
+	void decrease() {
+		// when
+		redisStockStrategy.decrease(productId, 3L);
+
+		// then
+		assertThat(available()).isEqualTo(7L);
+		assertThat(pending()).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("판매 가능 수량보다 많이 차감하면 재고 부족으로 실패하고 값은 그대로다")
+	void decreaseNotEnough() {
+		// given
+		redisStockStrategy.decrease(productId, 3L);
+
+		// when & then
+		assertThatThrownBy(() -> redisStockStrategy.decrease(productId, 8L))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(ErrorCode.NOT_ENOUGH_STOCK.getMessage());
+		assertThat(available()).isEqualTo(7L);
+		assertThat(pending()).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("복원하면 판매 가능 수량이 늘고 pending이 줄어든다")
+	void increase() {
+		// given
+		redisStockStrategy.decrease(productId, 3L);
+
+		// when
+		redisStockStrategy.increase(productId, 2L);
+
+		// then
+		assertThat(available()).isEqualTo(9L);
+		assertThat(pending()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("pending을 꺼내면 카운터가 비워지고, 되돌리면 다시 쌓인다")
+	void drainAndRestorePending() {
+		// given
+		redisStockStrategy.decrease(productId, 3L);
+
+		// when
+		var drained = redisStockStrategy.drainPending();
+
+		// then
+		assertThat(drained).containsEntry(productId, 3L);
+		assertThat(pending()).isZero();
+
+		// when
+		redisStockStrategy.restorePending(Map.of(productId, 3L));
+
+		// then
+		assertThat(pending()).isEqualTo(3L);
+		assertThat(available()).isEqualTo(7L);
+	}
+
+	@Test
+	@DisplayName("강제 재설정이 아니면 이미 적재된 값을 유지하고, 강제 재설정은 DB 재고에서 pending을 뺀 값으로 맞춘다")
+	void reconcile() {
+		// given
+		redisStockStrategy.decrease(productId, 3L);
+
+		// when
+		redisStockStrategy.reconcile(productId, 20L, false);
+
+		// then
+		assertThat(available()).isEqualTo(7L);
+
+		// when
+		redisStockStrategy.reconcile(productId, 20L, true);
+
+		// then
+		assertThat(available()).isEqualTo(17L);
+		assertThat(pending()).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("관리자 재고 수정은 동기화 락 안에서 다시 읽은 DB 재고로 재설정한다")
+	void refresh() {
+		// given
+		redisStockStrategy.decrease(productId, 3L);
+		Product product = productRepository.findByIdOrThrow(productId);
+		product.syncStock(20L);
+		productRepository.save(product);
+
+		// when
+		redisStockStrategy.refresh(productId, 20L);
+
+		// then
+		assertThat(available()).isEqualTo(17L);
+		assertThat(redissonClient.getLock(RedisStockStrategy.SYNC_LOCK_KEY).isLocked()).isFalse();
+	}
+
+	private long available() {
+		return redissonClient.getAtomicLong("stock:{" + productId + "}:available").get();
+	}
+
+	private long pending() {
+		return redissonClient.getAtomicLong("stock:{" + productId + "}:pending").get();
+	}
+
+	private void deleteKeys() {
+		redissonClient.getKeys().delete(
+			"stock:{" + productId + "}:available",
+			"stock:{" + productId + "}:pending"
+		);
+	}
+}
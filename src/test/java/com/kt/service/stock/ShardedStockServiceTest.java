@@ -0,0 +1,159 @@
+package com.kt.service.stock;
+
+import static com.kt.support.fixture.ProductFixture.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.domain.product.ProductStockShard;
+import com.kt.repository.product.ProductRepository;
+import com.kt.repository.product.ProductStockShardRepository;
+
+// 재분배 스케줄러가 테스트 중인 버킷을 건드리지 않도록 별도 DB + 긴 재분배 주기 사용
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"spring.datasource.url=jdbc:h2:mem:sharded-stock-test;MODE=MySQL",
+		"stock.shard.rebalance-interval-ms=3600000"
+	}
+)
+@DisplayName("ShardedStockService 테스트")
+class ShardedStockServiceTest {
+
+	@Autowired
+	private ShardedStockService shardedStockService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private ProductStockShardRepository productStockShardRepository;
+
+	private Long productId;
+
+	@BeforeEach
+	void setUp() {
+		productStockShardRepository.deleteAll();
+		productRepository.deleteAll();
+
+		productId = productRepository.save(product("상품", 10_000L, 10L, "상품 설명")).getId();
+	}
+
+	@Test
+	@DisplayName("분할 재고로 전환하면 현재 재고가 버킷에 균등 분배된다")
+	void enable() {
+		// when
+		shardedStockService.enable(productId, 3);
+
+		// then
+		assertThat(shardStocks()).containsExactly(4L, 3L, 3L);
+		assertThat(productRepository.findByIdOrThrow(productId).getStock()).isEqualTo(10L);
+	}
+
+	@Test
+	@DisplayName("이미 분할된 상품은 다시 전환할 수 없다")
+	void enableTwice() {
+		// given
+		shardedStockService.enable(productId, 3);
+
+		// when & then
+		assertThatThrownBy(() -> shardedStockService.enable(productId, 2))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(ErrorCode.ALREADY_SHARDED_STOCK.getMessage());
+		assertThat(shardStocks()).containsExactly(4L, 3L, 3L);
+	}
+
+	@Test
+	@DisplayName("한 버킷으로 감당할 수 있는 수량은 한 버킷에서만 차감된다")
+	void decreaseFromOneShard() {
+		// given
+		shardedStockService.enable(productId, 3);
+
+		// when
+		shardedStockService.decreaseAll(Map.of(productId, 3L));
+
+		// then
+		assertThat(shardStocks()).containsExactlyInAnyOrder(1L, 3L, 3L);
+	}
+
+	@Test
+	@DisplayName("한 버킷으로 감당할 수 없는 수량은 전체 버킷을 잠그고 나눠서 차감된다")
+	void decreaseAcrossShards() {
+		// given
+		shardedStockService.enable(productId, 3);
+
+		// when
+		shardedStockService.decreaseAll(Map.of(productId, 8L));
+
+		// then
+		assertThat(shardStocks().stream().mapToLong(Long::longValue).sum()).isEqualTo(2L);
+		assertThat(shardStocks()).allMatch(stock -> stock >= 0);
+	}
+
+	@Test
+	@DisplayName("버킷 합계보다 많이 차감하면 재고 부족으로 실패하고 버킷은 그대로다")
+	void decreaseNotEnough() {
+		// given
+		shardedStockService.enable(productId, 3);
+
+		// when & then
+		assertThatThrownBy(() -> shardedStockService.decreaseAll(Map.of(productId, 11L)))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(ErrorCode.NOT_ENOUGH_STOCK.getMessage());
+		assertThat(shardStocks()).containsExactly(4L, 3L, 3L);
+	}
+
+	@Test
+	@DisplayName("쏠린 버킷을 재분배하고 버킷 합계를 상품 재고에 반영한다")
+	void rebalance() {
+		// given
+		shardedStockService.enable(productId, 3);
+		shardedStockService.decreaseAll(Map.of(productId, 4L));
+
+		// when
+		shardedStockService.rebalance(productId);
+
+		// then
+		assertThat(shardStocks()).containsExactly(2L, 2L, 2L);
+		assertThat(productRepository.findByIdOrThrow(productId).getStock()).isEqualTo(6L);
+	}
+
+	@Test
+	@DisplayName("분할 재고를 해제하면 버킷 합계가 상품 재고가 되고 버킷은 삭제된다")
+	void disable() {
+		// given
+		shardedStockService.enable(productId, 3);
+		shardedStockService.decreaseAll(Map.of(productId, 8L));
+
+		// when
+		shardedStockService.disable(productId);
+
+		// then
+		assertThat(productStockShardRepository.findAllByProductIdOrderByShardNo(productId)).isEmpty();
+		assertThat(productRepository.findByIdOrThrow(productId).getStock()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("분할되지 않은 상품은 해제할 수 없다")
+	void disableNotSharded() {
+		// when & then
+		assertThatThrownBy(() -> shardedStockService.disable(productId))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(ErrorCode.NOT_SHARDED_STOCK.getMessage());
+	}
+
+	private List<Long> shardStocks() {
+		return productStockShardRepository.findAllByProductIdOrderByShardNo(productId).stream()
+			.map(ProductStockShard::getStock)
+			.toList();
+	}
+}
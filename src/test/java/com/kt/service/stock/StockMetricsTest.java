@@ -0,0 +1,59 @@
+package com.kt.service.stock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StockMetricsTest {
+	private SimpleMeterRegistry meterRegistry;
+	private StockMetrics stockMetrics;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		stockMetrics = new StockMetrics(meterRegistry);
+	}
+
+	@Test
+	void 성공_시_지연시간_기록() {
+		// when
+		stockMetrics.record("conditional", "decrease", () -> {
+		});
+
+		// then
+		assertThat(meterRegistry.get("stock.operation")
+				.tags("strategy", "conditional", "operation", "decrease", "outcome", "success")
+				.timer()
+				.count()).isEqualTo(1);
+	}
+
+	@Test
+	void 락_획득_실패_시_충돌_횟수_기록() {
+		// when & then
+		assertThatThrownBy(() -> stockMetrics.record("lock", "decrease", () -> {
+			throw new CustomException(ErrorCode.FAIL_ACQUIRED_LOCK);
+		})).isInstanceOf(CustomException.class);
+
+		assertThat(meterRegistry.get("stock.conflict")
+				.tags("strategy", "lock", "operation", "decrease")
+				.counter()
+				.count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void 재고_부족은_충돌로_집계하지_않음() {
+		// when & then
+		assertThatThrownBy(() -> stockMetrics.record("lock", "decrease", () -> {
+			throw new CustomException(ErrorCode.NOT_ENOUGH_STOCK);
+		})).isInstanceOf(CustomException.class);
+
+		assertThat(meterRegistry.get("stock.operation").tags("outcome", "insufficient").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.find("stock.conflict").counter()).isNull();
+	}
+}
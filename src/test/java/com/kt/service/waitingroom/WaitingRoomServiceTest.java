@@ -0,0 +1,77 @@
+package com.kt.service.waitingroom;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.kt.common.exception.CustomException;
+import com.kt.common.exception.ErrorCode;
+import com.kt.dto.order.WaitingRoomResponse;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("WaitingRoomService 테스트")
+class WaitingRoomServiceTest {
+	private static final Long PRODUCT_ID = 9_999L;
+
+	@Autowired
+	private WaitingRoomService waitingRoomService;
+
+	@AfterEach
+	void tearDown() {
+		waitingRoomService.close(PRODUCT_ID);
+	}
+
+	@Test
+	@DisplayName("대기열이 없는 상품은 바로 입장 상태가 된다")
+	void enterWithoutWaitingRoom() {
+		// when
+		var status = waitingRoomService.enter(PRODUCT_ID, 1L);
+
+		// then
+		assertThat(status.status()).isEqualTo(WaitingRoomResponse.AdmissionStatus.ADMITTED);
+	}
+
+	@Test
+	@DisplayName("대기열 등록 순서대로 순번이 부여되고, 재등록해도 순번이 유지된다")
+	void enterKeepsPosition() {
+		// given
+		waitingRoomService.open(PRODUCT_ID);
+
+		// when
+		var first = waitingRoomService.enter(PRODUCT_ID, 1L);
+		var second = waitingRoomService.enter(PRODUCT_ID, 2L);
+		var again = waitingRoomService.enter(PRODUCT_ID, 1L);
+
+		// then
+		assertThat(first.status()).isEqualTo(WaitingRoomResponse.AdmissionStatus.WAITING);
+		assertThat(first.position()).isEqualTo(1L);
+		assertThat(second.position()).isEqualTo(2L);
+		assertThat(again.position()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("입장 처리된 사용자만 대기열 상품을 주문할 수 있다")
+	void onlyAdmittedUserCanOrder() {
+		// given
+		waitingRoomService.open(PRODUCT_ID);
+		waitingRoomService.enter(PRODUCT_ID, 1L);
+
+		// when & then
+		assertThatThrownBy(() -> waitingRoomService.validateAdmitted(1L, List.of(PRODUCT_ID)))
+				.isInstanceOf(CustomException.class)
+				.hasMessageContaining(ErrorCode.NOT_ADMITTED_WAITING_ROOM.getMessage());
+
+		waitingRoomService.admit(PRODUCT_ID);
+
+		assertThat(waitingRoomService.status(PRODUCT_ID, 1L).status())
+				.isEqualTo(WaitingRoomResponse.AdmissionStatus.ADMITTED);
+		assertThatCode(() -> waitingRoomService.validateAdmitted(1L, List.of(PRODUCT_ID)))
+				.doesNotThrowAnyException();
+	}
+}
@@ -0,0 +1,150 @@
+package com.kt.stress;
+
+import static com.kt.support.fixture.ProductFixture.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import com.kt.domain.point.PointHistory;
+import com.kt.domain.user.Gender;
+import com.kt.domain.user.Role;
+import com.kt.domain.user.User;
+import com.kt.repository.cart.CartItemRepository;
+import com.kt.repository.point.PointHistoryRepository;
+import com.kt.repository.point.PointRepository;
+import com.kt.repository.product.ProductRepository;
+import com.kt.repository.user.UserRepository;
+import com.kt.service.CartService;
+import com.kt.service.PointService;
+import com.kt.service.StockService;
+import com.kt.support.stress.StressRunner;
+
+/**
+ * 동시성 스트레스 테스트
+ * <p>
+ * 여러 스레드가 동시에 같은 상품/사용자에 접근할 때 불변식이 깨지지 않는지 확인하고
+ * 처리량과 지연시간을 로그로 남깁니다. 기본 test 태스크에서는 제외되며 별도로 실행합니다.
+ * </p>
+ * <pre>
+ * ./gradlew stressTest
+ * ./gradlew stressTest -Dstress.workers=64 -Dstress.operations=50 -Dstock.strategy=conditional
+ * </pre>
+ */
+@Tag("stress")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("동시성 스트레스 테스트")
+class ConcurrencyStressTest {
+	private static final long POINTS_PER_USE = 1_000L;
+
+	@Autowired
+	private StockService stockService;
+
+	@Autowired
+	private PointService pointService;
+
+	@Autowired
+	private CartService cartService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PointRepository pointRepository;
+
+	@Autowired
+	private PointHistoryRepository pointHistoryRepository;
+
+	@Autowired
+	private CartItemRepository cartItemRepository;
+
+	@Test
+	@DisplayName("재고 차감: 재고가 음수가 되지 않고, 차감된 수량이 성공 건수와 같다")
+	void stockNeverGoesNegative() throws InterruptedException {
+		// given
+		var workers = StressRunner.workers();
+		var operations = StressRunner.operationsPerWorker();
+		var initialStock = (long)workers * operations / 2; // 절반은 재고 부족으로 실패하도록
+		var product = productRepository.save(product("스트레스 상품", 1_000L, initialStock, "설명"));
+
+		// when
+		var result = StressRunner.run("stock.decrease", workers, operations,
+				(workerId, sequence) -> stockService.decreaseStock(product.getId(), 1L));
+
+		// then
+		var stock = productRepository.findByIdOrThrow(product.getId()).getStock();
+		assertThat(stock).isGreaterThanOrEqualTo(0L);
+		assertThat(initialStock - stock).isEqualTo(result.succeeded());
+	}
+
+	@Test
+	@DisplayName("포인트 사용: 잔액이 음수가 되지 않고, 잔액이 이력 합계와 같다")
+	void pointBalanceMatchesHistories() throws InterruptedException {
+		// given
+		var workers = StressRunner.workers();
+		var operations = StressRunner.operationsPerWorker();
+		var user = userRepository.save(user("stress_point"));
+		var initialPoints = workers * operations / 2 * POINTS_PER_USE;
+		pointService.adjustPoints(user.getId(), initialPoints, "스트레스 테스트 초기 지급");
+
+		// when
+		var result = StressRunner.run("point.use", workers, operations,
+				(workerId, sequence) -> pointService.usePoints(
+						user.getId(), (long)workerId * operations + sequence, POINTS_PER_USE));
+
+		// then
+		var balance = pointRepository.findByUserIdOrThrow(user.getId()).getAvailablePoints();
+		var historySum = pointHistoryRepository.findByUserId(user.getId(), PageRequest.of(0, Integer.MAX_VALUE))
+				.stream()
+				.mapToLong(PointHistory::getChangeAmount)
+				.sum();
+
+		assertThat(balance).isGreaterThanOrEqualTo(0L);
+		assertThat(balance).isEqualTo(historySum);
+		assertThat(initialPoints - balance).isEqualTo(result.succeeded() * POINTS_PER_USE);
+	}
+
+	@Test
+	@DisplayName("장바구니 담기: 같은 사용자/상품은 한 행만 생기고, 수량이 성공 건수와 같다")
+	void cartKeepsSingleRowPerUserAndProduct() throws InterruptedException {
+		// given
+		var workers = StressRunner.workers();
+		var operations = StressRunner.operationsPerWorker();
+		var user = userRepository.save(user("stress_cart"));
+		var product = productRepository.save(product("스트레스 장바구니 상품", 1_000L, 1_000_000L, "설명"));
+
+		// when
+		var result = StressRunner.run("cart.add", workers, operations,
+				(workerId, sequence) -> cartService.add(user.getId(), product.getId(), 1L));
+
+		// then
+		var items = cartItemRepository.findAllByUserIdOrderByUpdatedAtDesc(user.getId());
+		assertThat(items).hasSize(1);
+		assertThat(items.getFirst().getQuantity()).isEqualTo(result.succeeded());
+	}
+
+	private User user(String loginId) {
+		return new User(
+				loginId,
+				"Password1234!",
+				"스트레스 테스트",
+				loginId + "@stress.test",
+				"010-0000-0000",
+				Gender.MALE,
+				LocalDate.now(),
+				LocalDateTime.now(),
+				LocalDateTime.now(),
+				Role.CUSTOMER
+		);
+	}
+}
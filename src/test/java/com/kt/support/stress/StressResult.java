@@ -0,0 +1,68 @@
+package com.kt.support.stress;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.kt.common.exception.CustomException;
+
+/**
+ * 스트레스 실행 결과
+ *
+ * @param succeeded 성공 건수
+ * @param failures 실패 사유별 건수
+ * @param elapsedNanos 전체 소요 시간
+ * @param sortedLatencies 작업별 지연시간(ns), 오름차순
+ */
+public record StressResult(
+		String name,
+		int workers,
+		long succeeded,
+		Map<String, Long> failures,
+		long elapsedNanos,
+		long[] sortedLatencies
+) {
+	static StressResult of(String name, int workers, long succeeded, Map<String, LongAdder> failures,
+			long elapsedNanos, long[] latencies, int count) {
+		var sorted = Arrays.copyOf(latencies, count);
+		Arrays.sort(sorted);
+
+		Map<String, Long> failureCounts = new TreeMap<>();
+		failures.forEach((reason, adder) -> failureCounts.put(reason, adder.sum()));
+
+		return new StressResult(name, workers, succeeded, failureCounts, elapsedNanos, sorted);
+	}
+
+	static String failureName(Exception e) {
+		return e instanceof CustomException ce ? ce.getErrorCode().name() : e.getClass().getSimpleName();
+	}
+
+	public long total() {
+		return sortedLatencies.length;
+	}
+
+	public double opsPerSecond() {
+		return total() / (elapsedNanos / 1_000_000_000.0);
+	}
+
+	/**
+	 * @param percentile 0 ~ 100
+	 * @return 지연시간(ms)
+	 */
+	public double latencyMillis(double percentile) {
+		if (sortedLatencies.length == 0) {
+			return 0;
+		}
+
+		var index = (int)Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+		return sortedLatencies[Math.max(0, index)] / (double)TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	public String report() {
+		return String.format(
+				"[stress] %s - workers: %d, total: %d, succeeded: %d, failures: %s, %.1f ops/sec, p50: %.2fms, p99: %.2fms",
+				name, workers, total(), succeeded, failures, opsPerSecond(), latencyMillis(50), latencyMillis(99));
+	}
+}
@@ -0,0 +1,99 @@
+package com.kt.support.stress;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 동시성 스트레스 실행기
+ * <p>
+ * workers개 스레드를 동시에 출발시켜 각각 operationsPerWorker번 작업을 수행하고,
+ * 성공/실패 건수와 처리량(ops/sec), p50/p99 지연시간을 집계합니다.
+ * 실패는 예외 타입(CustomException은 ErrorCode)별로 분류됩니다.
+ * </p>
+ */
+public final class StressRunner {
+	private static final Logger log = LoggerFactory.getLogger(StressRunner.class);
+
+	private StressRunner() {
+	}
+
+	/**
+	 * 시스템 프로퍼티 stress.workers (기본 32)
+	 */
+	public static int workers() {
+		return Integer.getInteger("stress.workers", 32);
+	}
+
+	/**
+	 * 시스템 프로퍼티 stress.operations (기본 20)
+	 */
+	public static int operationsPerWorker() {
+		return Integer.getInteger("stress.operations", 20);
+	}
+
+	public static StressResult run(String name, int workers, int operationsPerWorker, Operation operation)
+			throws InterruptedException {
+		var total = workers * operationsPerWorker;
+		var latencies = new long[total];
+		var index = new AtomicInteger();
+		var succeeded = new LongAdder();
+		Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+		var ready = new CountDownLatch(workers);
+		var start = new CountDownLatch(1);
+		var done = new CountDownLatch(workers);
+
+		ExecutorService executor = Executors.newFixedThreadPool(workers);
+		for (int worker = 0; worker < workers; worker++) {
+			var workerId = worker;
+			executor.submit(() -> {
+				ready.countDown();
+				try {
+					start.await();
+					for (int sequence = 0; sequence < operationsPerWorker; sequence++) {
+						var startedAt = System.nanoTime();
+						try {
+							operation.run(workerId, sequence);
+							succeeded.increment();
+						} catch (Exception e) {
+							failures.computeIfAbsent(StressResult.failureName(e), key -> new LongAdder()).increment();
+						} finally {
+							latencies[index.getAndIncrement()] = System.nanoTime() - startedAt;
+						}
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		ready.await();
+		var startedAt = System.nanoTime();
+		start.countDown();
+		done.await();
+		var elapsedNanos = System.nanoTime() - startedAt;
+
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+
+		var result = StressResult.of(name, workers, succeeded.sum(), failures, elapsedNanos, latencies, index.get());
+		log.info(result.report());
+		return result;
+	}
+
+	@FunctionalInterface
+	public interface Operation {
+		void run(int workerId, int sequence) throws Exception;
+	}
+}